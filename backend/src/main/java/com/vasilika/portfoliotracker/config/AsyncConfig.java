@@ -0,0 +1,22 @@
+package com.vasilika.portfoliotracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * =========================================
+ * Async Configuration
+ * =========================================
+ *
+ * Enables @Async methods.
+ *
+ * They run on Spring Boot's applicationTaskExecutor, which
+ * switches to virtual threads in the "virtual-threads" profile.
+ *
+ * Used for:
+ * - Topping up the demo sandbox pool right after a claim
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
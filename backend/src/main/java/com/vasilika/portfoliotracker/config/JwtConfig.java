@@ -2,6 +2,9 @@ package com.vasilika.portfoliotracker.config;
 
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.vasilika.portfoliotracker.security.CachingJwtDecoder;
+import com.vasilika.portfoliotracker.security.VerifiedJwtCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -77,13 +80,18 @@ public class JwtConfig {
      *
      * Used automatically by Spring Security when
      * a request contains an Authorization: Bearer <token> header.
+     *
+     * Wrapped in a verified-token cache: each distinct token is
+     * signature-checked once and reused until its "exp".
      */
     @Bean
-    public JwtDecoder jwtDecoder(SecretKey jwtSecretKey) {
+    public JwtDecoder jwtDecoder(SecretKey jwtSecretKey, VerifiedJwtCache verifiedJwtCache, MeterRegistry meterRegistry) {
 
-        return NimbusJwtDecoder
+        NimbusJwtDecoder nimbus = NimbusJwtDecoder
                 .withSecretKey(jwtSecretKey)
                 .build();
+
+        return new CachingJwtDecoder(nimbus, verifiedJwtCache, meterRegistry);
     }
 
     /**
@@ -0,0 +1,99 @@
+package com.vasilika.portfoliotracker.config;
+
+import com.vasilika.portfoliotracker.metrics.CountingDataSource;
+import com.vasilika.portfoliotracker.metrics.SqlStatementBudgets;
+import com.vasilika.portfoliotracker.metrics.SqlStatementMetricsFilter;
+import com.vasilika.portfoliotracker.security.VerifiedJwtCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * =========================================
+ * Metrics Configuration
+ * =========================================
+ *
+ * Application metrics on top of Spring Boot Actuator, exported at
+ * /actuator/prometheus on the management port.
+ *
+ * Provided by Boot (see application.yml "management"):
+ * - http.server.requests       latency per route template
+ * - hikaricp.connections.*     pool usage and acquire (wait) time
+ * - hibernate.*                Hibernate statistics
+ * - app.service / app.demo.seed  @Timed service methods (class + method tags)
+ *
+ * Added here:
+ * - app.http.sql.statements    SQL statements per request (route template tag)
+ * - app.http.sql.budget.exceeded  requests over their sql-budgets.conf budget
+ * - app.security.jwt.cache.*   verified-token cache hits / misses / size
+ *   (app.security.jwt.decode is timed in CachingJwtDecoder)
+ *
+ * SQL counting can be switched off with app.metrics.sql-statements.enabled=false.
+ * Budget and N+1 warnings are tuned with app.metrics.sql-statements.default-budget
+ * and app.metrics.sql-statements.n-plus-one-threshold.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Wraps the pooled DataSource so every executed statement is counted.
+     * Static: post-processors must not depend on the config instance.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.sql-statements.enabled", matchIfMissing = true)
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(ds);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.sql-statements.enabled", matchIfMissing = true)
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(
+            MeterRegistry registry,
+            @Value("${app.metrics.sql-statements.default-budget:20}") int defaultBudget,
+            @Value("${app.metrics.sql-statements.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementMetricsFilter(registry, SqlStatementBudgets.load(), defaultBudget, nPlusOneThreshold));
+        // Every route listed in sql-budgets.conf, /health included
+        registration.addUrlPatterns("/api/*", "/admin/*", "/demo/*", "/auth/*", "/health");
+        return registration;
+    }
+
+    /**
+     * Exposes VerifiedJwtCache.Stats (already kept for /admin/cache/jwt).
+     */
+    @Bean
+    public MeterBinder verifiedJwtCacheMetrics(VerifiedJwtCache cache) {
+        return registry -> {
+            FunctionCounter.builder("app.security.jwt.cache.requests", cache, c -> c.stats().hits())
+                    .description("Bearer tokens served from the verified-token cache")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("app.security.jwt.cache.requests", cache, c -> c.stats().misses())
+                    .description("Bearer tokens that needed signature verification")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("app.security.jwt.cache.rejected", cache, c -> c.stats().rejected())
+                    .description("Verified tokens not cached because the cache was full")
+                    .register(registry);
+            Gauge.builder("app.security.jwt.cache.size", cache, c -> c.stats().size())
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.vasilika.portfoliotracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * =========================================
+ * Scheduling Configuration
+ * =========================================
+ *
+ * Enables @Scheduled background jobs.
+ *
+ * Used for:
+ * - Refilling the demo sandbox pool
+ * - Sweeping expired demo sandboxes
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
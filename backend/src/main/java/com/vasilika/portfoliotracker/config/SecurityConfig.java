@@ -1,11 +1,12 @@
 package com.vasilika.portfoliotracker.config;
 
+import com.vasilika.portfoliotracker.security.CachingJwtAuthenticationConverter;
+import com.vasilika.portfoliotracker.security.VerifiedJwtCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -47,7 +48,8 @@ public class SecurityConfig {
      * - JWT validation
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CachingJwtAuthenticationConverter jwtAuthConverter) throws Exception {
         System.out.println("DEMO LOGIN PERMIT ALL ACTIVE");
         http
                 /**
@@ -94,6 +96,9 @@ public class SecurityConfig {
                         // Health endpoint (used by Render / deployment platforms)
                         .requestMatchers(HttpMethod.GET, "/health").permitAll()
 
+                        // Actuator: only served on the management port, which is not routed publicly
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+
                         // Login endpoint (no auth required)
                         .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
 
@@ -150,7 +155,7 @@ public class SecurityConfig {
                  */
                 .oauth2ResourceServer(oauth ->
                         oauth.jwt(jwt ->
-                                jwt.jwtAuthenticationConverter(jwtAuthConverter())
+                                jwt.jwtAuthenticationConverter(jwtAuthConverter)
                         )
                 )
 
@@ -181,9 +186,11 @@ public class SecurityConfig {
      * This enables:
      *   hasRole("ADMIN")
      *   hasRole("DEMO")
+     *
+     * Authorities of cached tokens are converted once (VerifiedJwtCache).
      */
     @Bean
-    public JwtAuthenticationConverter jwtAuthConverter() {
+    public CachingJwtAuthenticationConverter jwtAuthConverter(VerifiedJwtCache verifiedJwtCache) {
 
         JwtGrantedAuthoritiesConverter gac = new JwtGrantedAuthoritiesConverter();
 
@@ -193,9 +200,6 @@ public class SecurityConfig {
         // Spring requires ROLE_ prefix internally
         gac.setAuthorityPrefix("ROLE_");
 
-        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(gac);
-
-        return converter;
+        return new CachingJwtAuthenticationConverter(gac, verifiedJwtCache);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.vasilika.portfoliotracker.domain;
 
+import com.vasilika.portfoliotracker.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -33,6 +34,7 @@ import java.util.UUID;
 public class PlanningItem {
 
     @Id
+    @TimeOrderedId
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -1,5 +1,6 @@
 package com.vasilika.portfoliotracker.domain;
 
+import com.vasilika.portfoliotracker.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -18,9 +19,10 @@ public class Project {
 
     /**
      * Primary key (UUID).
-     * Generated manually in @PrePersist to stay database-agnostic.
+     * Time-ordered UUIDv7, generated on persist (see UuidV7).
      */
     @Id
+    @TimeOrderedId
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -29,7 +31,8 @@ public class Project {
      * Used for clean URLs and lookups instead of exposing UUIDs.
      * IMPORTANT:
      *  - Slug is NOT globally unique anymore.
-     *  - Uniqueness is enforced by DB as (demo, slug).
+     *  - Uniqueness is enforced by DB per tenant:
+     *    real projects by slug, demo projects by (sandbox_id, slug).
      */
     @Column(nullable = false, length = 120)
     private String slug;
@@ -86,13 +89,10 @@ public class Project {
 
     /**
      * Lifecycle hook executed before the entity is persisted.
-     * Initializes UUID and timestamps.
+     * Initializes timestamps.
      */
     @PrePersist
     void onCreate() {
-        if (id == null) {
-            id = UUID.randomUUID();
-        }
         createdAt = Instant.now();
         updatedAt = createdAt;
     }
@@ -118,6 +118,17 @@ public class Project {
     public boolean isDemo() { return demo; }
     public void setDemo(boolean demo) { this.demo = demo; }
 
+    /**
+     * Demo sandbox that owns this project.
+     * - null for real portfolio projects
+     * - set for demo projects (one sandbox per demo login)
+     */
+    @Column(name = "sandbox_id", columnDefinition = "uuid")
+    private UUID sandboxId;
+
+    public UUID getSandboxId() { return sandboxId; }
+    public void setSandboxId(UUID sandboxId) { this.sandboxId = sandboxId; }
+
     // ===== Getters & Setters =====
 
     public UUID getId() { return id; }
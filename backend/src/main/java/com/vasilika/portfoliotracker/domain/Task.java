@@ -2,6 +2,9 @@ package com.vasilika.portfoliotracker.domain;
 
 import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
 import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.domain.id.TimeOrderedId;
+import com.vasilika.portfoliotracker.repo.ProjectCountersListener;
+import com.vasilika.portfoliotracker.service.query.TaskTitleIndexListener;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -24,6 +27,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "tasks")
+@EntityListeners({ProjectCountersListener.class, TaskTitleIndexListener.class})
 public class Task {
 
     /**
@@ -31,6 +35,7 @@ public class Task {
      * Stored as UUID for scalability and distributed systems.
      */
     @Id
+    @TimeOrderedId
     @Column(columnDefinition = "uuid", nullable = false, updatable = false)
     private UUID id;
 
@@ -70,6 +75,17 @@ public class Task {
     @Column(nullable = false, length = 20)
     private TaskStatus status;
 
+    /**
+     * Kanban column order derived from status
+     * (BACKLOG=1, IN_PROGRESS=2, DONE=3).
+     *
+     * Persisted so (project_id, status_rank, created_at, id)
+     * can be served straight from an index, without sorting.
+     * Always kept in sync by setStatus().
+     */
+    @Column(name = "status_rank", nullable = false)
+    private short statusRank;
+
     /**
      * Configurable task type code.
      * Examples: FEATURE, BUG, REFACTOR, CHORE, DOCUMENTATION
@@ -108,6 +124,13 @@ public class Task {
 
 
 
+    /**
+     * Counter bucket this task is currently counted in.
+     * Not persisted; maintained by ProjectCountersListener.
+     */
+    @Transient
+    private TaskCounterKey countedKey;
+
     // ===== Getters and Setters =====
 
     public UUID getId() { return id; }
@@ -123,7 +146,12 @@ public class Task {
     public void setDescription(String description) { this.description = description; }
 
     public TaskStatus getStatus() { return status; }
-    public void setStatus(TaskStatus status) { this.status = status; }
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        this.statusRank = status != null ? status.rank() : 0;
+    }
+
+    public short getStatusRank() { return statusRank; }
 
     public String getType() { return type; }
     public void setType(String type) {  this.type = type != null ? type.trim().toUpperCase() : null; }
@@ -139,4 +167,7 @@ public class Task {
 
     public Instant getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public TaskCounterKey getCountedKey() { return countedKey; }
+    public void setCountedKey(TaskCounterKey countedKey) { this.countedKey = countedKey; }
 }
\ No newline at end of file
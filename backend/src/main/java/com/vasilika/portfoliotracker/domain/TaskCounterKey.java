@@ -0,0 +1,17 @@
+package com.vasilika.portfoliotracker.domain;
+
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+
+/**
+ * Counter bucket a task falls into: (status, type, priority).
+ *
+ * Used to move a task between buckets of project_task_counters
+ * when one of these fields changes.
+ */
+public record TaskCounterKey(TaskStatus status, String type, TaskPriority priority) {
+
+    public static TaskCounterKey of(Task t) {
+        return new TaskCounterKey(t.getStatus(), t.getType(), t.getPriority());
+    }
+}
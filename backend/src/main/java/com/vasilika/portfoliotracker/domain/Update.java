@@ -1,5 +1,7 @@
 package com.vasilika.portfoliotracker.domain;
 
+import com.vasilika.portfoliotracker.domain.id.TimeOrderedId;
+import com.vasilika.portfoliotracker.repo.ProjectCountersListener;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -18,12 +20,14 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "updates")
+@EntityListeners(ProjectCountersListener.class)
 public class Update {
 
     /**
      * Unique identifier for the update.
      */
     @Id
+    @TimeOrderedId
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -63,6 +67,28 @@ public class Update {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    /**
+     * Timestamp of the last change.
+     * Part of the project version stamp used for ETags.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Lifecycle hooks: keep updatedAt current.
+     */
+    @PrePersist
+    void onCreate() {
+        if (updatedAt == null) {
+            updatedAt = createdAt != null ? createdAt : Instant.now();
+        }
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
     // ===== Getters and Setters =====
 
     public UUID getId() {
@@ -112,4 +138,12 @@ public class Update {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.vasilika.portfoliotracker.domain;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Cheap version of a public resource, used for conditional GETs.
+ *
+ * lastModified: newest created_at / updated_at behind the resource
+ * itemCount:    number of rows behind it, so deletes change the stamp too
+ */
+public record VersionStamp(Instant lastModified, long itemCount) {
+
+    /**
+     * Weak ETag: the same version may be sent plain or compressed.
+     */
+    public String etag() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, lastModified);
+        return "W/\"" + Long.toHexString(micros) + "-" + Long.toHexString(itemCount) + "\"";
+    }
+}
@@ -1,5 +1,19 @@
 package com.vasilika.portfoliotracker.domain.enums;
 
 public enum TaskStatus {
-    BACKLOG, IN_PROGRESS, DONE
+    BACKLOG(1), IN_PROGRESS(2), DONE(3);
+
+    /**
+     * Kanban column order, persisted as tasks.status_rank
+     * so boards can be read in index order.
+     */
+    private final short rank;
+
+    TaskStatus(int rank) {
+        this.rank = (short) rank;
+    }
+
+    public short rank() {
+        return rank;
+    }
 }
@@ -1,5 +1,6 @@
 package com.vasilika.portfoliotracker.domain.enums;
 
+import com.vasilika.portfoliotracker.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -27,6 +28,7 @@ import java.util.UUID;
 public class TaskTypeOption {
 
     @Id
+    @TimeOrderedId
     @Column(columnDefinition = "uuid", nullable = false, updatable = false)
     private UUID id;
 
@@ -67,10 +69,6 @@ public class TaskTypeOption {
     public void onCreate() {
         Instant now = Instant.now();
 
-        if (id == null) {
-            id = UUID.randomUUID();
-        }
-
         if (createdAt == null) {
             createdAt = now;
         }
@@ -0,0 +1,22 @@
+package com.vasilika.portfoliotracker.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID @Id as generated by {@link UuidV7Generator}.
+ *
+ * Usage:
+ *   @Id
+ *   @TimeOrderedId
+ *   private UUID id;
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
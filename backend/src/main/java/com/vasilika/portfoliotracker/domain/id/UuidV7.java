@@ -0,0 +1,72 @@
+package com.vasilika.portfoliotracker.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * =========================================
+ * UUIDv7 (RFC 9562) generator
+ * =========================================
+ *
+ * Time-ordered UUIDs for primary keys.
+ *
+ * Layout:
+ * - 48 bits  Unix epoch milliseconds
+ * -  4 bits  version (7)
+ * - 12 bits  counter within the millisecond (RFC 9562 "method 1")
+ * -  2 bits  variant (10)
+ * - 62 bits  random
+ *
+ * Why not UUID.randomUUID()?
+ * - v4 ids land on random B-tree pages, so every insert touches
+ *   a cold page and splits leave pages half empty
+ * - v7 ids arrive in (roughly) ascending order and append to the
+ *   right-most leaf, like a sequence
+ *
+ * Monotonic: ids from this JVM never go backwards, even within
+ * one millisecond or when the wall clock steps back. If 4096 ids are
+ * created in the same millisecond, the counter carries into the timestamp.
+ */
+public final class UuidV7 {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_62_BITS = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /**
+     * Last issued (millis << 12 | counter).
+     */
+    private static final AtomicLong last = new AtomicLong();
+
+    private UuidV7() {}
+
+    /**
+     * Returns the next time-ordered UUID. Lock-free, safe across threads.
+     */
+    public static UUID next() {
+        long stamp = nextStamp(System.currentTimeMillis());
+
+        long msb = ((stamp >>> 12) << 16) | VERSION_7 | (stamp & 0xFFF);
+        long lsb = (ThreadLocalRandom.current().nextLong() & RANDOM_62_BITS) | VARIANT_RFC;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Millisecond timestamp encoded in a v7 UUID.
+     */
+    public static long timestampMillis(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextStamp(long nowMillis) {
+        long candidate = nowMillis << 12;
+        while (true) {
+            long prev = last.get();
+            long next = candidate > prev ? candidate : prev + 1;
+            if (last.compareAndSet(prev, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * =========================================
+ * SQL Statement Budgets
+ * =========================================
+ *
+ * Maximum SQL statements per request, by endpoint, read from the
+ * checked-in classpath file sql-budgets.conf:
+ *
+ *   # METHOD  ROUTE-TEMPLATE                     BUDGET
+ *   GET       /api/projects/{slug}               5
+ *
+ * Used by:
+ * - SqlStatementMetricsFilter (logs requests over budget)
+ * - SqlStatementBudgetExtension (fails tests over budget)
+ */
+public final class SqlStatementBudgets {
+
+    public static final String RESOURCE = "sql-budgets.conf";
+
+    private final Map<String, Integer> budgets;
+
+    private SqlStatementBudgets(Map<String, Integer> budgets) {
+        this.budgets = budgets;
+    }
+
+    /**
+     * Loads {@link #RESOURCE} from the classpath.
+     */
+    public static SqlStatementBudgets load() {
+        InputStream in = SqlStatementBudgets.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null) {
+            throw new IllegalStateException("Missing classpath resource " + RESOURCE);
+        }
+
+        Map<String, Integer> budgets = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                int hash = line.indexOf('#');
+                String content = (hash >= 0 ? line.substring(0, hash) : line).trim();
+                if (content.isEmpty()) continue;
+
+                String[] parts = content.split("\\s+");
+                if (parts.length != 3) {
+                    throw new IllegalStateException(RESOURCE + ":" + lineNo + ": expected METHOD URI BUDGET");
+                }
+                budgets.put(key(parts[0], parts[1]), Integer.parseInt(parts[2]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SqlStatementBudgets(Map.copyOf(budgets));
+    }
+
+    /**
+     * Budget of one endpoint, if it has one.
+     */
+    public OptionalInt find(String method, String uriTemplate) {
+        Integer budget = budgets.get(key(method, uriTemplate));
+        return budget == null ? OptionalInt.empty() : OptionalInt.of(budget);
+    }
+
+    /**
+     * Budget of one endpoint, e.g. "GET /api/projects/{slug}".
+     */
+    public OptionalInt find(String endpoint) {
+        String[] parts = endpoint.trim().split("\\s+");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected \"METHOD /route\": " + endpoint);
+        }
+        return find(parts[0], parts[1]);
+    }
+
+    public int size() {
+        return budgets.size();
+    }
+
+    private static String key(String method, String uriTemplate) {
+        return method.toUpperCase(Locale.ROOT) + " " + uriTemplate;
+    }
+}
@@ -0,0 +1,134 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * =========================================
+ * SQL Statement Counter
+ * =========================================
+ *
+ * Counts JDBC statements executed by the current thread while a scope is open.
+ *
+ * Usage:
+ *   try (var scope = SqlStatementCounter.open(() -> "GET /api/projects")) {
+ *       ... handle the request ...
+ *       scope.statements();
+ *       scope.repeated(5);   // same SQL run 5+ times => likely N+1
+ *   }
+ *
+ * Statements are reported by CountingDataSource, so JPA, JdbcTemplate
+ * and batch inserts are all included. One executeBatch() is one statement
+ * (one round trip), however many rows it carries.
+ *
+ * Every statement is tagged with the innermost scope's label: set
+ * logging.level.com.vasilika.portfoliotracker.metrics.SqlStatementCounter=DEBUG
+ * to log "[GET /api/projects/{slug}] select ..." lines.
+ *
+ * Scopes nest: a statement counts for every open scope on the thread.
+ * Work handed to other threads (@Async, executors) is not counted.
+ */
+public final class SqlStatementCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCounter.class);
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * One SQL string and how often it ran in a scope.
+     */
+    public record Repeat(String sql, int count) {}
+
+    private SqlStatementCounter() {}
+
+    /**
+     * Opens an unlabelled scope on the current thread. Must be closed on the same thread.
+     */
+    public static Scope open() {
+        return open(null);
+    }
+
+    /**
+     * Opens a scope whose label (e.g. "GET /api/projects/{slug}") tags its statements.
+     * The label is only evaluated for debug logging and reports.
+     */
+    public static Scope open(Supplier<String> label) {
+        Scope scope = new Scope(CURRENT.get(), label);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Called by CountingDataSource for every executed statement.
+     */
+    static void record(String sql) {
+        Scope current = CURRENT.get();
+        if (current == null) return;
+
+        if (log.isDebugEnabled()) {
+            log.debug("[{}] {}", current.label(), sql);
+        }
+        for (Scope s = current; s != null; s = s.parent) {
+            s.statements++;
+            s.bySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Statements counted between open() and close().
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Supplier<String> label;
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int statements;
+
+        private Scope(Scope parent, Supplier<String> label) {
+            this.parent = parent;
+            this.label = label;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        /**
+         * Label of this scope, or of the nearest labelled parent.
+         */
+        public String label() {
+            for (Scope s = this; s != null; s = s.parent) {
+                if (s.label != null) return s.label.get();
+            }
+            return "-";
+        }
+
+        /**
+         * Statements that ran at least {@code threshold} times, most frequent first.
+         */
+        public List<Repeat> repeated(int threshold) {
+            List<Repeat> repeats = new ArrayList<>();
+            bySql.forEach((sql, count) -> {
+                if (count >= threshold) repeats.add(new Repeat(sql, count));
+            });
+            repeats.sort(Comparator.comparingInt(Repeat::count).reversed());
+            return repeats;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
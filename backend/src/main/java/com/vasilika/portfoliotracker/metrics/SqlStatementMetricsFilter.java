@@ -0,0 +1,108 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Counts the SQL statements of each request and checks them against its budget.
+ *
+ * Metrics:
+ * - app.http.sql.statements       distribution summary per request
+ * - app.http.sql.budget.exceeded  requests over their sql-budgets.conf budget
+ * Tags: method, uri
+ *
+ * uri is the matched route template (e.g. /api/projects/{slug}),
+ * never the raw path, so slugs and ids do not create new series.
+ * Requests that matched no handler are tagged UNKNOWN.
+ *
+ * Logged as warnings:
+ * - requests over budget (endpoints without a budget use the default)
+ * - the same SQL run n-plus-one-threshold times or more (likely N+1)
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    static final String METRIC = "app.http.sql.statements";
+    static final String EXCEEDED_METRIC = "app.http.sql.budget.exceeded";
+
+    private final MeterRegistry registry;
+    private final SqlStatementBudgets budgets;
+    private final int defaultBudget;
+    private final int nPlusOneThreshold;
+
+    public SqlStatementMetricsFilter(MeterRegistry registry, SqlStatementBudgets budgets,
+                                     int defaultBudget, int nPlusOneThreshold) {
+        this.registry = registry;
+        this.budgets = budgets;
+        this.defaultBudget = defaultBudget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(
+                () -> request.getMethod() + " " + uriTemplate(request))) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                check(request, scope);
+            }
+        }
+    }
+
+    private void check(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        String method = request.getMethod();
+        String uri = uriTemplate(request);
+        int statements = scope.statements();
+
+        DistributionSummary.builder(METRIC)
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(statements);
+
+        int budget = budgets.find(method, uri).orElse(defaultBudget);
+        if (statements > budget) {
+            Counter.builder(EXCEEDED_METRIC)
+                    .description("Requests that ran more SQL statements than their budget")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            log.warn("SQL budget exceeded: {} {} ran {} statements (budget {})", method, uri, statements, budget);
+        }
+
+        List<SqlStatementCounter.Repeat> repeats = scope.repeated(nPlusOneThreshold);
+        if (!repeats.isEmpty()) {
+            SqlStatementCounter.Repeat top = repeats.get(0);
+            log.warn("Possible N+1 in {} {}: {} statements ran {}+ times, top {}x: {}",
+                    method, uri, repeats.size(), nPlusOneThreshold, top.count(), top.sql());
+        }
+    }
+
+    /**
+     * Route template set by Spring MVC once a handler matched.
+     */
+    static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,128 @@
+package com.vasilika.portfoliotracker.repo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Demo Sandbox Clone Repository
+ * =========================================
+ *
+ * Set-based copy of the real portfolio into the demo sandbox.
+ *
+ * Why plain SQL instead of JPA?
+ * - Saving one entity per row costs one round trip per task/update
+ * - INSERT ... SELECT copies a whole portfolio in a single statement,
+ *   no matter how many tasks or updates it contains
+ *
+ * How ids are remapped:
+ * - project_map / task_map generate one new UUID per source row in SQL
+ * - CTEs are materialized once, so every join sees the same new id
+ * - updates.task_id is rewritten by joining through task_map
+ * - project counters and stats rows are copied alongside, since JPA
+ *   listeners do not see rows inserted with plain SQL
+ *
+ * NOTE:
+ * - Column lists must stay in sync with the Flyway schema.
+ */
+@Repository
+public class DemoSandboxCloneRepository {
+
+    /**
+     * Removes every project of one sandbox in one statement.
+     * Tasks, updates and planning items follow through ON DELETE CASCADE.
+     */
+    private static final String DELETE_SANDBOX_PROJECTS = """
+            DELETE FROM projects WHERE sandbox_id = ?
+            """;
+
+    /**
+     * Copies all real projects, their tasks and their updates
+     * into one demo sandbox in a single round trip.
+     */
+    private static final String CLONE_PORTFOLIO = """
+            WITH project_map AS (
+                SELECT p.id AS old_id, uuid_generate_v7() AS new_id
+                FROM projects p
+                WHERE p.demo = false
+            ),
+            task_map AS (
+                SELECT t.id AS old_id, uuid_generate_v7() AS new_id
+                FROM tasks t
+                JOIN project_map pm ON pm.old_id = t.project_id
+            ),
+            inserted_projects AS (
+                INSERT INTO projects (id, demo, sandbox_id, slug, name, summary, description, tech_stack,
+                                      repo_url, live_url, created_at, updated_at)
+                SELECT pm.new_id, true, ?, p.slug, p.name, p.summary, p.description, p.tech_stack,
+                       p.repo_url, p.live_url, p.created_at, p.updated_at
+                FROM projects p
+                JOIN project_map pm ON pm.old_id = p.id
+                RETURNING id
+            ),
+            inserted_tasks AS (
+                INSERT INTO tasks (id, project_id, title, description, status, status_rank, type,
+                                   priority, target_version, created_at, updated_at)
+                SELECT tm.new_id, pm.new_id, t.title, t.description, t.status, t.status_rank, t.type,
+                       t.priority, t.target_version, t.created_at, t.updated_at
+                FROM tasks t
+                JOIN task_map tm ON tm.old_id = t.id
+                JOIN project_map pm ON pm.old_id = t.project_id
+                RETURNING id
+            ),
+            inserted_task_counters AS (
+                INSERT INTO project_task_counters (project_id, status, type, priority, task_count)
+                SELECT pm.new_id, c.status, c.type, c.priority, c.task_count
+                FROM project_task_counters c
+                JOIN project_map pm ON pm.old_id = c.project_id
+                RETURNING project_id
+            ),
+            inserted_update_counters AS (
+                INSERT INTO project_update_counters (project_id, update_count)
+                SELECT pm.new_id, c.update_count
+                FROM project_update_counters c
+                JOIN project_map pm ON pm.old_id = c.project_id
+                RETURNING project_id
+            ),
+            inserted_stats AS (
+                INSERT INTO project_stats (project_id, task_count, open_count, done_count, status_counts,
+                                           type_counts, priority_counts, update_count, last_activity_at)
+                SELECT pm.new_id, s.task_count, s.open_count, s.done_count, s.status_counts,
+                       s.type_counts, s.priority_counts, s.update_count, s.last_activity_at
+                FROM project_stats s
+                JOIN project_map pm ON pm.old_id = s.project_id
+                RETURNING project_id
+            )
+            INSERT INTO updates (id, project_id, task_id, title, body, created_at, updated_at)
+            SELECT uuid_generate_v7(), pm.new_id, tm.new_id, u.title, u.body, u.created_at, u.updated_at
+            FROM updates u
+            JOIN project_map pm ON pm.old_id = u.project_id
+            LEFT JOIN task_map tm ON tm.old_id = u.task_id
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public DemoSandboxCloneRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Deletes all projects of a sandbox (and their children via cascade).
+     *
+     * @return number of demo projects removed
+     */
+    public int deleteSandboxProjects(UUID sandboxId) {
+        return jdbc.update(DELETE_SANDBOX_PROJECTS, sandboxId);
+    }
+
+    /**
+     * Clones the real portfolio into the given sandbox.
+     *
+     * @return number of updates copied (the final INSERT's row count)
+     */
+    public int clonePortfolioIntoSandbox(UUID sandboxId) {
+        return jdbc.update(CLONE_PORTFOLIO, sandboxId);
+    }
+}
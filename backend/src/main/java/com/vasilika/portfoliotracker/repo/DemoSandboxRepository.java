@@ -0,0 +1,109 @@
+package com.vasilika.portfoliotracker.repo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Demo Sandbox Repository
+ * =========================================
+ *
+ * Bookkeeping for the demo sandbox pool (demo_sandboxes table).
+ *
+ * Lifecycle of one sandbox:
+ *   READY    -> seeded in the background, waiting for a login
+ *   CLAIMED  -> handed to one demo token, expires with it
+ *   (deleted) -> sweeper removes it, cascade removes its projects
+ *
+ * Plain SQL is used because the claim query relies on
+ * FOR UPDATE SKIP LOCKED so concurrent logins never wait on each other.
+ */
+@Repository
+public class DemoSandboxRepository {
+
+    public static final String READY = "READY";
+    public static final String CLAIMED = "CLAIMED";
+
+    private final JdbcTemplate jdbc;
+
+    public DemoSandboxRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Registers a new sandbox with the given status.
+     */
+    public void insert(UUID id, String status, Instant now, Instant expiresAt) {
+        jdbc.update("""
+                INSERT INTO demo_sandboxes (id, status, created_at, claimed_at, expires_at)
+                VALUES (?, ?, ?, ?, ?)
+                """,
+                id, status, Timestamp.from(now),
+                CLAIMED.equals(status) ? Timestamp.from(now) : null,
+                expiresAt == null ? null : Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Atomically claims the oldest READY sandbox.
+     *
+     * SKIP LOCKED lets concurrent logins each grab a different row
+     * instead of queueing behind the same one.
+     */
+    public Optional<UUID> claimOldestReady(Instant now, Instant expiresAt) {
+        List<UUID> ids = jdbc.queryForList("""
+                UPDATE demo_sandboxes
+                SET status = 'CLAIMED', claimed_at = ?, expires_at = ?
+                WHERE id = (
+                    SELECT id FROM demo_sandboxes
+                    WHERE status = 'READY'
+                    ORDER BY created_at
+                    LIMIT 1
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id
+                """,
+                UUID.class, Timestamp.from(now), Timestamp.from(expiresAt));
+
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * Number of sandboxes waiting in the pool.
+     */
+    public int countReady() {
+        Integer count = jdbc.queryForObject(
+                "SELECT count(*) FROM demo_sandboxes WHERE status = 'READY'", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Deletes up to {@code batchSize} sandboxes that expired or went stale.
+     *
+     * - CLAIMED sandboxes expire together with their token
+     * - READY sandboxes older than {@code readyCutoff} are dropped so new
+     *   logins do not get a copy of an outdated portfolio
+     *
+     * Small batches keep each cascade delete short.
+     *
+     * @return number of sandboxes removed
+     */
+    public int deleteExpiredBatch(Instant now, Instant readyCutoff, int batchSize) {
+        return jdbc.update("""
+                DELETE FROM demo_sandboxes
+                WHERE id IN (
+                    SELECT id FROM demo_sandboxes
+                    WHERE (status = 'CLAIMED' AND expires_at < ?)
+                       OR (status = 'READY' AND created_at < ?)
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                """,
+                Timestamp.from(now), Timestamp.from(readyCutoff), batchSize);
+    }
+}
@@ -2,6 +2,8 @@ package com.vasilika.portfoliotracker.repo;
 
 import com.vasilika.portfoliotracker.domain.PlanningItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,6 +18,39 @@ public interface PlanningItemRepository extends JpaRepository<PlanningItem, UUID
      */
     List<PlanningItem> findByProject_IdOrderBySortOrderAscCreatedAtAsc(UUID projectId);
 
+    /**
+     * Planning board as shown to users: queue order, DONE tasks left out.
+     *
+     * One query whatever the board size: the task is fetched in the
+     * same row (PlanningItemMapper reads it) and DONE is filtered in SQL.
+     * Empty when the project does not exist or has no open items.
+     */
+    @Query("""
+      select pi from PlanningItem pi
+      join fetch pi.task t
+      where pi.project.id = :projectId
+        and t.status <> com.vasilika.portfoliotracker.domain.enums.TaskStatus.DONE
+      order by pi.sortOrder asc, pi.createdAt asc
+    """)
+    List<PlanningItem> findOpenBoard(@Param("projectId") UUID projectId);
+
+    /**
+     * Same as findOpenBoard, limited to a demo project of the given sandbox,
+     * so the ownership check does not need its own query.
+     */
+    @Query("""
+      select pi from PlanningItem pi
+      join fetch pi.task t
+      join pi.project p
+      where p.id = :projectId
+        and p.demo = true
+        and p.sandboxId = :sandboxId
+        and t.status <> com.vasilika.portfoliotracker.domain.enums.TaskStatus.DONE
+      order by pi.sortOrder asc, pi.createdAt asc
+    """)
+    List<PlanningItem> findOpenSandboxBoard(@Param("projectId") UUID projectId,
+                                            @Param("sandboxId") UUID sandboxId);
+
     /**
      * Deletes all planning items for one project.
      */
@@ -0,0 +1,80 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.TaskCounterKey;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Counter changes collected over one transaction (or one batch),
+ * merged per bucket and per project.
+ *
+ * Written in ONE statement by {@link ProjectCounterRepository#apply}:
+ * ten task edits in the same bucket are a single +10, a task moved
+ * back and forth nets to zero.
+ *
+ * Not thread-safe: one instance belongs to one transaction.
+ */
+public final class ProjectCounterDeltas {
+
+    record TaskBucket(UUID projectId, TaskCounterKey key) {}
+
+    private final Map<TaskBucket, Integer> tasks = new LinkedHashMap<>();
+    private final Map<UUID, Integer> updates = new LinkedHashMap<>();
+    private final Set<UUID> projects = new LinkedHashSet<>();
+
+    /**
+     * Adds {@code delta} tasks to one (status, type, priority) bucket.
+     */
+    public void addTasks(UUID projectId, TaskCounterKey key, int delta) {
+        tasks.merge(new TaskBucket(projectId, key), delta, Integer::sum);
+        projects.add(projectId);
+    }
+
+    /**
+     * Adds {@code delta} to the update counter of a project.
+     */
+    public void addUpdates(UUID projectId, int delta) {
+        updates.merge(projectId, delta, Integer::sum);
+        projects.add(projectId);
+    }
+
+    /**
+     * Moves the project's last activity to now (edits that change no count).
+     */
+    public void touch(UUID projectId) {
+        projects.add(projectId);
+    }
+
+    public boolean isEmpty() {
+        return projects.isEmpty();
+    }
+
+    /**
+     * Non-zero task deltas.
+     */
+    Map<TaskBucket, Integer> tasks() {
+        Map<TaskBucket, Integer> nonZero = new LinkedHashMap<>(tasks);
+        nonZero.values().removeIf(delta -> delta == 0);
+        return nonZero;
+    }
+
+    /**
+     * Non-zero update deltas.
+     */
+    Map<UUID, Integer> updates() {
+        Map<UUID, Integer> nonZero = new LinkedHashMap<>(updates);
+        nonZero.values().removeIf(delta -> delta == 0);
+        return nonZero;
+    }
+
+    /**
+     * Every project that was written to, with or without a count change.
+     */
+    Set<UUID> projects() {
+        return projects;
+    }
+}
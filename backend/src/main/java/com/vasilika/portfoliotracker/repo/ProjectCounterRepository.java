@@ -0,0 +1,271 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Project Counter Repository
+ * =========================================
+ *
+ * Per-project item counters (project_task_counters, project_update_counters)
+ * and the project_stats row derived from them.
+ *
+ * Purpose:
+ * - Paged endpoints read totals from here instead of running count(*)
+ * - GET /api/projects/{slug}/stats reads one project_stats row
+ * - Counters move by the deltas of each transaction
+ *   (see ProjectCountersListener, ProjectCounterDeltas)
+ *
+ * All deltas of a transaction are ONE statement ({@link #apply}):
+ * the bucket and update counter upserts run as data-modifying CTEs
+ * of the project_stats upsert, whatever the number of rows written.
+ */
+@Repository
+public class ProjectCounterRepository {
+
+    /**
+     * Applies one transaction's deltas.
+     * - %1$s / %2$s / %3$s: rows of task deltas, update deltas, written projects
+     * - %4$s..%9$s: jsonb count expressions (deltaCounts / mergedCounts)
+     *
+     * Projects deleted in the same transaction drop out at "touched"
+     * (their counters are gone with them). jsonb counts are merged
+     * key by key: existing value + delta.
+     */
+    private static final String APPLY = """
+            WITH task_delta (project_id, status, type, priority, delta) AS (
+                %1$s
+            ),
+            update_delta (project_id, delta) AS (
+                %2$s
+            ),
+            touched (project_id) AS (
+                SELECT p.id FROM projects p
+                WHERE p.id IN (SELECT CAST(v.id AS uuid) FROM (VALUES %3$s) AS v (id))
+            ),
+            bucket AS (
+                INSERT INTO project_task_counters (project_id, status, type, priority, task_count)
+                SELECT d.project_id, d.status, d.type, d.priority, d.delta
+                FROM task_delta d
+                JOIN touched t ON t.project_id = d.project_id
+                ON CONFLICT (project_id, status, type, priority)
+                DO UPDATE SET task_count = project_task_counters.task_count + EXCLUDED.task_count
+            ),
+            update_counter AS (
+                INSERT INTO project_update_counters (project_id, update_count)
+                SELECT d.project_id, d.delta
+                FROM update_delta d
+                JOIN touched t ON t.project_id = d.project_id
+                ON CONFLICT (project_id)
+                DO UPDATE SET update_count = project_update_counters.update_count + EXCLUDED.update_count
+            ),
+            task_total AS (
+                SELECT project_id,
+                       sum(delta) AS task_count,
+                       coalesce(sum(delta) FILTER (WHERE status <> 'DONE'), 0) AS open_count,
+                       coalesce(sum(delta) FILTER (WHERE status = 'DONE'), 0) AS done_count
+                FROM task_delta
+                GROUP BY project_id
+            )
+            INSERT INTO project_stats AS s (project_id, task_count, open_count, done_count,
+                                            status_counts, type_counts, priority_counts,
+                                            update_count, last_activity_at)
+            SELECT t.project_id,
+                   coalesce(tt.task_count, 0), coalesce(tt.open_count, 0), coalesce(tt.done_count, 0),
+                   %4$s,
+                   %5$s,
+                   %6$s,
+                   coalesce(ud.delta, 0),
+                   now()
+            FROM touched t
+            LEFT JOIN task_total tt ON tt.project_id = t.project_id
+            LEFT JOIN update_delta ud ON ud.project_id = t.project_id
+            ON CONFLICT (project_id) DO UPDATE SET
+                task_count = s.task_count + EXCLUDED.task_count,
+                open_count = s.open_count + EXCLUDED.open_count,
+                done_count = s.done_count + EXCLUDED.done_count,
+                status_counts = %7$s,
+                type_counts = %8$s,
+                priority_counts = %9$s,
+                update_count = s.update_count + EXCLUDED.update_count,
+                last_activity_at = now()
+            """;
+
+    /**
+     * Recomputes every counter of one project from its rows
+     * (same aggregates as the V13 backfill).
+     */
+    private static final String REBUILD_TASK_COUNTERS = """
+            INSERT INTO project_task_counters (project_id, status, type, priority, task_count)
+            SELECT project_id, status, type, priority, count(*)
+            FROM tasks
+            WHERE project_id = ?
+            GROUP BY project_id, status, type, priority
+            """;
+
+    private static final String REBUILD_UPDATE_COUNTERS = """
+            INSERT INTO project_update_counters (project_id, update_count)
+            SELECT ?, count(*) FROM updates WHERE project_id = ?
+            ON CONFLICT (project_id) DO UPDATE SET update_count = EXCLUDED.update_count
+            """;
+
+    private static final String REBUILD_STATS = """
+            INSERT INTO project_stats (project_id, task_count, open_count, done_count,
+                                       status_counts, type_counts, priority_counts,
+                                       update_count, last_activity_at)
+            SELECT p.id,
+                   (SELECT count(*) FROM tasks t WHERE t.project_id = p.id),
+                   (SELECT count(*) FROM tasks t WHERE t.project_id = p.id AND t.status <> 'DONE'),
+                   (SELECT count(*) FROM tasks t WHERE t.project_id = p.id AND t.status = 'DONE'),
+                   coalesce((SELECT jsonb_object_agg(x.status, x.n)
+                             FROM (SELECT status, count(*) AS n FROM tasks
+                                   WHERE project_id = p.id GROUP BY status) x), '{}'::jsonb),
+                   coalesce((SELECT jsonb_object_agg(x.type, x.n)
+                             FROM (SELECT type, count(*) AS n FROM tasks
+                                   WHERE project_id = p.id GROUP BY type) x), '{}'::jsonb),
+                   coalesce((SELECT jsonb_object_agg(x.priority, x.n)
+                             FROM (SELECT priority, count(*) AS n FROM tasks
+                                   WHERE project_id = p.id GROUP BY priority) x), '{}'::jsonb),
+                   (SELECT count(*) FROM updates u WHERE u.project_id = p.id),
+                   greatest((SELECT max(t.updated_at) FROM tasks t WHERE t.project_id = p.id),
+                            (SELECT max(u.updated_at) FROM updates u WHERE u.project_id = p.id))
+            FROM projects p
+            WHERE p.id = ?
+            ON CONFLICT (project_id) DO UPDATE SET
+                task_count = EXCLUDED.task_count,
+                open_count = EXCLUDED.open_count,
+                done_count = EXCLUDED.done_count,
+                status_counts = EXCLUDED.status_counts,
+                type_counts = EXCLUDED.type_counts,
+                priority_counts = EXCLUDED.priority_counts,
+                update_count = EXCLUDED.update_count,
+                last_activity_at = EXCLUDED.last_activity_at
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public ProjectCounterRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Writes the deltas of one transaction (or batch): counters and
+     * project_stats rows, created on first use. One statement.
+     */
+    public void apply(ProjectCounterDeltas deltas) {
+        if (deltas.isEmpty()) return;
+        List<Object> args = new ArrayList<>();
+
+        Map<ProjectCounterDeltas.TaskBucket, Integer> taskDeltas = deltas.tasks();
+        String taskRows = "SELECT CAST(NULL AS uuid), CAST(NULL AS varchar), CAST(NULL AS varchar), "
+                + "CAST(NULL AS varchar), 0 WHERE false";
+        if (!taskDeltas.isEmpty()) {
+            taskRows = "VALUES " + String.join(", ", Collections.nCopies(taskDeltas.size(),
+                    "(CAST(? AS uuid), CAST(? AS varchar), CAST(? AS varchar), CAST(? AS varchar), CAST(? AS integer))"));
+            taskDeltas.forEach((bucket, delta) -> {
+                args.add(bucket.projectId());
+                args.add(bucket.key().status().name());
+                args.add(bucket.key().type());
+                args.add(bucket.key().priority().name());
+                args.add(delta);
+            });
+        }
+
+        Map<UUID, Integer> updateDeltas = deltas.updates();
+        String updateRows = "SELECT CAST(NULL AS uuid), 0 WHERE false";
+        if (!updateDeltas.isEmpty()) {
+            updateRows = "VALUES " + String.join(", ", Collections.nCopies(updateDeltas.size(),
+                    "(CAST(? AS uuid), CAST(? AS integer))"));
+            updateDeltas.forEach((projectId, delta) -> {
+                args.add(projectId);
+                args.add(delta);
+            });
+        }
+
+        String projectRows = String.join(", ", Collections.nCopies(deltas.projects().size(), "(?)"));
+        args.addAll(deltas.projects());
+
+        String sql = APPLY.formatted(taskRows, updateRows, projectRows,
+                deltaCounts("status"), deltaCounts("type"), deltaCounts("priority"),
+                mergedCounts("status_counts"), mergedCounts("type_counts"), mergedCounts("priority_counts"));
+        jdbc.update(sql, args.toArray());
+    }
+
+    /**
+     * {column: delta} of one touched project, e.g. {"DONE": 2, "BACKLOG": -2}.
+     */
+    private static String deltaCounts(String column) {
+        return """
+                coalesce((SELECT jsonb_object_agg(x.k, x.n)
+                          FROM (SELECT d.%1$s AS k, sum(d.delta) AS n FROM task_delta d
+                                WHERE d.project_id = t.project_id GROUP BY d.%1$s) x), '{}'::jsonb)"""
+                .formatted(column);
+    }
+
+    /**
+     * Existing jsonb counts with every key of the proposed row added on top.
+     */
+    private static String mergedCounts(String column) {
+        return """
+                s.%1$s || coalesce((SELECT jsonb_object_agg(e.key, coalesce((s.%1$s ->> e.key)::int, 0) + e.value::int)
+                                      FROM jsonb_each_text(EXCLUDED.%1$s) e), '{}'::jsonb)"""
+                .formatted(column);
+    }
+
+    /**
+     * Recomputes the counters and stats row of one project from its rows.
+     * For rows written without JPA listeners (see ProjectRestoreRepository).
+     */
+    public void rebuild(UUID projectId) {
+        jdbc.update("DELETE FROM project_task_counters WHERE project_id = ?", projectId);
+        jdbc.update(REBUILD_TASK_COUNTERS, projectId);
+        jdbc.update(REBUILD_UPDATE_COUNTERS, projectId, projectId);
+        jdbc.update(REBUILD_STATS, projectId);
+    }
+
+    /**
+     * Number of tasks matching the optional filters.
+     * Reads at most (statuses x types x priorities) small rows.
+     */
+    public long countTasks(UUID projectId, TaskStatus status, String type, TaskPriority priority) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT coalesce(sum(task_count), 0) FROM project_task_counters WHERE project_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(projectId);
+
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (type != null) {
+            sql.append(" AND type = ?");
+            args.add(type);
+        }
+        if (priority != null) {
+            sql.append(" AND priority = ?");
+            args.add(priority.name());
+        }
+
+        Long total = jdbc.queryForObject(sql.toString(), Long.class, args.toArray());
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * Number of updates in a project.
+     */
+    public long countUpdates(UUID projectId) {
+        List<Long> rows = jdbc.queryForList(
+                "SELECT update_count FROM project_update_counters WHERE project_id = ?",
+                Long.class, projectId);
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+}
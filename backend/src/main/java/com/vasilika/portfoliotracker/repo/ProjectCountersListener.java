@@ -0,0 +1,200 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.TaskCounterKey;
+import com.vasilika.portfoliotracker.domain.Update;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * =========================================
+ * Project Counters Listener
+ * =========================================
+ *
+ * JPA entity listener that keeps project counters and the project_stats
+ * row in sync with every Task and Update write, whichever controller
+ * or service did it.
+ *
+ * Events only add to the transaction's ProjectCounterDeltas; nothing
+ * is written per entity. Before commit, pending entity changes are
+ * flushed (so their events are in) and the deltas are written with
+ * ONE statement (ProjectCounterRepository.apply), in the same
+ * transaction as the entity changes. Counter rows are also locked
+ * only for that last moment, not from the first write on.
+ *
+ * The Post* events fire at flush time, and with UUIDv7 ids (generated
+ * before execution) the only flush is often the one inside the commit,
+ * after every beforeCommit callback. So the deltas and their
+ * beforeCommit hook are set up earlier, as soon as the transaction
+ * loads, persists or removes a Task / Update (@PostLoad, @PrePersist,
+ * @PreRemove): every entity that can be flushed went through one of them.
+ *
+ * Outside a transaction, or for an event nothing was set up for,
+ * the change is written right away (still in the same transaction).
+ *
+ * Rows inserted with plain SQL (demo sandbox clone) copy their
+ * counters in SQL as well.
+ */
+public class ProjectCountersListener {
+
+    // Shared by the Task and Update listener instances of a transaction
+    private static final Object DELTAS_KEY = new Object();
+
+    private final ProjectCounterRepository counters;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public ProjectCountersListener(ProjectCounterRepository counters,
+                                   ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.counters = counters;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Remember which bucket a loaded task is counted in.
+     */
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof Task t) {
+            t.setCountedKey(TaskCounterKey.of(t));
+        }
+        // A loaded entity may be changed and flushed at commit
+        collectDeltas();
+    }
+
+    @PrePersist
+    public void beforePersist(Object entity) {
+        collectDeltas();
+    }
+
+    @PreRemove
+    public void beforeRemove(Object entity) {
+        collectDeltas();
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Task t) {
+            TaskCounterKey key = TaskCounterKey.of(t);
+            record(d -> d.addTasks(t.getProject().getId(), key, +1));
+            t.setCountedKey(key);
+        } else if (entity instanceof Update u) {
+            record(d -> d.addUpdates(u.getProject().getId(), +1));
+        }
+    }
+
+    /**
+     * Moves a task to another bucket when status, type or priority changed.
+     * Any other edit only moves the project's last activity.
+     */
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof Task t) {
+            UUID projectId = t.getProject().getId();
+            TaskCounterKey before = t.getCountedKey();
+            TaskCounterKey after = TaskCounterKey.of(t);
+
+            if (before != null && !before.equals(after)) {
+                record(d -> {
+                    d.addTasks(projectId, before, -1);
+                    d.addTasks(projectId, after, +1);
+                });
+            } else {
+                record(d -> d.touch(projectId));
+            }
+            t.setCountedKey(after);
+        } else if (entity instanceof Update u) {
+            record(d -> d.touch(u.getProject().getId()));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Task t) {
+            TaskCounterKey key = t.getCountedKey() != null ? t.getCountedKey() : TaskCounterKey.of(t);
+            record(d -> d.addTasks(t.getProject().getId(), key, -1));
+        } else if (entity instanceof Update u) {
+            record(d -> d.addUpdates(u.getProject().getId(), -1));
+        }
+    }
+
+    /**
+     * Binds the transaction's deltas and registers their beforeCommit
+     * write, once per transaction. Does nothing without a transaction.
+     */
+    private void collectDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(DELTAS_KEY)) {
+            return;
+        }
+        ProjectCounterDeltas deltas = new ProjectCounterDeltas();
+        TransactionSynchronizationManager.bindResource(DELTAS_KEY, deltas);
+        TransactionSynchronizationManager.registerSynchronization(new WriteBeforeCommit(deltas));
+    }
+
+    /**
+     * Adds a change to the current transaction's deltas,
+     * or writes it at once when none are being collected.
+     */
+    private void record(Consumer<ProjectCounterDeltas> change) {
+        ProjectCounterDeltas deltas = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (ProjectCounterDeltas) TransactionSynchronizationManager.getResource(DELTAS_KEY)
+                : null;
+
+        if (deltas == null) {
+            // Never dropped: no transaction, or a flush after beforeCommit already ran
+            ProjectCounterDeltas single = new ProjectCounterDeltas();
+            change.accept(single);
+            counters.apply(single);
+            return;
+        }
+        change.accept(deltas);
+    }
+
+    private final class WriteBeforeCommit implements TransactionSynchronization {
+
+        private final ProjectCounterDeltas deltas;
+
+        WriteBeforeCommit(ProjectCounterDeltas deltas) {
+            this.deltas = deltas;
+        }
+
+        // A REQUIRES_NEW transaction collects its own deltas
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DELTAS_KEY);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(DELTAS_KEY, deltas);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // The commit would flush after this callback: flush first so every event is counted
+            EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject());
+            if (em != null && !readOnly) em.flush();
+
+            TransactionSynchronizationManager.unbindResourceIfPossible(DELTAS_KEY);
+            counters.apply(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DELTAS_KEY);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.PlanningItem;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.Update;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * =========================================
+ * Project Export Repository
+ * =========================================
+ *
+ * Cursor-style reads for the streaming exports.
+ *
+ * Rows are fetched app.export.fetch-size at a time (PostgreSQL only
+ * honours a fetch size inside a transaction), so a project of any size
+ * never sits in memory as one result list.
+ *
+ * Callers must:
+ * - consume the streams inside a (read-only) transaction
+ * - close them (try-with-resources)
+ * - detach each entity once written, see {@link #detach(Object)}
+ */
+@Repository
+public class ProjectExportRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final int fetchSize;
+
+    public ProjectExportRepository(@Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Ids of the real portfolio projects (demo excluded), oldest first.
+     */
+    public List<UUID> findPublicProjectIds() {
+        return em.createQuery("""
+                        select p.id from Project p
+                        where p.demo = false
+                        order by p.createdAt, p.id
+                        """, UUID.class)
+                .getResultList();
+    }
+
+    public Project findProject(UUID projectId) {
+        return em.find(Project.class, projectId);
+    }
+
+    /**
+     * Tasks of one project in Kanban order (idx_tasks_project_rank_created_id).
+     */
+    public Stream<Task> streamTasks(UUID projectId) {
+        return em.createQuery("""
+                        select t from Task t
+                        where t.project.id = :projectId
+                        order by t.statusRank, t.createdAt, t.id
+                        """, Task.class)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * Updates of one project, oldest first. The linked task is fetched
+     * in the same row (the export shows its title).
+     */
+    public Stream<Update> streamUpdates(UUID projectId) {
+        return em.createQuery("""
+                        select u from Update u
+                        left join fetch u.task
+                        where u.project.id = :projectId
+                        order by u.createdAt, u.id
+                        """, Update.class)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * Planning board of one project in queue order, DONE tasks included
+     * (the export is a backup, not the board view). Tasks are fetched
+     * in the same row (PlanningItemDto carries their fields).
+     */
+    public Stream<PlanningItem> streamPlanning(UUID projectId) {
+        return em.createQuery("""
+                        select pi from PlanningItem pi
+                        join fetch pi.task
+                        where pi.project.id = :projectId
+                        order by pi.sortOrder, pi.createdAt
+                        """, PlanningItem.class)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * Drops an entity from the persistence context so exported rows
+     * do not pile up for the rest of the transaction.
+     */
+    public void detach(Object entity) {
+        em.detach(entity);
+    }
+}
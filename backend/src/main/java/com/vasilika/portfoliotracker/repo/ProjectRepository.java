@@ -1,8 +1,13 @@
 package com.vasilika.portfoliotracker.repo;
 
 import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,9 +35,62 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
         boolean existsBySlugAndDemo(String slug, boolean demo);
         Optional<Project> findBySlugAndDemo(String slug, boolean demo);
 
+        // Per-login demo sandbox
+        boolean existsBySlugAndSandboxId(String slug, UUID sandboxId);
+        Optional<Project> findBySlugAndSandboxId(String slug, UUID sandboxId);
+        List<Project> findAllBySandboxIdOrderByCreatedAtDesc(UUID sandboxId);
+
         // Public listing should return only NON-demo projects
         List<Project> findAllByDemoFalseOrderByCreatedAtDesc();
 
+        /*
+         * List cards (ProjectSummaryDto) are read as projections:
+         * only the card columns are selected, never description or the links.
+         */
+
+        @Query("""
+          select new com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto(
+                   p.id, p.slug, p.name, p.summary, p.techStack, p.createdAt, p.updatedAt)
+          from Project p
+          where p.demo = false
+          order by p.createdAt desc
+        """)
+        List<ProjectSummaryDto> findPublicSummaries();
+
+        // Public listing, keyset paged by (createdAt, id), newest first.
+        // The row-value cursor predicate is an index range on idx_projects_public_created_at_id.
+        @Query("""
+          select new com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto(
+                   p.id, p.slug, p.name, p.summary, p.techStack, p.createdAt, p.updatedAt)
+          from Project p
+          where p.demo = false
+          order by p.createdAt desc, p.id desc
+        """)
+        List<ProjectSummaryDto> findPublicFirstPage(Pageable limit);
+
+        @Query("""
+          select new com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto(
+                   p.id, p.slug, p.name, p.summary, p.techStack, p.createdAt, p.updatedAt)
+          from Project p
+          where p.demo = false
+            and (p.createdAt, p.id) < (:createdAt, :id)
+          order by p.createdAt desc, p.id desc
+        """)
+        List<ProjectSummaryDto> findPublicAfter(
+                @Param("createdAt") Instant createdAt,
+                @Param("id") UUID id,
+                Pageable limit
+        );
+
+        @Query("""
+          select new com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto(
+                   p.id, p.slug, p.name, p.summary, p.techStack, p.createdAt, p.updatedAt)
+          from Project p
+          where p.sandboxId = :sandboxId
+          order by p.createdAt desc
+        """)
+        List<ProjectSummaryDto> findSandboxSummaries(@Param("sandboxId") UUID sandboxId);
+
         // Demo listing
         List<Project> findAllByDemoTrueOrderByCreatedAtDesc();
 
@@ -0,0 +1,266 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Project Restore Repository
+ * =========================================
+ *
+ * Writes restored archives with PostgreSQL COPY (pgjdbc CopyManager API).
+ *
+ * Why COPY?
+ * - Rows are streamed to the server in one command per table run,
+ *   no per-row statement, bind or round trip
+ * - Faster than JDBC batches (TaskBatchRepository) once a restore
+ *   reaches thousands of rows
+ *
+ * A {@link Session} works on the connection of the current transaction,
+ * so COPY rows and plain SQL (projects, counters) commit or roll back
+ * together. Only one COPY can be open per connection: the session ends
+ * it before switching table or running plain SQL.
+ *
+ * NOTE:
+ * - Rows must already be validated (see ProjectRestoreService)
+ * - JPA listeners do not see these rows, counters and stats are
+ *   rebuilt with {@link Session#rebuildCounters(UUID)}
+ * - COPY runs on the unwrapped driver connection, so it is not
+ *   counted by the SQL statement metrics
+ * - Column lists must stay in sync with the Flyway schema
+ */
+@Repository
+public class ProjectRestoreRepository {
+
+    private static final String COPY_TASKS = """
+            COPY tasks (id, project_id, title, description, status, status_rank, type,
+                        priority, target_version, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_UPDATES = """
+            COPY updates (id, project_id, task_id, title, body, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_PLANNING_ITEMS = """
+            COPY planning_items (id, project_id, task_id, sort_order, is_current, created_at, updated_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final ProjectCounterRepository counters;
+    private final int bufferSize;
+
+    public ProjectRestoreRepository(
+            DataSource dataSource,
+            JdbcTemplate jdbc,
+            ProjectCounterRepository counters,
+            @Value("${app.restore.copy-buffer-size:65536}") int bufferSize) {
+        this.dataSource = dataSource;
+        this.jdbc = jdbc;
+        this.counters = counters;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Opens a session on the transaction's connection.
+     * Must be called inside a transaction and closed by the caller.
+     */
+    public Session open() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return new Session(connection, connection.unwrap(PGConnection.class));
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw new DataAccessResourceFailureException("COPY needs a PostgreSQL connection", e);
+        }
+    }
+
+    /**
+     * One restore: at most one COPY open at a time, plain SQL in between.
+     */
+    public final class Session implements AutoCloseable {
+
+        private final Connection connection;
+        private final PGConnection pg;
+
+        private String copySql;
+        private PGCopyOutputStream copy;
+        private Writer out;
+
+        private Session(Connection connection, PGConnection pg) {
+            this.connection = connection;
+            this.pg = pg;
+        }
+
+        /**
+         * True when a real (non-demo) project already uses the slug.
+         */
+        public boolean publicSlugExists(String slug) {
+            endCopy();
+            return Boolean.TRUE.equals(jdbc.queryForObject(
+                    "SELECT exists(SELECT 1 FROM projects WHERE slug = ? AND demo = false)",
+                    Boolean.class, slug));
+        }
+
+        /**
+         * Deletes a real project by slug (tasks, updates, board and counters cascade).
+         *
+         * @return ids of the deleted rows (empty or one)
+         */
+        public List<UUID> deletePublicProject(String slug) {
+            endCopy();
+            return jdbc.queryForList(
+                    "DELETE FROM projects WHERE slug = ? AND demo = false RETURNING id",
+                    UUID.class, slug);
+        }
+
+        public void insertProject(ProjectDto p) {
+            endCopy();
+            jdbc.update("""
+                    INSERT INTO projects (id, slug, name, summary, description, tech_stack,
+                                          repo_url, live_url, created_at, updated_at, demo)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)
+                    """,
+                    p.id(), p.slug(), p.name(), p.summary(), p.description(), p.techStack(),
+                    p.repoUrl(), p.liveUrl(), utc(p.createdAt()), utc(p.updatedAt()));
+        }
+
+        /**
+         * Status, type and priority must be normalized (enum names, type code).
+         */
+        public void copyTask(TaskDto t) {
+            row(COPY_TASKS, t.id(), t.projectId(), t.title(), t.description(), t.status(),
+                    TaskStatus.valueOf(t.status()).rank(), t.type(), t.priority(), t.targetVersion(),
+                    t.createdAt(), t.updatedAt());
+        }
+
+        public void copyUpdate(UpdateDto u) {
+            row(COPY_UPDATES, u.id(), u.projectId(), u.taskId(), u.title(), u.body(),
+                    u.createdAt(), u.createdAt());
+        }
+
+        public void copyPlanningItem(PlanningItemDto i) {
+            row(COPY_PLANNING_ITEMS, i.id(), i.projectId(), i.taskId(), i.sortOrder(), i.isCurrent(),
+                    i.createdAt(), i.updatedAt());
+        }
+
+        /**
+         * Recomputes a restored project's counters and stats row from its rows.
+         */
+        public void rebuildCounters(UUID projectId) {
+            endCopy();
+            counters.rebuild(projectId);
+        }
+
+        /**
+         * Ends the open COPY, if any. The server checks constraints
+         * here at the latest, so this is where a bad row surfaces.
+         */
+        public void endCopy() {
+            if (copy == null) return;
+            try {
+                out.flush();
+                copy.endCopy();
+            } catch (IOException | SQLException e) {
+                throw failure(e);
+            } finally {
+                copy = null;
+                out = null;
+                copySql = null;
+            }
+        }
+
+        /**
+         * Cancels an unfinished COPY and gives the connection back.
+         * The transaction decides whether anything was written.
+         */
+        @Override
+        public void close() {
+            try {
+                if (copy != null && copy.isActive()) copy.cancelCopy();
+            } catch (SQLException ignored) {
+                // Rolled back with the transaction anyway
+            } finally {
+                copy = null;
+                out = null;
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+
+        private void row(String sql, Object... values) {
+            try {
+                if (!sql.equals(copySql)) {
+                    endCopy();
+                    copy = new PGCopyOutputStream(pg, sql, bufferSize);
+                    out = new OutputStreamWriter(copy, StandardCharsets.UTF_8);
+                    copySql = sql;
+                }
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) out.write(',');
+                    writeValue(values[i]);
+                }
+                out.write('\n');
+            } catch (IOException | SQLException e) {
+                throw failure(e);
+            }
+        }
+
+        /**
+         * COPY csv: null is an empty unquoted field, text is always
+         * quoted (so "" stays an empty string), timestamps are ISO-8601
+         * UTC. The timestamp columns keep UTC wall time (as the JPA
+         * Instant mapping does), whatever the JVM or session time zone.
+         */
+        private void writeValue(Object value) throws IOException {
+            if (value == null) return;
+            if (value instanceof String s) {
+                out.write('"');
+                out.write(s.replace("\"", "\"\""));
+                out.write('"');
+            } else if (value instanceof Instant instant) {
+                out.write(instant.toString());
+            } else {
+                out.write(value.toString());
+            }
+        }
+
+        /**
+         * UTC wall time, the same value COPY stores for an ISO-8601 instant.
+         */
+        private static LocalDateTime utc(Instant instant) {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+
+        private RuntimeException failure(Exception e) {
+            Throwable cause = e.getCause() instanceof SQLException sql ? sql : e;
+            return new DataAccessResourceFailureException(
+                    "COPY failed: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.web.dto.ProjectStatsDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Project Stats Repository
+ * =========================================
+ *
+ * Reads the project_stats row maintained by ProjectCounterRepository.
+ *
+ * One statement per lookup: the unique slug index finds the project,
+ * the primary key finds its stats row. A project without tasks or
+ * updates has no stats row yet and reads as all zeros.
+ */
+@Repository
+public class ProjectStatsRepository {
+
+    private static final String PUBLIC_STATS = """
+            SELECT p.id AS project_id,
+                   s.task_count, s.open_count, s.done_count,
+                   s.status_counts, s.type_counts, s.priority_counts,
+                   s.update_count, s.last_activity_at
+            FROM projects p
+            LEFT JOIN project_stats s ON s.project_id = p.id
+            WHERE p.slug = ? AND p.demo = false
+            """;
+
+    private static final TypeReference<Map<String, Integer>> COUNTS = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public ProjectStatsRepository(JdbcTemplate jdbc, ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stats of a PUBLIC project (demo excluded), empty when the slug is unknown.
+     */
+    public Optional<ProjectStatsDto> findPublicBySlug(String slug) {
+        return jdbc.query(PUBLIC_STATS, (rs, i) -> toDto(rs), slug).stream().findFirst();
+    }
+
+    private ProjectStatsDto toDto(ResultSet rs) throws SQLException {
+        Map<String, Integer> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) byStatus.put(status.name(), 0);
+        byStatus.putAll(counts(rs.getString("status_counts")));
+
+        Map<String, Integer> byPriority = new LinkedHashMap<>();
+        for (TaskPriority priority : TaskPriority.values()) byPriority.put(priority.name(), 0);
+        byPriority.putAll(counts(rs.getString("priority_counts")));
+
+        // Types that dropped to zero stay in the jsonb object: hide them
+        Map<String, Integer> byType = new TreeMap<>(counts(rs.getString("type_counts")));
+        byType.values().removeIf(n -> n == 0);
+
+        Timestamp lastActivity = rs.getTimestamp("last_activity_at");
+        return new ProjectStatsDto(
+                rs.getObject("project_id", UUID.class),
+                rs.getInt("task_count"),
+                rs.getInt("open_count"),
+                rs.getInt("done_count"),
+                byStatus,
+                byType,
+                byPriority,
+                rs.getInt("update_count"),
+                lastActivity == null ? null : lastActivity.toInstant());
+    }
+
+    private Map<String, Integer> counts(String json) {
+        if (json == null) return Map.of();
+        try {
+            return objectMapper.readValue(json, COUNTS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid project_stats counts: " + json, e);
+        }
+    }
+}
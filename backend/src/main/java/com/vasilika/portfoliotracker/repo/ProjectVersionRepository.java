@@ -0,0 +1,83 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.VersionStamp;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * =========================================
+ * Project Version Repository
+ * =========================================
+ *
+ * One-row version lookups for the public API.
+ *
+ * Purpose:
+ * - Answer If-None-Match / If-Modified-Since without loading
+ *   tasks or updates
+ * - Every lookup is a handful of index probes:
+ *   (project_id, updated_at) indexes plus the item counters
+ */
+@Repository
+public class ProjectVersionRepository {
+
+    /**
+     * Newest change across a public project, its tasks and its updates,
+     * plus the number of tasks and updates (from the counter tables).
+     */
+    private static final String PUBLIC_PROJECT_VERSION = """
+            SELECT greatest(
+                       p.created_at,
+                       p.updated_at,
+                       (SELECT max(t.updated_at) FROM tasks t WHERE t.project_id = p.id),
+                       (SELECT max(u.updated_at) FROM updates u WHERE u.project_id = p.id)
+                   ) AS last_modified,
+                   coalesce((SELECT sum(c.task_count) FROM project_task_counters c
+                             WHERE c.project_id = p.id), 0)
+                 + coalesce((SELECT c.update_count FROM project_update_counters c
+                             WHERE c.project_id = p.id), 0) AS item_count
+            FROM projects p
+            WHERE p.slug = ? AND p.demo = false
+            """;
+
+    /**
+     * Newest change across the public project list, plus its size.
+     */
+    private static final String PUBLIC_LIST_VERSION = """
+            SELECT max(greatest(p.created_at, p.updated_at)) AS last_modified,
+                   count(*) AS item_count
+            FROM projects p
+            WHERE p.demo = false
+            """;
+
+    private static final RowMapper<VersionStamp> STAMP = (rs, i) -> {
+        Timestamp ts = rs.getTimestamp("last_modified");
+        return ts == null ? null : new VersionStamp(ts.toInstant(), rs.getLong("item_count"));
+    };
+
+    private final JdbcTemplate jdbc;
+
+    public ProjectVersionRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Version of one public project, empty if the slug is unknown.
+     */
+    public Optional<VersionStamp> findPublicProjectVersion(String slug) {
+        List<VersionStamp> rows = jdbc.query(PUBLIC_PROJECT_VERSION, STAMP, slug);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+
+    /**
+     * Version of the public project list, empty if there are no projects.
+     */
+    public Optional<VersionStamp> findPublicListVersion() {
+        List<VersionStamp> rows = jdbc.query(PUBLIC_LIST_VERSION, STAMP);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+}
@@ -0,0 +1,156 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.web.dto.SearchHitDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Search Repository
+ * =========================================
+ *
+ * Ranked full-text search over tasks and updates of PUBLIC projects.
+ *
+ * How one page is read (one statement):
+ * 1) hits: GIN index scans on tasks / updates.search_vector (V14)
+ *    return matching rows, the newest max-hits per kind (ORDER BY id:
+ *    UUIDv7, so by creation time), ranked with ts_rank
+ * 2) page: keyset filter + ORDER BY rank DESC, kind, id + LIMIT
+ * 3) ts_headline runs for the page rows only (it re-parses the text,
+ *    so it is by far the most expensive step)
+ *
+ * Why max-hits?
+ * - Without it every match is fetched, ranked and sorted before LIMIT,
+ *   so a common word costs as much as the portfolio is large
+ * - With it ranking and sorting are bounded: at most 2 x max-hits rows,
+ *   on every page (deep pages included)
+ *
+ * Trade-off: when a query matches more than max-hits rows of a kind,
+ * only the newest max-hits are ranked and the older ones are never
+ * returned. Such queries are too broad to page through anyway; a
+ * narrower query brings the rest back.
+ *
+ * The cap is ordered on purpose: an unordered LIMIT keeps whichever
+ * rows the scan meets first, which can change between two requests,
+ * and keyset pages over a changing candidate set skip or repeat hits.
+ * Ordered by id, every page of a query ranks the same candidates.
+ *
+ * NOTE:
+ * - 'english' must match the generated columns in V14
+ * - Source text is HTML-escaped before ts_headline, so the
+ *   <mark> tags are the only markup in a snippet
+ */
+@Repository
+public class SearchRepository {
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=<mark>, StopSel=</mark>, MinWords=12, MaxWords=30, "
+            + "MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    private static final RowMapper<SearchHitDto> HIT = (rs, i) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new SearchHitDto(
+                rs.getString("kind"),
+                rs.getObject("id", UUID.class),
+                rs.getObject("project_id", UUID.class),
+                rs.getString("project_slug"),
+                rs.getString("project_name"),
+                rs.getObject("task_id", UUID.class),
+                rs.getString("title"),
+                rs.getString("snippet"),
+                rs.getFloat("rank"),
+                createdAt == null ? null : createdAt.toInstant());
+    };
+
+    private final JdbcTemplate jdbc;
+    private final int maxHits;
+
+    public SearchRepository(JdbcTemplate jdbc, @Value("${app.search.max-hits:1000}") int maxHits) {
+        this.jdbc = jdbc;
+        this.maxHits = maxHits;
+    }
+
+    /**
+     * Returns up to {@code limit} hits for a web-search style query
+     * ("quoted phrases", or, -excluded), best first.
+     *
+     * @param projectId  restrict to one project, or null for the whole public portfolio
+     * @param afterRank  keyset position of the previous page's last hit (all three null for page 1)
+     */
+    public List<SearchHitDto> search(String query, UUID projectId,
+                                     Float afterRank, String afterKind, UUID afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+
+        String projectFilter = projectId != null ? "AND p.id = ?" : "";
+        // Once per UNION branch: project filter, then the candidate cap
+        for (int branch = 0; branch < 2; branch++) {
+            if (projectId != null) args.add(projectId);
+            args.add(maxHits);
+        }
+
+        String keyset = "";
+        if (afterRank != null) {
+            keyset = "WHERE rank < CAST(? AS real) OR (rank = CAST(? AS real) AND (kind, id) > (?, ?))";
+            args.add(afterRank);
+            args.add(afterRank);
+            args.add(afterKind);
+            args.add(afterId);
+        }
+        args.add(limit);
+        args.add(HEADLINE_OPTIONS);
+
+        String sql = """
+                WITH q AS (
+                    SELECT websearch_to_tsquery('english', ?) AS query
+                ),
+                hits AS (
+                    (SELECT 'TASK' AS kind, t.id, ts_rank(t.search_vector, q.query) AS rank
+                     FROM q, tasks t
+                     JOIN projects p ON p.id = t.project_id
+                     WHERE t.search_vector @@ q.query AND p.demo = false %1$s
+                     ORDER BY t.id DESC
+                     LIMIT ?)
+                    UNION ALL
+                    (SELECT 'UPDATE', u.id, ts_rank(u.search_vector, q.query)
+                     FROM q, updates u
+                     JOIN projects p ON p.id = u.project_id
+                     WHERE u.search_vector @@ q.query AND p.demo = false %1$s
+                     ORDER BY u.id DESC
+                     LIMIT ?)
+                ),
+                page AS (
+                    SELECT kind, id, rank
+                    FROM hits
+                    %2$s
+                    ORDER BY rank DESC, kind, id
+                    LIMIT ?
+                )
+                SELECT page.kind, page.id, page.rank,
+                       p.id AS project_id, p.slug AS project_slug, p.name AS project_name,
+                       u.task_id,
+                       coalesce(t.title, u.title) AS title,
+                       ts_headline('english',
+                                   replace(replace(replace(
+                                           coalesce(nullif(t.description, ''), t.title, u.body),
+                                           '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                                   q.query, ?) AS snippet,
+                       coalesce(t.created_at, u.created_at) AS created_at
+                FROM page
+                CROSS JOIN q
+                LEFT JOIN tasks t ON page.kind = 'TASK' AND t.id = page.id
+                LEFT JOIN updates u ON page.kind = 'UPDATE' AND u.id = page.id
+                JOIN projects p ON p.id = coalesce(t.project_id, u.project_id)
+                ORDER BY page.rank DESC, page.kind, page.id
+                """.formatted(projectFilter, keyset);
+
+        return jdbc.query(sql, HIT, args.toArray());
+    }
+}
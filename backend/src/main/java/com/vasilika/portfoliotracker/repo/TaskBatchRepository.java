@@ -0,0 +1,63 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * =========================================
+ * Task Batch Repository
+ * =========================================
+ *
+ * Inserts many tasks with JDBC batch statements.
+ *
+ * Why not tasks.saveAll(...)?
+ * - saveAll is batched too (hibernate.jdbc.batch_size: 50), but
+ *   keeps every row managed in the persistence context until the
+ *   transaction ends and runs the entity listeners row by row
+ * - Here rows are never managed, every chunk is one executeBatch()
+ *   round trip, and the caller picks the chunk size
+ *
+ * NOTE:
+ * - JPA listeners do not see these rows, callers must adjust
+ *   project counters themselves (see TaskImportService)
+ * - Column list must stay in sync with the Flyway schema
+ */
+@Repository
+public class TaskBatchRepository {
+
+    private static final String INSERT_TASK = """
+            INSERT INTO tasks (id, project_id, title, description, status, status_rank, type,
+                               priority, target_version, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public TaskBatchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Inserts all tasks, {@code batchSize} rows per JDBC batch.
+     * Tasks must have id and project set.
+     */
+    public void insertAll(List<Task> rows, int batchSize) {
+        jdbc.batchUpdate(INSERT_TASK, rows, batchSize, (ps, t) -> {
+            ps.setObject(1, t.getId());
+            ps.setObject(2, t.getProject().getId());
+            ps.setString(3, t.getTitle());
+            ps.setString(4, t.getDescription());
+            ps.setString(5, t.getStatus().name());
+            ps.setShort(6, t.getStatusRank());
+            ps.setString(7, t.getType());
+            ps.setString(8, t.getPriority().name());
+            ps.setString(9, t.getTargetVersion());
+            ps.setTimestamp(10, Timestamp.from(t.getCreatedAt()));
+            ps.setTimestamp(11, Timestamp.from(t.getUpdatedAt()));
+        });
+    }
+}
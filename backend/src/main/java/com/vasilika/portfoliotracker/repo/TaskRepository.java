@@ -3,11 +3,7 @@ package com.vasilika.portfoliotracker.repo;
 import com.vasilika.portfoliotracker.domain.Task;
 import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
 import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,7 +19,7 @@ import java.util.UUID;
  * - Basic CRUD operations (via JpaRepository)
  * - Retrieve tasks by project
  * - Optional filtering by status/type/priority
- * - Paginated query for Kanban-style task boards
+ * - Paginated query for Kanban-style task boards (see TaskRepositoryCustom)
  *
  * NOTE:
  * - We do NOT use tenantKey here because your entities
@@ -36,7 +32,7 @@ import java.util.UUID;
  * - Because of that, all repository methods now use String for type
  *   instead of a TaskType enum.
  */
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
 
     /**
      * Retrieve all tasks belonging to a project.
@@ -64,37 +60,11 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             TaskPriority priority
     );
 
-    /**
-     * Custom paginated query with optional filters.
-     *
-     * Features:
-     * - Optional filtering by status/type/priority
-     * - Orders by Kanban column order:
-     *   BACKLOG -> IN_PROGRESS -> DONE
-     * - Then by creation time ascending (stable ordering in each column)
+    /*
+     * Kanban paging (findPagedForProject / findKanbanPage) lives in
+     * TaskRepositoryCustom: predicates are built per request and rows
+     * come back in (status_rank, created_at, id) index order.
      */
-    @Query("""
-      select t from Task t
-      where t.project.id = :projectId
-        and (:status is null or t.status = :status)
-        and (:type is null or t.type = :type)
-        and (:priority is null or t.priority = :priority)
-      order by
-        case
-          when t.status = com.vasilika.portfoliotracker.domain.enums.TaskStatus.BACKLOG then 1
-          when t.status = com.vasilika.portfoliotracker.domain.enums.TaskStatus.IN_PROGRESS then 2
-          when t.status = com.vasilika.portfoliotracker.domain.enums.TaskStatus.DONE then 3
-          else 99
-        end,
-        t.createdAt asc
-    """)
-    Page<Task> findPagedForProject(
-            @Param("projectId") UUID projectId,
-            @Param("status") TaskStatus status,
-            @Param("type") String type,
-            @Param("priority") TaskPriority priority,
-            Pageable pageable
-    );
 
     /**
      * Used by demo reset flow.
@@ -0,0 +1,74 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Task Repository (custom queries)
+ * =========================================
+ *
+ * Kanban board queries built at runtime.
+ *
+ * Why not a single @Query?
+ * - "(:status is null or t.status = :status)" style predicates
+ *   hide the real filter from the PostgreSQL planner
+ * - Here only the filters that were actually given end up in the SQL,
+ *   so (project_id, status_rank, created_at, id) can be range scanned
+ *
+ * Implemented by {@link TaskRepositoryImpl}.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Page-number variant (with total count), ordered by
+     * status_rank, createdAt, id.
+     *
+     * Null filters are ignored.
+     */
+    Page<Task> findPagedForProject(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Pageable pageable
+    );
+
+    /**
+     * Slice variant of {@link #findPagedForProject}: same order and filters,
+     * but no count query. Fetches one extra row to know whether a next page exists.
+     */
+    Slice<Task> findSliceForProject(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Pageable pageable
+    );
+
+    /**
+     * Keyset variant: up to {@code limit} tasks strictly after
+     * (afterRank, afterCreatedAt, afterId), in Kanban order.
+     *
+     * Pass null cursor values for the first page.
+     * No count query and no OFFSET.
+     */
+    List<Task> findKanbanPage(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Short afterRank,
+            Instant afterCreatedAt,
+            UUID afterId,
+            int limit
+    );
+}
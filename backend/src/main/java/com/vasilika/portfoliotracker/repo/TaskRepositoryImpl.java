@@ -0,0 +1,142 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TaskRepositoryCustom}.
+ *
+ * Builds JPQL with only the predicates that apply, and always orders by
+ * (statusRank, createdAt, id) to match idx_tasks_project_rank_created_id.
+ */
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String KANBAN_ORDER = " order by t.statusRank, t.createdAt, t.id";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<Task> findPagedForProject(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Pageable pageable
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        String where = filters(projectId, status, type, priority, params);
+
+        TypedQuery<Task> query = em.createQuery("select t from Task t" + where + KANBAN_ORDER, Task.class);
+        TypedQuery<Long> count = em.createQuery("select count(t) from Task t" + where, Long.class);
+        params.forEach((name, value) -> {
+            query.setParameter(name, value);
+            count.setParameter(name, value);
+        });
+
+        List<Task> content = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    @Override
+    public Slice<Task> findSliceForProject(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Pageable pageable
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        String where = filters(projectId, status, type, priority, params);
+
+        TypedQuery<Task> query = em.createQuery("select t from Task t" + where + KANBAN_ORDER, Task.class);
+        params.forEach(query::setParameter);
+
+        List<Task> rows = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Task> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<Task> findKanbanPage(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Short afterRank,
+            Instant afterCreatedAt,
+            UUID afterId,
+            int limit
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder where = new StringBuilder(filters(projectId, status, type, priority, params));
+
+        // Row-value comparison: PostgreSQL turns this into an index range condition
+        if (afterRank != null) {
+            where.append(" and (t.statusRank, t.createdAt, t.id) > (:afterRank, :afterCreatedAt, :afterId)");
+            params.put("afterRank", afterRank);
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterId", afterId);
+        }
+
+        TypedQuery<Task> query = em.createQuery("select t from Task t" + where + KANBAN_ORDER, Task.class);
+        params.forEach(query::setParameter);
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Builds the WHERE clause for the filters that were actually given.
+     * A status filter is expressed on statusRank so it stays an index prefix.
+     */
+    private static String filters(
+            UUID projectId,
+            TaskStatus status,
+            String type,
+            TaskPriority priority,
+            Map<String, Object> params
+    ) {
+        StringBuilder where = new StringBuilder(" where t.project.id = :projectId");
+        params.put("projectId", projectId);
+
+        if (status != null) {
+            where.append(" and t.statusRank = :statusRank");
+            params.put("statusRank", status.rank());
+        }
+        if (type != null) {
+            where.append(" and t.type = :type");
+            params.put("type", type);
+        }
+        if (priority != null) {
+            where.append(" and t.priority = :priority");
+            params.put("priority", priority);
+        }
+
+        return where.toString();
+    }
+}
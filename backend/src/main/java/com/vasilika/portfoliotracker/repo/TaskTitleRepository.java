@@ -0,0 +1,60 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.web.dto.TaskSuggestionDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Task Title Repository
+ * =========================================
+ *
+ * Loads the (id, title, status) rows the task title index is built from.
+ *
+ * One statement per project: the LEFT JOIN returns a single row with
+ * null task columns for a project without tasks, and no row at all
+ * for an unknown project, so no separate existence check is needed.
+ *
+ * NOTE:
+ * - Demo sandboxes are excluded: their projects come and go with
+ *   the sandbox pool and would only pile up in memory
+ */
+@Repository
+public class TaskTitleRepository {
+
+    private static final String REAL_PROJECT_TITLES = """
+            SELECT t.id, t.title, t.status
+            FROM projects p
+            LEFT JOIN tasks t ON t.project_id = p.id
+            WHERE p.id = ? AND p.demo = false
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public TaskTitleRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Titles of a REAL project's tasks, empty when the project is unknown or a demo.
+     */
+    public Optional<List<TaskSuggestionDto>> findRealProjectTitles(UUID projectId) {
+        List<TaskSuggestionDto> rows = new ArrayList<>();
+        boolean[] found = {false};
+
+        jdbc.query(REAL_PROJECT_TITLES, rs -> {
+            found[0] = true;
+            UUID id = rs.getObject("id", UUID.class);
+            if (id != null) {
+                rows.add(new TaskSuggestionDto(id, rs.getString("title"), rs.getString("status")));
+            }
+        }, projectId);
+
+        return found[0] ? Optional.of(rows) : Optional.empty();
+    }
+}
@@ -3,8 +3,12 @@ package com.vasilika.portfoliotracker.repo;
 import com.vasilika.portfoliotracker.domain.Update;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,6 +47,50 @@ public interface UpdateRepository extends JpaRepository<Update, UUID> {
      */
     Page<Update> findByProject_IdOrderByCreatedAtDesc(UUID projectId, Pageable pageable);
 
+    /**
+     * Slice version of the newest-first query (no count query).
+     */
+    Slice<Update> findSliceByProject_IdOrderByCreatedAtDesc(UUID projectId, Pageable pageable);
+
+    /**
+     * Keyset timeline: first page, newest first.
+     *
+     * Ordered by (createdAt, id) so rows with equal timestamps still
+     * have a stable position. Served by idx_updates_project_created_at_id.
+     * The related task is fetched in the same query (UpdateDto shows its title).
+     */
+    @Query("""
+      select u from Update u
+      left join fetch u.task
+      where u.project.id = :projectId
+      order by u.createdAt desc, u.id desc
+    """)
+    List<Update> findTimelineFirstPage(
+            @Param("projectId") UUID projectId,
+            Pageable limit
+    );
+
+    /**
+     * Keyset timeline: page strictly after the given (createdAt, id) cursor.
+     *
+     * The row-value comparison is an index range start (Index Cond);
+     * the equivalent "a < x or (a = x and id < y)" is only a Filter
+     * and reads every newer row before the page.
+     */
+    @Query("""
+      select u from Update u
+      left join fetch u.task
+      where u.project.id = :projectId
+        and (u.createdAt, u.id) < (:createdAt, :id)
+      order by u.createdAt desc, u.id desc
+    """)
+    List<Update> findTimelineAfter(
+            @Param("projectId") UUID projectId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Pageable limit
+    );
+
     /**
     * For reset
      */
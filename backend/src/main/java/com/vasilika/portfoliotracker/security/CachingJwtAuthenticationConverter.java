@@ -0,0 +1,34 @@
+package com.vasilika.portfoliotracker.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * Same result as JwtAuthenticationConverter, but the authorities of
+ * a cached token are converted once and reused.
+ *
+ * A new JwtAuthenticationToken is still built per request:
+ * Spring Security mutates it (details, authenticated flag).
+ */
+public class CachingJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter;
+    private final VerifiedJwtCache cache;
+
+    public CachingJwtAuthenticationConverter(Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter,
+                                             VerifiedJwtCache cache) {
+        this.authoritiesConverter = authoritiesConverter;
+        this.cache = cache;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        Collection<GrantedAuthority> authorities = cache.authorities(jwt, authoritiesConverter);
+        return new JwtAuthenticationToken(jwt, authorities, jwt.getSubject());
+    }
+}
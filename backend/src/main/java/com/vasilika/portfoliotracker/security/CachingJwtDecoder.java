@@ -0,0 +1,61 @@
+package com.vasilika.portfoliotracker.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtDecoder that verifies each distinct token once.
+ *
+ * Cache hit: returns the previously verified Jwt (no HMAC, no JSON parsing).
+ * Cache miss: delegates to the real decoder and caches the result.
+ * Invalid tokens are never cached, so they fail on every request as before.
+ *
+ * Misses are timed as app.security.jwt.decode (outcome = valid | invalid).
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final VerifiedJwtCache cache;
+    private final Timer validDecodes;
+    private final Timer invalidDecodes;
+
+    public CachingJwtDecoder(JwtDecoder delegate, VerifiedJwtCache cache, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.validDecodes = decodeTimer(registry, "valid");
+        this.invalidDecodes = decodeTimer(registry, "invalid");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt cached = cache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } catch (JwtException e) {
+            invalidDecodes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        validDecodes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        cache.put(token, jwt);
+        return jwt;
+    }
+
+    private static Timer decodeTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("app.security.jwt.decode")
+                .description("Signature verification and parsing of uncached bearer tokens")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
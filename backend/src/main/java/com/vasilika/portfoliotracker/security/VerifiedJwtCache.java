@@ -0,0 +1,154 @@
+package com.vasilika.portfoliotracker.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * =========================================
+ * Verified JWT Cache
+ * =========================================
+ *
+ * Remembers tokens that already passed signature and claim validation,
+ * so a token the SPA re-sends for two hours is verified once.
+ *
+ * Entry:
+ * - key:         SHA-256 of the raw token (the token itself is not a key)
+ * - value:       decoded Jwt + its converted authorities
+ * - expires at:  the token's own "exp" claim
+ *
+ * Concurrency:
+ * - ConcurrentHashMap, no global lock; counters are LongAdders
+ *
+ * Bounds:
+ * - app.security.jwt.cache.max-entries (default 10000)
+ * - When full, expired entries are swept; if it is still full,
+ *   new tokens are verified but not cached
+ */
+@Component
+public class VerifiedJwtCache {
+
+    /**
+     * Hit / miss counters, exposed to admins.
+     */
+    public record Stats(long hits, long misses, long rejected, int size, double hitRate) {}
+
+    private static final class Entry {
+        private final Jwt jwt;
+        private final long expiresAtMillis;
+        private volatile Collection<GrantedAuthority> authorities;
+
+        private Entry(Jwt jwt, long expiresAtMillis) {
+            this.jwt = jwt;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public VerifiedJwtCache(@Value("${app.security.jwt.cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached Jwt for a raw token, or null.
+     */
+    public Jwt get(String token) {
+        Entry entry = lookup(key(token));
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.jwt;
+    }
+
+    /**
+     * Stores a Jwt that the delegate decoder just verified.
+     * Tokens without "exp" are never cached.
+     */
+    public void put(String token, Jwt jwt) {
+        Instant exp = jwt.getExpiresAt();
+        if (exp == null || exp.toEpochMilli() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            sweepExpired();
+            if (entries.size() >= maxEntries) {
+                rejected.increment();
+                return;
+            }
+        }
+        entries.put(key(token), new Entry(jwt, exp.toEpochMilli()));
+    }
+
+    /**
+     * Returns the authorities of a cached Jwt, converting them once.
+     * Falls back to a plain conversion for Jwts that are not cached.
+     */
+    public Collection<GrantedAuthority> authorities(Jwt jwt, Converter<Jwt, Collection<GrantedAuthority>> converter) {
+        Entry entry = lookup(key(jwt.getTokenValue()));
+        if (entry == null || entry.jwt != jwt) {
+            return converter.convert(jwt);
+        }
+
+        Collection<GrantedAuthority> authorities = entry.authorities;
+        if (authorities == null) {
+            // Racing threads compute the same immutable list; last write wins
+            authorities = List.copyOf(converter.convert(jwt));
+            entry.authorities = authorities;
+        }
+        return authorities;
+    }
+
+    public Stats stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        double hitRate = h + m == 0 ? 0 : (double) h / (h + m);
+        return new Stats(h, m, rejected.sum(), entries.size(), hitRate);
+    }
+
+    private Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void sweepExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> e.expiresAtMillis <= now);
+    }
+
+    private static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
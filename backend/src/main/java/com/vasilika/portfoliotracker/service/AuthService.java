@@ -1,7 +1,7 @@
 package com.vasilika.portfoliotracker.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -10,10 +10,12 @@ import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * =========================================
@@ -37,10 +39,18 @@ import java.util.Map;
  * - Public GET  -> access /api/**
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class AuthService {
 
+    /**
+     * JWT claim holding the demo sandbox id.
+     */
+    public static final String SANDBOX_CLAIM = "sandbox";
+
+    private static final Duration TOKEN_TTL = Duration.ofHours(2);
+
     private final JwtEncoder jwtEncoder;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordCheckExecutor passwordChecks;
 
     // Admin credentials loaded from configuration (.env / application.yml)
     private final String adminUsername;
@@ -48,24 +58,24 @@ public class AuthService {
 
     private final String demoUsername;
     private final String demoPasswordHash;
-    private final DemoSeederService demoSeeder;
+    private final DemoSandboxPool demoSandboxPool;
 
 
     public AuthService(
             JwtEncoder jwtEncoder,
-            PasswordEncoder passwordEncoder,
+            PasswordCheckExecutor passwordChecks,
             @Value("${app.security.admin.username}") String adminUsername,
             @Value("${app.security.admin.password-hash}") String adminPasswordHash,
             @Value("${app.security.demo.username}") String demoUsername,
             @Value("${app.security.demo.password-hash}") String demoPasswordHash,
-            DemoSeederService demoSeeder) {
+            DemoSandboxPool demoSandboxPool) {
         this.jwtEncoder = jwtEncoder;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordChecks = passwordChecks;
         this.adminUsername = adminUsername;
         this.adminPasswordHash = adminPasswordHash;
         this.demoUsername = demoUsername;
         this.demoPasswordHash = demoPasswordHash;
-        this.demoSeeder = demoSeeder;
+        this.demoSandboxPool = demoSandboxPool;
     }
 
     /**
@@ -74,28 +84,37 @@ public class AuthService {
      * =========================================
      *
      * Validates username + password, then issues a token with roles ["ADMIN"].
+     *
+     * The BCrypt check runs on PasswordCheckExecutor, so the request
+     * thread is released while it runs. Throws LoginThrottledException
+     * (429) when the username is backed off or the executor is full.
      */
-    public Map<String, Object> loginAdmin(String username, String password) {
+    public CompletableFuture<Map<String, Object>> loginAdmin(String username, String password) {
 
         // 1) Verify username matches configured admin account
         boolean userOk = adminUsername.equals(username);
 
-        // 2) Verify password against stored BCrypt hash
-        boolean passOk = passwordEncoder.matches(password, adminPasswordHash);
-
-        if (!userOk || !passOk) {
-            throw new InvalidCredentialsException();
-        }
-
-        // 3) Issue token with ADMIN role
-        return issueToken(adminUsername, List.of("ADMIN"));
+        // 2) Verify password against stored BCrypt hash (always, so timing does not leak the username)
+        return passwordChecks.matches(username, password, adminPasswordHash)
+                .thenApply(passOk -> {
+                    if (!userOk || !passOk) {
+                        throw new InvalidCredentialsException();
+                    }
+
+                    // 3) Issue token with ADMIN role
+                    Instant now = Instant.now();
+                    return issueToken(adminUsername, List.of("ADMIN"), now, now.plus(TOKEN_TTL), null);
+                });
     }
 
     /**
      * =========================================
      * DEMO login (PUBLIC)
      * =========================================
-  */
+     *
+     * Claims a pre-seeded sandbox from the pool and stores its id
+     * in the "sandbox" claim. The sandbox expires with the token.
+     */
 
     public Map<String, Object> loginDemo(String username, String password) {
 
@@ -104,10 +123,14 @@ public class AuthService {
             throw new InvalidCredentialsException();
         }
 
-        // 🔥 reseed demo data every login
-        demoSeeder.seedDemoData();
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(TOKEN_TTL);
 
-        return issueToken(demoUsername, List.of("DEMO"));
+        // Each demo login gets its own sandbox (no reseed inside the request)
+        UUID sandboxId = demoSandboxPool.claim(expiresAt);
+        demoSandboxPool.refillSoon();
+
+        return issueToken(demoUsername, List.of("DEMO"), now, expiresAt, sandboxId);
     }
     /**
      * =========================================
@@ -128,18 +151,22 @@ public class AuthService {
      * Token issuing helper
      * =========================================
      */
-    private Map<String, Object> issueToken(String subject, List<String> roles) {
+    private Map<String, Object> issueToken(String subject, List<String> roles,
+                                           Instant now, Instant expiresAt, UUID sandboxId) {
 
-        Instant now = Instant.now();
-        Instant expiresAt = now.plus(2, ChronoUnit.HOURS);
-
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder builder = JwtClaimsSet.builder()
                 .issuer("portfolio-tracker")
                 .issuedAt(now)
                 .expiresAt(expiresAt)
                 .subject(subject)
-                .claim("roles", roles)
-                .build();
+                .claim("roles", roles);
+
+        // Demo tokens carry the sandbox they are allowed to touch
+        if (sandboxId != null) {
+            builder.claim(SANDBOX_CLAIM, sandboxId.toString());
+        }
+
+        JwtClaimsSet claims = builder.build();
 
         // HS256 signing header (matches your existing approach)
         JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
@@ -0,0 +1,135 @@
+package com.vasilika.portfoliotracker.service;
+
+import com.vasilika.portfoliotracker.repo.DemoSandboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * =========================================
+ * Demo Sandbox Pool
+ * =========================================
+ *
+ * Keeps pre-seeded demo sandboxes ready so demo login never
+ * has to copy the portfolio inside the request.
+ *
+ * Responsibilities:
+ * - claim():  hand one READY sandbox to a login (single UPDATE)
+ * - refill(): background job that tops the pool back up to N
+ *             (also triggered @Async after every claim)
+ * - sweep():  background job that deletes expired sandboxes in batches
+ *
+ * Configuration (application.yml):
+ *   app.demo.pool.size              READY sandboxes to keep (default 3)
+ *   app.demo.pool.ready-max-age     drop unclaimed copies older than this (default 30m)
+ *   app.demo.pool.sweep-batch-size  sandboxes deleted per statement (default 20)
+ */
+@Service
+public class DemoSandboxPool {
+
+    private static final Logger log = LoggerFactory.getLogger(DemoSandboxPool.class);
+
+    /**
+     * Upper bound of delete statements per sweep run,
+     * so one run never holds the scheduler thread for long.
+     */
+    private static final int MAX_SWEEP_BATCHES = 50;
+
+    private final DemoSandboxRepository sandboxes;
+    private final DemoSeederService seeder;
+    private final int poolSize;
+    private final Duration readyMaxAge;
+    private final int sweepBatchSize;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    public DemoSandboxPool(
+            DemoSandboxRepository sandboxes,
+            DemoSeederService seeder,
+            @Value("${app.demo.pool.size:3}") int poolSize,
+            @Value("${app.demo.pool.ready-max-age:PT30M}") Duration readyMaxAge,
+            @Value("${app.demo.pool.sweep-batch-size:20}") int sweepBatchSize) {
+        this.sandboxes = sandboxes;
+        this.seeder = seeder;
+        this.poolSize = poolSize;
+        this.readyMaxAge = readyMaxAge;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * Claims a sandbox for one demo login.
+     *
+     * Normal case: one UPDATE ... RETURNING on a READY row.
+     * Empty pool: seeds a private sandbox synchronously, so login
+     * still works while the refiller catches up.
+     */
+    @Transactional
+    public UUID claim(Instant expiresAt) {
+        return sandboxes.claimOldestReady(Instant.now(), expiresAt)
+                .orElseGet(() -> {
+                    log.warn("Demo sandbox pool empty, seeding inline");
+                    return seeder.seedClaimedSandbox(expiresAt);
+                });
+    }
+
+    /**
+     * Tops the pool back up to {@code poolSize} READY sandboxes.
+     * Each sandbox is seeded in its own transaction.
+     *
+     * Runs on a schedule and right after each claim (refillSoon);
+     * overlapping runs are skipped so the pool is not overfilled.
+     */
+    @Scheduled(initialDelayString = "${app.demo.pool.refill-initial-delay:PT5S}",
+            fixedDelayString = "${app.demo.pool.refill-interval:PT10S}")
+    public void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int missing = poolSize - sandboxes.countReady();
+            for (int i = 0; i < missing; i++) {
+                seeder.seedReadySandbox();
+            }
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    /**
+     * Same as refill(), off the caller's thread.
+     * Called after a demo login so the next login finds a READY sandbox.
+     */
+    @Async
+    public void refillSoon() {
+        refill();
+    }
+
+    /**
+     * Deletes expired CLAIMED sandboxes and stale READY ones.
+     * Works in small batches; cascade removes their projects.
+     */
+    @Scheduled(fixedDelayString = "${app.demo.pool.sweep-interval:PT1M}")
+    public void sweep() {
+        Instant now = Instant.now();
+        Instant readyCutoff = now.minus(readyMaxAge);
+
+        int removed = 0;
+        for (int i = 0; i < MAX_SWEEP_BATCHES; i++) {
+            int batch = sandboxes.deleteExpiredBatch(now, readyCutoff, sweepBatchSize);
+            removed += batch;
+            if (batch < sweepBatchSize) break;
+        }
+
+        if (removed > 0) {
+            log.info("Swept {} demo sandboxes", removed);
+        }
+    }
+}
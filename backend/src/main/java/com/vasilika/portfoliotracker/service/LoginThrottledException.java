@@ -0,0 +1,22 @@
+package com.vasilika.portfoliotracker.service;
+
+import java.time.Duration;
+
+/**
+ * Login refused before checking the password:
+ * the verifier queue is full, or the username is in backoff.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
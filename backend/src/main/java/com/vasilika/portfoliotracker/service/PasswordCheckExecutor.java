@@ -0,0 +1,207 @@
+package com.vasilika.portfoliotracker.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * =========================================
+ * Password Check Executor
+ * =========================================
+ *
+ * Runs BCrypt verification on a small dedicated pool instead of
+ * on Tomcat worker threads.
+ *
+ * Why?
+ * - One BCrypt check burns ~100 ms of CPU
+ * - A login burst used to pin every worker thread, so /api/** stalled
+ *
+ * Guarantees:
+ * - At most {@code threads} checks run at once
+ * - At most {@code queue-capacity} wait; beyond that logins fail fast (429)
+ * - Usernames with repeated failures are backed off exponentially (429)
+ *
+ * Configuration (application.yml):
+ *   app.security.password-check.threads          (default 2)
+ *   app.security.password-check.queue-capacity   (default 16)
+ *   app.security.password-check.free-attempts    failures before backoff (default 3)
+ *   app.security.password-check.backoff-base     (default 1s, doubles per failure)
+ *   app.security.password-check.backoff-max      (default 5m)
+ */
+@Component
+public class PasswordCheckExecutor {
+
+    /**
+     * Queue / latency figures, exposed to admins.
+     */
+    public record Stats(
+            int queueDepth,
+            int queueCapacity,
+            int activeChecks,
+            long completed,
+            long rejected,
+            long throttled,
+            int usersInBackoff,
+            double avgWaitMs,
+            double avgCheckMs,
+            double maxCheckMs
+    ) {}
+
+    /**
+     * Failure count and lockout end of one username.
+     */
+    private record Backoff(int failures, long lastFailureMillis, long blockedUntilMillis) {}
+
+    /**
+     * Upper bound of tracked usernames, so sprayed usernames cannot grow the map forever.
+     */
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final int queueCapacity;
+    private final int freeAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+
+    private final ConcurrentHashMap<String, Backoff> backoffs = new ConcurrentHashMap<>();
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder checkNanos = new LongAdder();
+    private final LongAccumulator maxCheckNanos = new LongAccumulator(Long::max, 0);
+
+    public PasswordCheckExecutor(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.security.password-check.threads:2}") int threads,
+            @Value("${app.security.password-check.queue-capacity:16}") int queueCapacity,
+            @Value("${app.security.password-check.free-attempts:3}") int freeAttempts,
+            @Value("${app.security.password-check.backoff-base:PT1S}") Duration backoffBase,
+            @Value("${app.security.password-check.backoff-max:PT5M}") Duration backoffMax) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.freeAttempts = freeAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+
+        AtomicInteger n = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-check-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Checks a password off the request thread.
+     *
+     * Completes with true / false, or fails right away with
+     * LoginThrottledException when the user is backed off or the queue is full.
+     * Failures and successes update the username's backoff state.
+     */
+    public CompletableFuture<Boolean> matches(String username, String rawPassword, String encodedPassword) {
+        String key = username == null ? "" : username;
+
+        Backoff backoff = backoffs.get(key);
+        long now = System.currentTimeMillis();
+        if (backoff != null && backoff.blockedUntilMillis() > now) {
+            throttled.increment();
+            throw new LoginThrottledException("Too many failed logins, try again later",
+                    Duration.ofMillis(backoff.blockedUntilMillis() - now));
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                boolean ok = passwordEncoder.matches(rawPassword, encodedPassword);
+                long took = System.nanoTime() - startedAt;
+
+                waitNanos.add(startedAt - submittedAt);
+                checkNanos.add(took);
+                maxCheckNanos.accumulate(took);
+                completed.increment();
+
+                record(key, ok);
+                return ok;
+            }, pool);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginThrottledException("Login service busy, try again shortly", Duration.ofSeconds(1));
+        }
+    }
+
+    public Stats stats() {
+        long done = completed.sum();
+        return new Stats(
+                pool.getQueue().size(),
+                queueCapacity,
+                pool.getActiveCount(),
+                done,
+                rejected.sum(),
+                throttled.sum(),
+                backoffs.size(),
+                done == 0 ? 0 : waitNanos.sum() / 1e6 / done,
+                done == 0 ? 0 : checkNanos.sum() / 1e6 / done,
+                maxCheckNanos.get() / 1e6
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Success clears the username; each failure past the free attempts
+     * doubles the lockout (base, 2x base, 4x base, ... capped at max).
+     * A username that stays quiet for backoff-max starts over.
+     */
+    private void record(String key, boolean ok) {
+        if (ok) {
+            backoffs.remove(key);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long forgetAfter = backoffMax.toMillis();
+
+        if (backoffs.size() >= MAX_TRACKED_USERS && !backoffs.containsKey(key)) {
+            backoffs.values().removeIf(b -> isStale(b, now, forgetAfter));
+            if (backoffs.size() >= MAX_TRACKED_USERS) return;
+        }
+
+        backoffs.compute(key, (k, prev) -> {
+            int failures = prev == null || isStale(prev, now, forgetAfter) ? 1 : prev.failures() + 1;
+            int over = failures - freeAttempts;
+            if (over <= 0) {
+                return new Backoff(failures, now, 0);
+            }
+            long delay = Math.min(forgetAfter, backoffBase.toMillis() << Math.min(over - 1, 30));
+            return new Backoff(failures, now, now + delay);
+        });
+    }
+
+    private static boolean isStale(Backoff b, long now, long forgetAfter) {
+        return b.blockedUntilMillis() < now && now - b.lastFailureMillis() > forgetAfter;
+    }
+}
@@ -0,0 +1,144 @@
+package com.vasilika.portfoliotracker.service;
+
+import com.vasilika.portfoliotracker.domain.PlanningItem;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.repo.PlanningItemRepository;
+import com.vasilika.portfoliotracker.repo.TaskRepository;
+import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardItemRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * =========================================
+ * Planning Board Service
+ * =========================================
+ *
+ * Saves a project's planning board (admin and demo).
+ *
+ * The frontend always sends the whole queue, but usually only
+ * a few positions change. Instead of delete-all + re-insert,
+ * the incoming list is diffed against the stored rows:
+ * - rows for tasks no longer on the board are deleted in one statement
+ * - rows whose sortOrder / current flag changed are updated
+ * - rows for newly added tasks are inserted
+ * - unchanged rows are not touched
+ *
+ * Reads are constant: one query for the stored board,
+ * one findAllById for every referenced task.
+ * Writes are flushed as JDBC batches (hibernate.jdbc.batch_size).
+ */
+@Service
+public class PlanningBoardService {
+
+    private final PlanningItemRepository planningItems;
+    private final TaskRepository tasks;
+
+    public PlanningBoardService(PlanningItemRepository planningItems, TaskRepository tasks) {
+        this.planningItems = planningItems;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Makes the stored board match {@code incoming} (in display order).
+     *
+     * Rules:
+     * - all tasks must exist ({@link TaskNotFoundException} otherwise)
+     * - all tasks must belong to the project
+     * - DONE tasks cannot be placed in the planning board
+     * - a task can appear only once
+     * - at most one item can be marked current
+     *
+     * @return the board items in display order
+     */
+    @Transactional
+    public List<PlanningItem> saveBoard(Project project, List<SavePlanningBoardItemRequest> incoming) {
+        UUID projectId = project.getId();
+
+        long currentCount = incoming.stream()
+                .filter(SavePlanningBoardItemRequest::isCurrent)
+                .count();
+
+        if (currentCount > 1) {
+            throw new IllegalArgumentException("Only one planning item can be marked as current.");
+        }
+
+        Set<UUID> taskIds = new HashSet<>();
+        for (SavePlanningBoardItemRequest item : incoming) {
+            if (!taskIds.add(item.taskId())) {
+                throw new IllegalArgumentException("Task appears more than once: " + item.taskId());
+            }
+        }
+
+        // One query for every referenced task
+        Map<UUID, Task> tasksById = tasks.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // One query for the stored board
+        Map<UUID, PlanningItem> existingByTask = new HashMap<>();
+        for (PlanningItem item : planningItems.findByProject_IdOrderBySortOrderAscCreatedAtAsc(projectId)) {
+            existingByTask.put(item.getTask().getId(), item);
+        }
+
+        Instant now = Instant.now();
+        List<PlanningItem> board = new ArrayList<>(incoming.size());
+
+        for (int i = 0; i < incoming.size(); i++) {
+            SavePlanningBoardItemRequest req = incoming.get(i);
+
+            Task task = tasksById.get(req.taskId());
+            if (task == null) {
+                throw new TaskNotFoundException(req.taskId());
+            }
+
+            if (!task.getProject().getId().equals(projectId)) {
+                throw new IllegalArgumentException("Task does not belong to project: " + projectId);
+            }
+
+            if (task.getStatus() == TaskStatus.DONE) {
+                throw new IllegalArgumentException("DONE tasks cannot be added to the planning board.");
+            }
+
+            PlanningItem item = existingByTask.remove(task.getId());
+
+            if (item == null) {
+                item = new PlanningItem();
+                item.setProject(project);
+                item.setTask(task);
+                item.setSortOrder(i);
+                item.setCurrent(req.isCurrent());
+                item.setCreatedAt(now);
+                item.setUpdatedAt(now);
+
+                // No id yet, so save() persists without a SELECT (id assigned by UuidV7Generator)
+                planningItems.save(item);
+            } else if (item.getSortOrder() != i || item.isCurrent() != req.isCurrent()) {
+                // Managed entity: flushed as an UPDATE at commit
+                item.setSortOrder(i);
+                item.setCurrent(req.isCurrent());
+                item.setUpdatedAt(now);
+            }
+
+            board.add(item);
+        }
+
+        // Whatever was not in the request left the board
+        if (!existingByTask.isEmpty()) {
+            planningItems.deleteAllInBatch(existingByTask.values());
+        }
+
+        return board;
+    }
+}
@@ -0,0 +1,15 @@
+package com.vasilika.portfoliotracker.service;
+
+import java.util.UUID;
+
+/**
+ * A planning board refers to a task that does not exist.
+ *
+ * Still an IllegalArgumentException (400 on the admin API);
+ * the demo API answers 404 for it.
+ */
+public class TaskNotFoundException extends IllegalArgumentException {
+    public TaskNotFoundException(UUID taskId) {
+        super("Task not found: " + taskId);
+    }
+}
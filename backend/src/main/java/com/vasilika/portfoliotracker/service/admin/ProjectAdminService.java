@@ -11,6 +11,7 @@ import com.vasilika.portfoliotracker.repo.TaskRepository;
 import com.vasilika.portfoliotracker.repo.TaskTypeOptionRepository;
 import com.vasilika.portfoliotracker.repo.UpdateRepository;
 import com.vasilika.portfoliotracker.service.TaskTypeOptionService;
+import com.vasilika.portfoliotracker.service.query.PublicProjectCache;
 import com.vasilika.portfoliotracker.web.dto.CreateProjectRequest;
 import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
 import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
@@ -21,6 +22,7 @@ import com.vasilika.portfoliotracker.web.dto.UpdateTaskRequest;
 import com.vasilika.portfoliotracker.web.mapper.ProjectMapper;
 import com.vasilika.portfoliotracker.web.mapper.TaskMapper;
 import com.vasilika.portfoliotracker.web.mapper.UpdateMapper;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,17 +44,20 @@ import java.util.UUID;
  * - Create projects, tasks, and updates
  * - Modify tasks (partial updates supported)
  * - Delete tasks and updates
+ * - Invalidate cached public pages after each write
  *
  * This service is typically used by secured
  * admin endpoints only.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class ProjectAdminService {
 
     private final ProjectRepository projects;
     private final TaskRepository tasks;
     private final UpdateRepository updates;
     private final TaskTypeOptionService taskTypeOptionService;
+    private final PublicProjectCache publicCache;
 
 
     /**
@@ -60,11 +65,12 @@ public class ProjectAdminService {
      * Keeps dependencies explicit and testable.
      */
     public ProjectAdminService(ProjectRepository projects, TaskRepository tasks, UpdateRepository updates,
-                               TaskTypeOptionService taskTypeOptionService){
+                               TaskTypeOptionService taskTypeOptionService, PublicProjectCache publicCache){
         this.projects = projects;
         this.tasks = tasks;
         this.updates = updates;
         this.taskTypeOptionService = taskTypeOptionService;
+        this.publicCache = publicCache;
 
     }
 
@@ -86,6 +92,7 @@ public class ProjectAdminService {
         p.setLiveUrl(req.liveUrl());
 
         var saved = projects.save(p);
+        publicCache.evictList();
         return ProjectMapper.toDto(saved);
     }
 
@@ -113,6 +120,7 @@ public class ProjectAdminService {
         t.setUpdatedAt(Instant.now());
 
         var saved = tasks.save(t);
+        publicCache.evictProject(projectId);
         return TaskMapper.toDto(saved);
     }
 
@@ -148,6 +156,7 @@ public class ProjectAdminService {
         u.setCreatedAt(Instant.now());
 
         var saved = updates.save(u);
+        publicCache.evictProject(projectId);
         return UpdateMapper.toDto(saved);
     }
 
@@ -173,6 +182,7 @@ public class ProjectAdminService {
         t.setUpdatedAt(Instant.now());
 
         var saved = tasks.save(t);
+        publicCache.evictProject(t.getProject().getId());
         return TaskMapper.toDto(saved);
     }
 
@@ -183,8 +193,9 @@ public class ProjectAdminService {
      */
     @Transactional
     public void deleteTask(UUID taskId) {
-        if (!tasks.existsById(taskId)) throw new java.util.NoSuchElementException();
-        tasks.deleteById(taskId);
+        var t = tasks.findById(taskId).orElseThrow();
+        tasks.delete(t);
+        publicCache.evictProject(t.getProject().getId());
     }
 
     /**
@@ -192,8 +203,9 @@ public class ProjectAdminService {
      */
     @Transactional
     public void deleteUpdate(UUID updateId) {
-        if (!updates.existsById(updateId)) throw new java.util.NoSuchElementException();
-        updates.deleteById(updateId);
+        var u = updates.findById(updateId).orElseThrow();
+        updates.delete(u);
+        publicCache.evictProject(u.getProject().getId());
     }
 
     /**
@@ -0,0 +1,176 @@
+package com.vasilika.portfoliotracker.service.admin;
+
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.TaskCounterKey;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.domain.id.UuidV7;
+import com.vasilika.portfoliotracker.repo.ProjectCounterDeltas;
+import com.vasilika.portfoliotracker.repo.ProjectCounterRepository;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.TaskBatchRepository;
+import com.vasilika.portfoliotracker.service.TaskTypeOptionService;
+import com.vasilika.portfoliotracker.service.query.PublicProjectCache;
+import com.vasilika.portfoliotracker.service.query.TaskTitleIndex;
+import com.vasilika.portfoliotracker.web.dto.BulkImportResultDto;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Task Import Service
+ * =========================================
+ *
+ * Creates many tasks in one project in a single transaction.
+ *
+ * Flow:
+ * 1) Validate every row (bean validation, enums, type code)
+ * 2) Any error => nothing is written, all errors are returned
+ * 3) Otherwise insert with JDBC batches of app.import.tasks.batch-size
+ * 4) Adjust project counters once per (status, type, priority) bucket
+ *
+ * Compared to POST /admin/projects/{id}/tasks per row:
+ * - one project lookup and one transaction for the whole import
+ * - one round trip per chunk instead of per row
+ */
+@Service
+public class TaskImportService {
+
+    private final ProjectRepository projects;
+    private final TaskBatchRepository taskBatches;
+    private final ProjectCounterRepository counters;
+    private final TaskTypeOptionService taskTypeOptionService;
+    private final PublicProjectCache publicCache;
+    private final TaskTitleIndex titleIndex;
+    private final Validator validator;
+    private final int batchSize;
+
+    public TaskImportService(
+            ProjectRepository projects,
+            TaskBatchRepository taskBatches,
+            ProjectCounterRepository counters,
+            TaskTypeOptionService taskTypeOptionService,
+            PublicProjectCache publicCache,
+            TaskTitleIndex titleIndex,
+            Validator validator,
+            @Value("${app.import.tasks.batch-size:500}") int batchSize) {
+        this.projects = projects;
+        this.taskBatches = taskBatches;
+        this.counters = counters;
+        this.taskTypeOptionService = taskTypeOptionService;
+        this.publicCache = publicCache;
+        this.titleIndex = titleIndex;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Validates and inserts all rows, or none of them.
+     */
+    @Transactional
+    public BulkImportResultDto importTasks(UUID projectId, List<CreateTaskRequest> rows) {
+        var project = projects.findById(projectId).orElseThrow();
+
+        List<BulkImportResultDto.RowError> errors = new ArrayList<>();
+        List<Task> valid = new ArrayList<>(rows.size());
+        Instant now = Instant.now();
+
+        for (int i = 0; i < rows.size(); i++) {
+            Task t = toTask(i, rows.get(i), now, errors);
+            if (t != null) {
+                t.setProject(project);
+                valid.add(t);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return new BulkImportResultDto(rows.size(), 0, errors);
+        }
+
+        taskBatches.insertAll(valid, batchSize);
+
+        // Batched rows bypass ProjectCountersListener: one counter statement for the batch instead
+        ProjectCounterDeltas deltas = new ProjectCounterDeltas();
+        for (Task t : valid) {
+            deltas.addTasks(projectId, TaskCounterKey.of(t), 1);
+        }
+        counters.apply(deltas);
+
+        // Same for the task picker: rebuilt from the table on its next lookup
+        titleIndex.evictProject(projectId);
+
+        publicCache.evictProject(projectId);
+        return new BulkImportResultDto(rows.size(), valid.size(), List.of());
+    }
+
+    /**
+     * Converts one row, or records its errors and returns null.
+     */
+    private Task toTask(int row, CreateTaskRequest req, Instant now, List<BulkImportResultDto.RowError> errors) {
+        if (req == null) {
+            errors.add(new BulkImportResultDto.RowError(row, null, "Row is empty"));
+            return null;
+        }
+
+        int before = errors.size();
+
+        validator.validate(req).stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .forEach((ConstraintViolation<CreateTaskRequest> v) -> errors.add(new BulkImportResultDto.RowError(
+                        row, v.getPropertyPath().toString(), v.getMessage())));
+
+        TaskStatus status = parseEnum(row, "status", TaskStatus.class, req.status(), errors);
+        TaskPriority priority = parseEnum(row, "priority", TaskPriority.class, req.priority(), errors);
+
+        String type = null;
+        if (req.type() != null) {
+            try {
+                type = taskTypeOptionService.requireValidCode(req.type());
+            } catch (IllegalArgumentException e) {
+                errors.add(new BulkImportResultDto.RowError(row, "type", e.getMessage()));
+            }
+        }
+
+        if (errors.size() > before) {
+            return null;
+        }
+
+        var t = new Task();
+        t.setId(UuidV7.next());
+        t.setTitle(req.title());
+        t.setDescription(req.description());
+        t.setStatus(status);
+        t.setType(type);
+        t.setPriority(priority);
+        t.setTargetVersion(req.targetVersion());
+        t.setCreatedAt(now);
+        t.setUpdatedAt(now);
+        return t;
+    }
+
+    /**
+     * Parses enums in a case-insensitive way, recording bad values as row errors.
+     * Missing values are already reported by bean validation.
+     */
+    private static <E extends Enum<E>> E parseEnum(
+            int row, String field, Class<E> enumClass, String value, List<BulkImportResultDto.RowError> errors) {
+        if (value == null) return null;
+        try {
+            return Enum.valueOf(enumClass, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            errors.add(new BulkImportResultDto.RowError(row, field, "Unknown value: " + value));
+            return null;
+        }
+    }
+}
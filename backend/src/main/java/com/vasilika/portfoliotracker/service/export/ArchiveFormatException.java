@@ -0,0 +1,25 @@
+package com.vasilika.portfoliotracker.service.export;
+
+/**
+ * An archive row that could not be decoded (bad JSON / CSV, unknown
+ * record type, value of the wrong shape).
+ */
+class ArchiveFormatException extends IllegalArgumentException {
+
+    private final long line;
+    private final String field;
+
+    ArchiveFormatException(long line, String field, String message) {
+        super(message);
+        this.line = line;
+        this.field = field;
+    }
+
+    long line() {
+        return line;
+    }
+
+    String field() {
+        return field;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an uploaded archive one row at a time (the reverse of ExportWriter).
+ *
+ * Only the current row is held in memory. A row that cannot be decoded
+ * throws ArchiveFormatException once it has been consumed, so the
+ * caller may record the error and keep reading.
+ */
+interface ArchiveReader extends Closeable {
+
+    /**
+     * @return the next row, or null at the end of the archive
+     */
+    ArchiveRecord next() throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+
+/**
+ * One decoded row of an export archive, with the line it started on.
+ *
+ * Rows reuse the export DTOs, so a file written by ProjectExportService
+ * reads back field for field. Values are not validated here.
+ */
+interface ArchiveRecord {
+
+    long line();
+
+    record ProjectRow(long line, ProjectDto project) implements ArchiveRecord {}
+
+    record TaskRow(long line, TaskDto task) implements ArchiveRecord {}
+
+    record UpdateRow(long line, UpdateDto update) implements ArchiveRecord {}
+
+    record PlanningRow(long line, PlanningItemDto item) implements ArchiveRecord {}
+}
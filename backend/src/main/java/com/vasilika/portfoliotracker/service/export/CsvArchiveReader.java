@@ -0,0 +1,216 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads the CSV export (see CsvExportWriter for the columns).
+ *
+ * - RFC 4180 quoting, quoted fields may span lines
+ * - columns are matched by header name, so their order does not matter
+ * - an empty field reads as null (the writer never quotes empty values)
+ * - project_slug is resolved against the project rows read so far
+ */
+class CsvArchiveReader implements ArchiveReader {
+
+    private static final String[] COLUMNS = CsvExportWriter.HEADER.split(",");
+
+    private final BufferedReader in;
+    private final Map<String, UUID> projectIdsBySlug = new HashMap<>();
+
+    private Map<String, Integer> columnIndex;
+    private boolean broken;
+    private long lineNumber = 1;
+
+    CsvArchiveReader(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ArchiveRecord next() throws IOException {
+        if (broken) return null;
+        if (columnIndex == null) readHeader();
+
+        List<String> fields;
+        long line;
+        do {
+            line = lineNumber;
+            fields = readRecord();
+            if (fields == null) return null;
+        } while (fields.size() == 1 && fields.get(0) == null);
+
+        Row row = new Row(line, fields);
+        String record = row.text("record");
+
+        if ("project".equals(record)) {
+            var project = new ProjectDto(
+                    row.uuid("id"), row.text("project_slug"), row.text("title"), row.text("summary"),
+                    row.text("text"), row.text("tech_stack"), row.text("repo_url"), row.text("live_url"),
+                    row.instant("created_at"), row.instant("updated_at"));
+            if (project.slug() != null && project.id() != null) {
+                projectIdsBySlug.put(project.slug(), project.id());
+            }
+            return new ArchiveRecord.ProjectRow(line, project);
+        }
+        if ("task".equals(record)) {
+            return new ArchiveRecord.TaskRow(line, new TaskDto(
+                    row.uuid("id"), row.projectId(), row.text("title"), row.text("text"),
+                    row.text("status"), row.text("type"), row.text("priority"), row.text("target_version"),
+                    row.instant("created_at"), row.instant("updated_at")));
+        }
+        if ("update".equals(record)) {
+            return new ArchiveRecord.UpdateRow(line, new UpdateDto(
+                    row.uuid("id"), row.projectId(), row.uuid("task_id"), null,
+                    row.text("title"), row.text("text"), row.instant("created_at")));
+        }
+        if ("planning".equals(record)) {
+            return new ArchiveRecord.PlanningRow(line, new PlanningItemDto(
+                    row.uuid("id"), row.projectId(), row.uuid("task_id"), row.text("title"),
+                    null, null, null, null, null,
+                    row.integer("sort_order"), "true".equals(row.text("is_current")),
+                    row.instant("created_at"), row.instant("updated_at")));
+        }
+        throw new ArchiveFormatException(line, "record", "Unknown record type: " + record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        columnIndex = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i) != null) columnIndex.put(header.get(i).trim(), i);
+            }
+        }
+        for (String column : COLUMNS) {
+            if (!columnIndex.containsKey(column)) {
+                broken = true;
+                throw new ArchiveFormatException(1, column, "Missing CSV column: " + column);
+            }
+        }
+    }
+
+    /**
+     * Reads one record, or returns null at the end of the input.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = in.read();
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>(COLUMNS.length);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    broken = true;
+                    throw new ArchiveFormatException(lineNumber, null, "Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = in.read();
+                    if (next != '"') {
+                        inQuotes = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty() && !quoted) {
+                quoted = true;
+                inQuotes = true;
+            } else if (c == ',' || c == '\n' || c == -1) {
+                fields.add(field.isEmpty() && !quoted ? null : field.toString());
+                field.setLength(0);
+                quoted = false;
+
+                if (c != ',') {
+                    if (c == '\n') lineNumber++;
+                    return fields;
+                }
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    /**
+     * Typed access to the fields of one record.
+     */
+    private final class Row {
+
+        private final long line;
+        private final List<String> fields;
+
+        Row(long line, List<String> fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+
+        String text(String column) {
+            int i = columnIndex.get(column);
+            return i < fields.size() ? fields.get(i) : null;
+        }
+
+        UUID uuid(String column) {
+            String value = text(column);
+            if (value == null) return null;
+            try {
+                return UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                throw new ArchiveFormatException(line, column, "Invalid UUID: " + value);
+            }
+        }
+
+        Instant instant(String column) {
+            String value = text(column);
+            if (value == null) return null;
+            try {
+                return Instant.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new ArchiveFormatException(line, column, "Invalid timestamp: " + value);
+            }
+        }
+
+        int integer(String column) {
+            String value = text(column);
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new ArchiveFormatException(line, column, "Invalid number: " + value);
+            }
+        }
+
+        UUID projectId() {
+            String slug = text("project_slug");
+            UUID id = projectIdsBySlug.get(slug);
+            if (id == null) {
+                throw new ArchiveFormatException(line, "project_slug", "No project row for slug: " + slug);
+            }
+            return id;
+        }
+    }
+}
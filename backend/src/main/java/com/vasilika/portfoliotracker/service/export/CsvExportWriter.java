@@ -0,0 +1,107 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV export (RFC 4180): one row per project, task, update and planning item.
+ *
+ * Columns:
+ *   record, project_slug, id, task_id, title, status, type, priority,
+ *   target_version, text, sort_order, is_current, summary, tech_stack,
+ *   repo_url, live_url, created_at, updated_at
+ *
+ * - project rows:  title = name, text = description, summary .. live_url set
+ * - task rows:     text = description
+ * - update rows:   task_id = linked task, text = body
+ * - planning rows: task_id = planned task, title = its title, sort_order, is_current
+ */
+class CsvExportWriter implements ExportWriter {
+
+    static final String HEADER = "record,project_slug,id,task_id,title,status,type,priority,"
+            + "target_version,text,sort_order,is_current,summary,tech_stack,"
+            + "repo_url,live_url,created_at,updated_at";
+
+    private final Writer out;
+    private String projectSlug;
+
+    CsvExportWriter(OutputStream out) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.out.write(HEADER);
+        this.out.write("\r\n");
+    }
+
+    @Override
+    public void project(ProjectDto p) {
+        projectSlug = p.slug();
+        row("project", projectSlug, p.id(), null, p.name(), null, null, null,
+                null, p.description(), null, null, p.summary(), p.techStack(),
+                p.repoUrl(), p.liveUrl(), p.createdAt(), p.updatedAt());
+    }
+
+    @Override
+    public void task(TaskDto t) {
+        row("task", projectSlug, t.id(), null, t.title(), t.status(), t.type(), t.priority(),
+                t.targetVersion(), t.description(), null, null, null, null,
+                null, null, t.createdAt(), t.updatedAt());
+    }
+
+    @Override
+    public void update(UpdateDto u) {
+        row("update", projectSlug, u.id(), u.taskId(), u.title(), null, null, null,
+                null, u.body(), null, null, null, null,
+                null, null, u.createdAt(), null);
+    }
+
+    @Override
+    public void planning(PlanningItemDto i) {
+        row("planning", projectSlug, i.id(), i.taskId(), i.taskTitle(), null, null, null,
+                null, null, i.sortOrder(), i.isCurrent(), null, null,
+                null, null, i.createdAt(), i.updatedAt());
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    private void row(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) out.write(',');
+                if (values[i] != null) writeField(values[i].toString());
+            }
+            out.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Quotes fields containing a separator, quote or line break.
+     */
+    private void writeField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
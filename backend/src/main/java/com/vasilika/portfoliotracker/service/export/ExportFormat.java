@@ -0,0 +1,42 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import java.util.Locale;
+
+/**
+ * Output formats of the project exports.
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line: {"type": "project" | "task" | "update" | "planning", "data": {...}} */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** One header row, then one row per project / task / update / planning item */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Case-insensitive lookup of a ?format= value.
+     */
+    public static ExportFormat parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format: " + value + " (expected ndjson or csv)");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+
+import java.io.Closeable;
+
+/**
+ * Writes export rows straight to the response stream.
+ *
+ * Rows arrive as: project, its tasks, its updates, its planning board,
+ * next project... (the order ProjectRestoreService reads back).
+ * Implementations only buffer what their encoder needs (a few KB),
+ * and throw UncheckedIOException when the client goes away.
+ * close() flushes but never closes the underlying stream.
+ */
+interface ExportWriter extends Closeable {
+
+    void project(ProjectDto project);
+
+    void task(TaskDto task);
+
+    void update(UpdateDto update);
+
+    void planning(PlanningItemDto item);
+}
@@ -0,0 +1,66 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the NDJSON export: one {"type": ..., "data": ...} object per line.
+ * Blank lines are skipped.
+ */
+class NdjsonArchiveReader implements ArchiveReader {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedReader in;
+    private long lineNumber;
+
+    NdjsonArchiveReader(ObjectMapper objectMapper, InputStream in) {
+        this.objectMapper = objectMapper;
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ArchiveRecord next() throws IOException {
+        String text;
+        do {
+            text = in.readLine();
+            if (text == null) return null;
+            lineNumber++;
+        } while (text.isBlank());
+
+        long line = lineNumber;
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            String type = node.path("type").asText();
+            JsonNode data = node.get("data");
+            if (data == null || !data.isObject()) {
+                throw new ArchiveFormatException(line, "data", "Missing data object");
+            }
+
+            return switch (type) {
+                case "project" -> new ArchiveRecord.ProjectRow(line, objectMapper.treeToValue(data, ProjectDto.class));
+                case "task" -> new ArchiveRecord.TaskRow(line, objectMapper.treeToValue(data, TaskDto.class));
+                case "update" -> new ArchiveRecord.UpdateRow(line, objectMapper.treeToValue(data, UpdateDto.class));
+                case "planning" -> new ArchiveRecord.PlanningRow(line, objectMapper.treeToValue(data, PlanningItemDto.class));
+                default -> throw new ArchiveFormatException(line, "type", "Unknown record type: " + type);
+            };
+        } catch (JsonProcessingException e) {
+            throw new ArchiveFormatException(line, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
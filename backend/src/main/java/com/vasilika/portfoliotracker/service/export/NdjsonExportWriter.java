@@ -0,0 +1,68 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * NDJSON export: one {"type": ..., "data": ...} object per line.
+ *
+ * Uses a single JsonGenerator over the response stream, with the
+ * application ObjectMapper so DTOs look exactly like the API's.
+ */
+class NdjsonExportWriter implements ExportWriter {
+
+    private final JsonGenerator json;
+
+    NdjsonExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.json = objectMapper.getFactory().createGenerator(out);
+        this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are ended by hand; the default separator would prefix each one with a space
+        this.json.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void project(ProjectDto project) {
+        line("project", project);
+    }
+
+    @Override
+    public void task(TaskDto task) {
+        line("task", task);
+    }
+
+    @Override
+    public void update(UpdateDto update) {
+        line("update", update);
+    }
+
+    @Override
+    public void planning(PlanningItemDto item) {
+        line("planning", item);
+    }
+
+    @Override
+    public void close() throws IOException {
+        json.close();
+    }
+
+    private void line(String type, Object data) {
+        try {
+            json.writeStartObject();
+            json.writeStringField("type", type);
+            json.writeFieldName("data");
+            json.writeObject(data);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
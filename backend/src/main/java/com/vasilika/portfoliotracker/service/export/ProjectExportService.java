@@ -0,0 +1,130 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.PlanningItem;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.Update;
+import com.vasilika.portfoliotracker.repo.ProjectExportRepository;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.web.mapper.PlanningItemMapper;
+import com.vasilika.portfoliotracker.web.mapper.ProjectMapper;
+import com.vasilika.portfoliotracker.web.mapper.TaskMapper;
+import com.vasilika.portfoliotracker.web.mapper.UpdateMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * =========================================
+ * Project Export Service
+ * =========================================
+ *
+ * Streams whole projects (project row, every task, update and
+ * planning item) as NDJSON or CSV without building them in memory.
+ *
+ * Flow per project:
+ * 1) Read the project row
+ * 2) Stream tasks, updates, then planning items,
+ *    app.export.fetch-size rows per round trip
+ * 3) Write each row to the response, then detach its entity
+ *
+ * Heap stays flat whatever the project size: at most one fetch
+ * of rows is held by the driver, and the persistence context
+ * never grows past the row being written.
+ *
+ * Called from StreamingResponseBody, i.e. on an MVC async thread:
+ * each export runs in its own read-only transaction there.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class ProjectExportService {
+
+    private final ProjectRepository projects;
+    private final ProjectExportRepository exportRows;
+    private final ObjectMapper objectMapper;
+
+    public ProjectExportService(ProjectRepository projects,
+                                ProjectExportRepository exportRows,
+                                ObjectMapper objectMapper) {
+        this.projects = projects;
+        this.exportRows = exportRows;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Resolves a PUBLIC project (demo excluded) before the response starts,
+     * so an unknown slug is still a normal error response.
+     */
+    @Transactional(readOnly = true)
+    public UUID requirePublicProjectId(String slug) {
+        return projects.findBySlugAndDemo(slug, false)
+                .map(Project::getId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + slug));
+    }
+
+    /**
+     * Writes one project.
+     */
+    @Transactional(readOnly = true)
+    public void exportProject(UUID projectId, ExportFormat format, OutputStream out) throws IOException {
+        try (ExportWriter writer = writer(format, out)) {
+            writeProject(projectId, writer);
+        }
+    }
+
+    /**
+     * Writes every real portfolio project (demo sandboxes excluded), oldest first.
+     */
+    @Transactional(readOnly = true)
+    public void exportPublicProjects(ExportFormat format, OutputStream out) throws IOException {
+        try (ExportWriter writer = writer(format, out)) {
+            for (UUID projectId : exportRows.findPublicProjectIds()) {
+                writeProject(projectId, writer);
+            }
+        }
+    }
+
+    private void writeProject(UUID projectId, ExportWriter writer) {
+        Project project = exportRows.findProject(projectId);
+        if (project == null) return; // deleted after the id list was read
+
+        writer.project(ProjectMapper.toDto(project));
+        exportRows.detach(project);
+
+        try (Stream<Task> tasks = exportRows.streamTasks(projectId)) {
+            tasks.forEach(t -> {
+                writer.task(TaskMapper.toDto(t));
+                exportRows.detach(t);
+            });
+        }
+
+        try (Stream<Update> updates = exportRows.streamUpdates(projectId)) {
+            updates.forEach(u -> {
+                writer.update(UpdateMapper.toDto(u));
+                if (u.getTask() != null) exportRows.detach(u.getTask());
+                exportRows.detach(u);
+            });
+        }
+
+        try (Stream<PlanningItem> board = exportRows.streamPlanning(projectId)) {
+            board.forEach(i -> {
+                writer.planning(PlanningItemMapper.toDto(i));
+                exportRows.detach(i.getTask());
+                exportRows.detach(i);
+            });
+        }
+    }
+
+    private ExportWriter writer(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter(objectMapper, out);
+            case CSV -> new CsvExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,364 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.repo.ProjectRestoreRepository;
+import com.vasilika.portfoliotracker.service.TaskTypeOptionService;
+import com.vasilika.portfoliotracker.service.query.PublicProjectCache;
+import com.vasilika.portfoliotracker.service.query.TaskTitleIndex;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.RestoreResultDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Project Restore Service
+ * =========================================
+ *
+ * Restores an archive written by ProjectExportService (NDJSON or CSV)
+ * into projects, tasks, updates and planning_items.
+ *
+ * Flow (one pass over the upload, one transaction):
+ * 1) Read one row, validate it against the rows before it
+ * 2) Valid => COPY it to the database right away
+ * 3) First error => stop writing, keep validating to report
+ *    up to MAX_ERRORS errors, then roll everything back
+ * 4) Success => rebuild each project's counters, evict the public cache
+ *    and the task title index
+ *
+ * Rows must come in export order: a project row, then its tasks,
+ * updates and planning items. So only the current project's task ids
+ * are kept in memory, never the whole archive.
+ *
+ * Projects keep their archived ids. An existing real project with
+ * the same slug is an error, unless replace=true (it is deleted first).
+ * Ids are checked within a project; primary keys catch the rest.
+ * Planning items of DONE tasks are restored as stored (the board
+ * read hides them, exactly like before the backup).
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class ProjectRestoreService {
+
+    static final int MAX_ERRORS = 100;
+
+    private final ProjectRestoreRepository restoreRows;
+    private final TaskTypeOptionService taskTypeOptionService;
+    private final PublicProjectCache publicCache;
+    private final TaskTitleIndex titleIndex;
+    private final ObjectMapper objectMapper;
+
+    public ProjectRestoreService(ProjectRestoreRepository restoreRows,
+                                 TaskTypeOptionService taskTypeOptionService,
+                                 PublicProjectCache publicCache,
+                                 TaskTitleIndex titleIndex,
+                                 ObjectMapper objectMapper) {
+        this.restoreRows = restoreRows;
+        this.taskTypeOptionService = taskTypeOptionService;
+        this.publicCache = publicCache;
+        this.titleIndex = titleIndex;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Restores every row of the archive, or none of them.
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public RestoreResultDto restore(ExportFormat format, boolean replace, InputStream in) throws IOException {
+        Restore run = new Restore(replace);
+
+        try (ArchiveReader reader = reader(format, in);
+             ProjectRestoreRepository.Session session = restoreRows.open()) {
+            run.session = session;
+
+            while (run.errors.size() < MAX_ERRORS) {
+                ArchiveRecord record;
+                try {
+                    record = reader.next();
+                } catch (ArchiveFormatException e) {
+                    run.received++;
+                    run.error(e.line(), e.field(), e.getMessage());
+                    continue;
+                }
+                if (record == null) break;
+
+                run.received++;
+                run.accept(record);
+            }
+            run.finishProject();
+            run.write(session::endCopy);
+        }
+
+        if (!run.errors.isEmpty()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return RestoreResultDto.failed(run.received, run.errors);
+        }
+
+        publicCache.evictList();
+        run.restoredIds.forEach(publicCache::evictProject);
+        run.replacedIds.forEach(publicCache::evictProject);
+        run.restoredIds.forEach(titleIndex::evictProject);
+        run.replacedIds.forEach(titleIndex::evictProject);
+
+        return new RestoreResultDto(run.received, run.restoredIds.size(),
+                run.tasks, run.updates, run.planningItems, List.of());
+    }
+
+    private ArchiveReader reader(ExportFormat format, InputStream in) {
+        return switch (format) {
+            case NDJSON -> new NdjsonArchiveReader(objectMapper, in);
+            case CSV -> new CsvArchiveReader(in);
+        };
+    }
+
+    /**
+     * State of one restore run.
+     */
+    private final class Restore {
+
+        private final boolean replace;
+        private final Instant now = Instant.now();
+
+        private ProjectRestoreRepository.Session session;
+        private boolean writing = true;
+
+        private final List<RestoreResultDto.RowError> errors = new ArrayList<>();
+        private final Set<String> slugs = new HashSet<>();
+        private final List<UUID> restoredIds = new ArrayList<>();
+        private final List<UUID> replacedIds = new ArrayList<>();
+
+        private long received;
+        private long tasks;
+        private long updates;
+        private long planningItems;
+
+        // The project whose rows are being read
+        private UUID projectId;
+        private boolean projectWritten;
+        private final Set<UUID> projectTasks = new HashSet<>();
+        private final Set<UUID> plannedTasks = new HashSet<>();
+        private boolean hasCurrentItem;
+
+        Restore(boolean replace) {
+            this.replace = replace;
+        }
+
+        void accept(ArchiveRecord record) {
+            if (record instanceof ArchiveRecord.ProjectRow row) {
+                project(row.line(), row.project());
+            } else if (record instanceof ArchiveRecord.TaskRow row) {
+                task(row.line(), row.task());
+            } else if (record instanceof ArchiveRecord.UpdateRow row) {
+                update(row.line(), row.update());
+            } else if (record instanceof ArchiveRecord.PlanningRow row) {
+                planning(row.line(), row.item());
+            }
+        }
+
+        private void project(long line, ProjectDto p) {
+            finishProject();
+
+            int before = errors.size();
+            required(line, "id", p.id());
+            String slug = text(line, "slug", p.slug(), 120, true);
+            String name = text(line, "name", p.name(), 200, true);
+            text(line, "summary", p.summary(), 500, false);
+
+            if (slug != null && !slugs.add(slug)) {
+                error(line, "slug", "Slug appears more than once: " + slug);
+            }
+
+            projectId = p.id();
+            projectTasks.clear();
+            plannedTasks.clear();
+            hasCurrentItem = false;
+
+            if (errors.size() > before || !writing) return;
+
+            write(() -> {
+                if (replace) {
+                    replacedIds.addAll(session.deletePublicProject(slug));
+                } else if (session.publicSlugExists(slug)) {
+                    error(line, "slug", "Slug already exists: " + slug);
+                    return;
+                }
+
+                Instant createdAt = p.createdAt() != null ? p.createdAt() : now;
+                session.insertProject(new ProjectDto(
+                        p.id(), slug, name, p.summary(), p.description(), p.techStack(),
+                        p.repoUrl(), p.liveUrl(), createdAt,
+                        p.updatedAt() != null ? p.updatedAt() : createdAt));
+                restoredIds.add(p.id());
+                projectWritten = true;
+            });
+        }
+
+        private void task(long line, TaskDto t) {
+            if (!belongsToProject(line, t.projectId())) return;
+
+            int before = errors.size();
+            required(line, "id", t.id());
+            if (t.id() != null && projectTasks.contains(t.id())) {
+                error(line, "id", "Task appears more than once: " + t.id());
+            }
+            text(line, "title", t.title(), 200, true);
+            text(line, "targetVersion", t.targetVersion(), 40, false);
+            TaskStatus status = parseEnum(line, "status", TaskStatus.class, t.status());
+            TaskPriority priority = parseEnum(line, "priority", TaskPriority.class, t.priority());
+
+            String type = null;
+            try {
+                type = taskTypeOptionService.requireValidCode(t.type());
+            } catch (IllegalArgumentException e) {
+                error(line, "type", e.getMessage());
+            }
+
+            // Registered even when invalid, so its updates are not reported twice
+            if (t.id() != null) projectTasks.add(t.id());
+
+            if (errors.size() > before || !writing) return;
+
+            Instant createdAt = t.createdAt() != null ? t.createdAt() : now;
+            TaskDto row = new TaskDto(t.id(), projectId, t.title(), t.description(),
+                    status.name(), type, priority.name(), t.targetVersion(),
+                    createdAt, t.updatedAt() != null ? t.updatedAt() : createdAt);
+            write(() -> session.copyTask(row));
+            tasks++;
+        }
+
+        private void update(long line, UpdateDto u) {
+            if (!belongsToProject(line, u.projectId())) return;
+
+            int before = errors.size();
+            required(line, "id", u.id());
+            text(line, "title", u.title(), 200, true);
+            text(line, "body", u.body(), Integer.MAX_VALUE, true);
+            if (u.taskId() != null && !projectTasks.contains(u.taskId())) {
+                error(line, "taskId", "Task not found in this project: " + u.taskId());
+            }
+
+            if (errors.size() > before || !writing) return;
+
+            UpdateDto row = new UpdateDto(u.id(), projectId, u.taskId(), null, u.title(), u.body(),
+                    u.createdAt() != null ? u.createdAt() : now);
+            write(() -> session.copyUpdate(row));
+            updates++;
+        }
+
+        private void planning(long line, PlanningItemDto i) {
+            if (!belongsToProject(line, i.projectId())) return;
+
+            int before = errors.size();
+            required(line, "id", i.id());
+            required(line, "taskId", i.taskId());
+
+            if (i.taskId() != null) {
+                if (!projectTasks.contains(i.taskId())) {
+                    error(line, "taskId", "Task not found in this project: " + i.taskId());
+                }
+                if (!plannedTasks.add(i.taskId())) {
+                    error(line, "taskId", "Task appears more than once: " + i.taskId());
+                }
+            }
+            if (i.isCurrent()) {
+                if (hasCurrentItem) {
+                    error(line, "isCurrent", "Only one planning item can be marked as current.");
+                }
+                hasCurrentItem = true;
+            }
+
+            if (errors.size() > before || !writing) return;
+
+            Instant createdAt = i.createdAt() != null ? i.createdAt() : now;
+            PlanningItemDto row = new PlanningItemDto(i.id(), projectId, i.taskId(), null, null, null, null,
+                    null, null, i.sortOrder(), i.isCurrent(),
+                    createdAt, i.updatedAt() != null ? i.updatedAt() : createdAt);
+            write(() -> session.copyPlanningItem(row));
+            planningItems++;
+        }
+
+        /**
+         * Rebuilds the counters of the project just completed.
+         */
+        void finishProject() {
+            if (projectWritten && writing) {
+                UUID id = projectId;
+                write(() -> session.rebuildCounters(id));
+            }
+            projectWritten = false;
+        }
+
+        /**
+         * Runs a database step while nothing has failed yet.
+         * A rejected row aborts the transaction, so it ends all writing.
+         */
+        void write(Runnable step) {
+            if (!writing) return;
+            try {
+                step.run();
+            } catch (DataAccessException e) {
+                error(0, null, e.getMessage());
+            }
+        }
+
+        void error(long line, String field, String message) {
+            writing = false;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new RestoreResultDto.RowError(line, field, message));
+            }
+        }
+
+        private boolean belongsToProject(long line, UUID rowProjectId) {
+            if (projectId != null && projectId.equals(rowProjectId)) return true;
+            error(line, "projectId", "Row does not belong to the project row above it");
+            return false;
+        }
+
+        private void required(long line, String field, Object value) {
+            if (value == null) error(line, field, "must not be null");
+        }
+
+        private String text(long line, String field, String value, int max, boolean required) {
+            if (value == null || value.isBlank()) {
+                if (required) error(line, field, "must not be blank");
+                return null;
+            }
+            if (value.length() > max) {
+                error(line, field, "size must be between 0 and " + max);
+                return null;
+            }
+            return value.trim();
+        }
+
+        private <E extends Enum<E>> E parseEnum(long line, String field, Class<E> enumClass, String value) {
+            if (value == null) {
+                error(line, field, "must not be null");
+                return null;
+            }
+            try {
+                return Enum.valueOf(enumClass, value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                error(line, field, "Unknown value: " + value);
+                return null;
+            }
+        }
+    }
+}
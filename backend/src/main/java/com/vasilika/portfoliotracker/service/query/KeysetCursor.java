@@ -0,0 +1,59 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Keyset Cursor
+ * =========================================
+ *
+ * Position of the last row of a page, as (createdAt, id).
+ *
+ * Why keyset instead of OFFSET?
+ * - OFFSET makes the database walk and discard every skipped row
+ * - A cursor continues right after the last row seen, so page 1000
+ *   costs the same as page 1
+ *
+ * Clients receive the cursor as an opaque URL-safe string and
+ * send it back unchanged to get the next page.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Encodes this cursor into an opaque token.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * Returns null for a missing token (first page).
+     * Throws IllegalArgumentException for a malformed one (mapped to 400).
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new KeysetCursor(
+                    Instant.parse(raw.substring(0, sep)),
+                    UUID.fromString(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
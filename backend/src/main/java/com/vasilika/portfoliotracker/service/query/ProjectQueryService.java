@@ -1,25 +1,40 @@
 package com.vasilika.portfoliotracker.service.query;
 
 import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.Update;
+import com.vasilika.portfoliotracker.domain.VersionStamp;
 import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
 import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.repo.ProjectCounterRepository;
 import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.ProjectStatsRepository;
+import com.vasilika.portfoliotracker.repo.ProjectVersionRepository;
 import com.vasilika.portfoliotracker.repo.TaskRepository;
 import com.vasilika.portfoliotracker.repo.UpdateRepository;
 import com.vasilika.portfoliotracker.service.TaskTypeOptionService;
+import com.vasilika.portfoliotracker.web.dto.CursorPageDto;
 import com.vasilika.portfoliotracker.web.dto.PageDto;
 import com.vasilika.portfoliotracker.web.dto.ProjectDetailsDto;
 import com.vasilika.portfoliotracker.web.dto.ProjectDetailsPagedDto;
-import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectStatsDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
 import com.vasilika.portfoliotracker.web.mapper.ProjectMapper;
 import com.vasilika.portfoliotracker.web.mapper.TaskMapper;
 import com.vasilika.portfoliotracker.web.mapper.UpdateMapper;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * =========================================
@@ -30,12 +45,12 @@ import java.util.Locale;
  * - Listing projects
  * - Retrieving project details
  * - Filtering and paginating tasks
- * - Paginating updates
+ * - Paginating updates (page numbers or keyset cursors)
  *
  * IMPORTANT: This service supports TWO "tenants":
  * -------------------------------------------------
  * 1) Public portfolio data (demo=false)
- * 2) Demo sandbox data (demo=true)
+ * 2) Demo sandbox data (demo=true, scoped by sandbox id)
  *
  * We keep these separate so:
  * - Demo users can freely CRUD without touching real data
@@ -46,12 +61,33 @@ import java.util.Locale;
  * - Query service              = read operations for both, via explicit methods
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class ProjectQueryService {
 
+    /**
+     * Upper bound for cursor page sizes.
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * Full task list order (public and demo details):
+     * 1) Status order
+     * 2) Creation time (ascending)
+     *
+     * Package-private so the benchmarks module can measure it.
+     */
+    static final Comparator<Task> TASK_ORDER = Comparator
+            .comparingInt((Task t) -> t.getStatus().ordinal())
+            .thenComparing(Task::getCreatedAt);
+
     private final ProjectRepository projects;
     private final TaskRepository tasks;
     private final UpdateRepository updates;
     private final TaskTypeOptionService taskTypeOptionService;
+    private final ProjectCounterRepository counters;
+    private final PublicProjectCache publicCache;
+    private final ProjectVersionRepository versions;
+    private final ProjectStatsRepository stats;
 
     /**
      * Constructor injection for repositories.
@@ -60,12 +96,20 @@ public class ProjectQueryService {
             ProjectRepository projects,
             TaskRepository tasks,
             UpdateRepository updates,
-            TaskTypeOptionService taskTypeOptionService
+            TaskTypeOptionService taskTypeOptionService,
+            ProjectCounterRepository counters,
+            PublicProjectCache publicCache,
+            ProjectVersionRepository versions,
+            ProjectStatsRepository stats
     ) {
         this.projects = projects;
         this.tasks = tasks;
         this.updates = updates;
         this.taskTypeOptionService = taskTypeOptionService;
+        this.counters = counters;
+        this.publicCache = publicCache;
+        this.versions = versions;
+        this.stats = stats;
     }
 
     // =========================================================
@@ -78,12 +122,53 @@ public class ProjectQueryService {
      * Used for:
      * - Portfolio overview page
      * - Public project listing
+     *
+     * Served from PublicProjectCache; admin writes invalidate it.
+     * Cards only: read as a projection of the listed columns.
      */
-    public List<ProjectDto> listPublicProjects() {
-        return projects.findAllByDemoFalseOrderByCreatedAtDesc()
-                .stream()
-                .map(ProjectMapper::toDto)
-                .toList();
+    public List<ProjectSummaryDto> listPublicProjects() {
+        return publicCache.getList(projects::findPublicSummaries);
+    }
+
+    /**
+     * Version stamp of the PUBLIC project list.
+     *
+     * One aggregate over the projects table; lets the controller
+     * answer conditional GETs without building the list.
+     */
+    public VersionStamp getPublicListVersion() {
+        return versions.findPublicListVersion()
+                .orElse(new VersionStamp(Instant.EPOCH, 0));
+    }
+
+    /**
+     * Version stamp of one PUBLIC project (project row, tasks and updates).
+     *
+     * Reads no task or update rows: newest timestamps come from the
+     * (project_id, updated_at) indexes and item counts from the counters.
+     */
+    public VersionStamp getPublicProjectVersion(String slug) {
+        return versions.findPublicProjectVersion(slug)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + slug));
+    }
+
+    /**
+     * Returns one keyset page of PUBLIC projects, newest first.
+     *
+     * Cost is the same at any depth: the cursor continues right
+     * after the last project of the previous page.
+     */
+    public CursorPageDto<ProjectSummaryDto> listPublicProjectsPage(int size, String cursor) {
+        int limit = requireCursorPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<ProjectSummaryDto> rows = after == null
+                ? projects.findPublicFirstPage(PageRequest.ofSize(limit + 1))
+                : projects.findPublicAfter(after.createdAt(), after.id(), PageRequest.ofSize(limit + 1));
+
+        return toCursorPage(rows, limit,
+                p -> new KeysetCursor(p.createdAt(), p.id()).encode(),
+                Function.identity());
     }
 
     /**
@@ -94,20 +179,17 @@ public class ProjectQueryService {
      * - All updates (newest first)
      *
      * This version loads everything without pagination.
+     * Served from PublicProjectCache; admin writes invalidate it.
      */
     public ProjectDetailsDto getPublicDetails(String slug) {
+        return publicCache.getDetails(slug, () -> loadPublicDetails(slug));
+    }
+
+    private ProjectDetailsDto loadPublicDetails(String slug) {
         Project project = requireProjectBySlugAndDemo(slug, false);
 
-        // Sort tasks by:
-        // 1) Status order
-        // 2) Creation time (ascending)
         var taskDtos = tasks.findByProject_Id(project.getId()).stream()
-                .sorted((a, b) -> {
-                    int sa = a.getStatus().ordinal();
-                    int sb = b.getStatus().ordinal();
-                    if (sa != sb) return Integer.compare(sa, sb);
-                    return a.getCreatedAt().compareTo(b.getCreatedAt());
-                })
+                .sorted(TASK_ORDER)
                 .map(TaskMapper::toDto)
                 .toList();
 
@@ -145,44 +227,76 @@ public class ProjectQueryService {
     ) {
         Project project = requireProjectBySlugAndDemo(slug, false);
 
-        // Parse optional filters
+        return buildPagedDetails(project, status, type, priority,
+                tasksPage, tasksSize, updatesPage, updatesSize);
+    }
+
+    /**
+     * Returns one keyset page of a PUBLIC project's update timeline.
+     *
+     * Uses (createdAt, id) cursors on idx_updates_project_created_at_id,
+     * so there is no OFFSET scan and no count query.
+     */
+    public CursorPageDto<UpdateDto> getPublicTimeline(String slug, int size, String cursor) {
+        Project project = requireProjectBySlugAndDemo(slug, false);
+        int limit = requireCursorPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Update> rows = after == null
+                ? updates.findTimelineFirstPage(project.getId(), PageRequest.ofSize(limit + 1))
+                : updates.findTimelineAfter(project.getId(), after.createdAt(), after.id(),
+                        PageRequest.ofSize(limit + 1));
+
+        return toCursorPage(rows, limit,
+                u -> new KeysetCursor(u.getCreatedAt(), u.getId()).encode(),
+                UpdateMapper::toDto);
+    }
+
+    /**
+     * Returns one keyset page of a PUBLIC project's tasks in Kanban order
+     * (BACKLOG -> IN_PROGRESS -> DONE, then oldest first).
+     *
+     * Rows come straight from idx_tasks_project_rank_created_id,
+     * so no page needs a sort or an OFFSET scan.
+     */
+    public CursorPageDto<TaskDto> getPublicTasksPage(
+            String slug,
+            String status,
+            String type,
+            String priority,
+            int size,
+            String cursor
+    ) {
+        Project project = requireProjectBySlugAndDemo(slug, false);
+        int limit = requireCursorPageSize(size);
+        TaskKeysetCursor after = TaskKeysetCursor.decode(cursor);
+
         TaskStatus st = status == null ? null : parseEnum(TaskStatus.class, status);
         String ty = type == null ? null : taskTypeOptionService.requireValidCode(type);
         TaskPriority pr = priority == null ? null : parseEnum(TaskPriority.class, priority);
 
-        // Task pagination
-        Pageable tp = PageRequest.of(tasksPage, tasksSize);
-        var taskPage = tasks.findPagedForProject(project.getId(), st, ty, pr, tp);
-
-        // Update pagination
-        Pageable up = PageRequest.of(updatesPage, updatesSize);
-        var updatePage = updates.findByProject_IdOrderByCreatedAtDesc(project.getId(), up);
-
-        // Wrap task results into PageDto
-        var tasksDto = new PageDto<>(
-                taskPage.getContent().stream().map(TaskMapper::toDto).toList(),
-                taskPage.getNumber(),
-                taskPage.getSize(),
-                taskPage.getTotalElements(),
-                taskPage.getTotalPages(),
-                taskPage.hasNext()
+        List<Task> rows = tasks.findKanbanPage(
+                project.getId(), st, ty, pr,
+                after == null ? null : after.statusRank(),
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                limit + 1
         );
 
-        // Wrap update results into PageDto
-        var updatesDto = new PageDto<>(
-                updatePage.getContent().stream().map(UpdateMapper::toDto).toList(),
-                updatePage.getNumber(),
-                updatePage.getSize(),
-                updatePage.getTotalElements(),
-                updatePage.getTotalPages(),
-                updatePage.hasNext()
-        );
+        return toCursorPage(rows, limit,
+                t -> new TaskKeysetCursor(t.getStatusRank(), t.getCreatedAt(), t.getId()).encode(),
+                TaskMapper::toDto);
+    }
 
-        return new ProjectDetailsPagedDto(
-                ProjectMapper.toDto(project),
-                tasksDto,
-                updatesDto
-        );
+    /**
+     * Returns the Kanban counts and progress of a PUBLIC project.
+     *
+     * One statement: project by slug joined to its project_stats row
+     * (kept current by ProjectCounterRepository), no task is loaded.
+     */
+    public ProjectStatsDto getPublicStats(String slug) {
+        return stats.findPublicBySlug(slug)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + slug));
     }
 
     // =========================================================
@@ -192,30 +306,22 @@ public class ProjectQueryService {
     // You can keep your demo controllers simple and call these.
 
     /**
-     * Returns all DEMO sandbox projects (only demo=true).
+     * Returns the projects of one DEMO sandbox.
      * Useful for a demo-only projects list page if you want one.
      */
-    public List<ProjectDto> listDemoProjects() {
-        return projects.findAllByDemoTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(ProjectMapper::toDto)
-                .toList();
+    public List<ProjectSummaryDto> listDemoProjects(UUID sandboxId) {
+        return projects.findSandboxSummaries(sandboxId);
     }
 
     /**
-     * Returns demo project details by slug (demo=true).
+     * Returns demo project details by slug within one sandbox.
      * Same shape as public details.
      */
-    public ProjectDetailsDto getDemoDetails(String slug) {
-        Project project = requireProjectBySlugAndDemo(slug, true);
+    public ProjectDetailsDto getDemoDetails(UUID sandboxId, String slug) {
+        Project project = requireSandboxProjectBySlug(sandboxId, slug);
 
         var taskDtos = tasks.findByProject_Id(project.getId()).stream()
-                .sorted((a, b) -> {
-                    int sa = a.getStatus().ordinal();
-                    int sb = b.getStatus().ordinal();
-                    if (sa != sb) return Integer.compare(sa, sb);
-                    return a.getCreatedAt().compareTo(b.getCreatedAt());
-                })
+                .sorted(TASK_ORDER)
                 .map(TaskMapper::toDto)
                 .toList();
 
@@ -233,9 +339,10 @@ public class ProjectQueryService {
     }
 
     /**
-     * Returns demo project details with pagination and filtering (demo=true).
+     * Returns demo project details with pagination and filtering (one sandbox).
      */
     public ProjectDetailsPagedDto getDemoDetailsPaged(
+            UUID sandboxId,
             String slug,
             String status,
             String type,
@@ -245,46 +352,69 @@ public class ProjectQueryService {
             int updatesPage,
             int updatesSize
     ) {
-        Project project = requireProjectBySlugAndDemo(slug, true);
+        Project project = requireSandboxProjectBySlug(sandboxId, slug);
 
+        return buildPagedDetails(project, status, type, priority,
+                tasksPage, tasksSize, updatesPage, updatesSize);
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    /**
+     * Builds paged project details without any count(*) query.
+     *
+     * - Task and update pages are fetched as Slices (one extra row for hasNext)
+     * - totalElements comes from the per-project counters, which the write
+     *   paths keep up to date (see ProjectCountersListener)
+     */
+    private ProjectDetailsPagedDto buildPagedDetails(
+            Project project,
+            String status,
+            String type,
+            String priority,
+            int tasksPage,
+            int tasksSize,
+            int updatesPage,
+            int updatesSize
+    ) {
+        // Parse optional filters
         TaskStatus st = status == null ? null : parseEnum(TaskStatus.class, status);
         String ty = type == null ? null : taskTypeOptionService.requireValidCode(type);
         TaskPriority pr = priority == null ? null : parseEnum(TaskPriority.class, priority);
 
-        Pageable tp = PageRequest.of(tasksPage, tasksSize);
-        var taskPage = tasks.findPagedForProject(project.getId(), st, ty, pr, tp);
-
-        Pageable up = PageRequest.of(updatesPage, updatesSize);
-        var updatePage = updates.findByProject_IdOrderByCreatedAtDesc(project.getId(), up);
-
-        var tasksDto = new PageDto<>(
-                taskPage.getContent().stream().map(TaskMapper::toDto).toList(),
-                taskPage.getNumber(),
-                taskPage.getSize(),
-                taskPage.getTotalElements(),
-                taskPage.getTotalPages(),
-                taskPage.hasNext()
-        );
+        // Task slice + cached total for this filter combination
+        var taskSlice = tasks.findSliceForProject(project.getId(), st, ty, pr, PageRequest.of(tasksPage, tasksSize));
+        long taskTotal = counters.countTasks(project.getId(), st, ty, pr);
 
-        var updatesDto = new PageDto<>(
-                updatePage.getContent().stream().map(UpdateMapper::toDto).toList(),
-                updatePage.getNumber(),
-                updatePage.getSize(),
-                updatePage.getTotalElements(),
-                updatePage.getTotalPages(),
-                updatePage.hasNext()
-        );
+        // Update slice + cached total
+        var updateSlice = updates.findSliceByProject_IdOrderByCreatedAtDesc(
+                project.getId(), PageRequest.of(updatesPage, updatesSize));
+        long updateTotal = counters.countUpdates(project.getId());
 
         return new ProjectDetailsPagedDto(
                 ProjectMapper.toDto(project),
-                tasksDto,
-                updatesDto
+                toPageDto(taskSlice, taskTotal, TaskMapper::toDto),
+                toPageDto(updateSlice, updateTotal, UpdateMapper::toDto)
         );
     }
 
-    // =========================================================
-    // Helpers
-    // =========================================================
+    /**
+     * Wraps a Slice plus a known total into PageDto.
+     */
+    private static <E, D> PageDto<D> toPageDto(Slice<E> slice, long total, Function<E, D> toDto) {
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+
+        return new PageDto<>(
+                slice.getContent().stream().map(toDto).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages,
+                slice.hasNext()
+        );
+    }
 
     /**
      * Loads a project by (slug, demo flag) or throws if missing.
@@ -296,6 +426,53 @@ public class ProjectQueryService {
                 .orElseThrow(() -> new IllegalArgumentException("Project not found: " + slug));
     }
 
+    /**
+     * Loads a demo project by slug inside one sandbox or throws if missing.
+     *
+     * Demo users only ever see their own sandbox.
+     */
+    private Project requireSandboxProjectBySlug(UUID sandboxId, String slug) {
+        return projects.findBySlugAndSandboxId(slug, sandboxId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + slug));
+    }
+
+    /**
+     * Validates a requested cursor page size.
+     */
+    private static int requireCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * Builds a cursor page from rows fetched with limit + 1.
+     *
+     * The extra row only tells us whether a next page exists;
+     * it is not returned to the client.
+     */
+    private static <E, D> CursorPageDto<D> toCursorPage(
+            List<E> rows,
+            int limit,
+            Function<E, String> cursorOf,
+            Function<E, D> toDto
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(page.get(page.size() - 1))
+                : null;
+
+        return new CursorPageDto<>(
+                page.stream().map(toDto).toList(),
+                limit,
+                nextCursor,
+                hasNext
+        );
+    }
+
     /**
      * Utility method to safely parse enum values.
      *
@@ -303,8 +480,10 @@ public class ProjectQueryService {
      * - Trims whitespace
      * - Converts to uppercase
      * - Matches enum constants
+     *
+     * Package-private so the benchmarks module can measure it.
      */
-    private static <E extends Enum<E>> E parseEnum(Class<E> enumClass, String value) {
+    static <E extends Enum<E>> E parseEnum(Class<E> enumClass, String value) {
         return Enum.valueOf(enumClass, value.trim().toUpperCase(Locale.ROOT));
     }
 }
\ No newline at end of file
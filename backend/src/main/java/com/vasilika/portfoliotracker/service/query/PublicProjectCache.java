@@ -0,0 +1,222 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.web.dto.ProjectDetailsDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * =========================================
+ * Public Project Cache
+ * =========================================
+ *
+ * Read-through cache for the anonymous portfolio pages:
+ * - ProjectDetailsDto by slug (LRU, bounded)
+ * - The public project list (single entry)
+ *
+ * Eviction:
+ * - LRU once more than max-entries slugs are cached
+ * - TTL as a safety net
+ * - Precise invalidation from every admin write (evictProject / evictList)
+ *
+ * Invalidation inside a transaction runs after commit, so a reader can
+ * never re-cache the old rows between eviction and commit. A generation
+ * counter stops a load that started before an eviction from being stored.
+ *
+ * Configuration (application.yml):
+ *   app.cache.public-projects.max-entries  (default 200)
+ *   app.cache.public-projects.ttl          (default 10m)
+ */
+@Component
+public class PublicProjectCache {
+
+    /**
+     * Hit / miss / eviction counters, exposed to admins.
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size) {}
+
+    private record Entry<T>(T value, long expiresAtNanos) {
+        boolean expired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    // Guarded by "this"
+    private final LinkedHashMap<String, Entry<ProjectDetailsDto>> details;
+    private final Map<UUID, String> slugByProjectId = new HashMap<>();
+    private Entry<List<ProjectSummaryDto>> list;
+    private long generation;
+
+    // Notified after a project's cached state is dropped (e.g. snapshot rebuilds)
+    private final List<Consumer<UUID>> projectEvictionListeners = new CopyOnWriteArrayList<>();
+
+    public PublicProjectCache(
+            @Value("${app.cache.public-projects.max-entries:200}") int maxEntries,
+            @Value("${app.cache.public-projects.ttl:PT10M}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+
+        // Access-ordered map = LRU
+        this.details = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<ProjectDetailsDto>> eldest) {
+                if (size() <= PublicProjectCache.this.maxEntries) {
+                    return false;
+                }
+                slugByProjectId.remove(eldest.getValue().value().project().id());
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns cached details for a slug, or loads and caches them.
+     * Exceptions from the loader (e.g. not found) are not cached.
+     */
+    public ProjectDetailsDto getDetails(String slug, Supplier<ProjectDetailsDto> loader) {
+        long startGeneration;
+
+        synchronized (this) {
+            Entry<ProjectDetailsDto> entry = details.get(slug);
+            if (entry != null && !entry.expired(System.nanoTime())) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                removeDetails(slug);
+                evictions.increment();
+            }
+            startGeneration = generation;
+        }
+
+        misses.increment();
+        ProjectDetailsDto loaded = loader.get();
+
+        synchronized (this) {
+            if (generation == startGeneration) {
+                details.put(slug, new Entry<>(loaded, System.nanoTime() + ttlNanos));
+                slugByProjectId.put(loaded.project().id(), slug);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the cached public project list, or loads and caches it.
+     */
+    public List<ProjectSummaryDto> getList(Supplier<List<ProjectSummaryDto>> loader) {
+        long startGeneration;
+
+        synchronized (this) {
+            if (list != null && !list.expired(System.nanoTime())) {
+                hits.increment();
+                return list.value();
+            }
+            if (list != null) {
+                list = null;
+                evictions.increment();
+            }
+            startGeneration = generation;
+        }
+
+        misses.increment();
+        List<ProjectSummaryDto> loaded = loader.get();
+
+        synchronized (this) {
+            if (generation == startGeneration) {
+                list = new Entry<>(loaded, System.nanoTime() + ttlNanos);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached details of one project (tasks/updates/fields changed).
+     */
+    public void evictProject(UUID projectId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                String slug = slugByProjectId.get(projectId);
+                if (slug != null) {
+                    removeDetails(slug);
+                    invalidations.increment();
+                }
+            }
+            projectEvictionListeners.forEach(listener -> listener.accept(projectId));
+        });
+    }
+
+    /**
+     * Registers a callback that runs (after commit) whenever
+     * a project is evicted. Must be cheap: it runs on the writer's thread.
+     */
+    public void onProjectEvicted(Consumer<UUID> listener) {
+        projectEvictionListeners.add(listener);
+    }
+
+    /**
+     * Drops the cached project list (project created, renamed or deleted).
+     */
+    public void evictList() {
+        afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                if (list != null) {
+                    list = null;
+                    invalidations.increment();
+                }
+            }
+        });
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), details.size());
+    }
+
+    private void removeDetails(String slug) {
+        Entry<ProjectDetailsDto> removed = details.remove(slug);
+        if (removed != null) {
+            slugByProjectId.remove(removed.value().project().id());
+        }
+    }
+
+    /**
+     * Runs the action after the current transaction commits,
+     * or right away when there is no transaction.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
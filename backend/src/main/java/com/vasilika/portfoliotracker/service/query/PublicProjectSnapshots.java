@@ -0,0 +1,178 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.VersionStamp;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * =========================================
+ * Public Project Snapshots
+ * =========================================
+ *
+ * Pre-rendered JSON of public project details, one per project version.
+ *
+ * Each snapshot keeps:
+ * - the UTF-8 JSON bytes (identity)
+ * - a gzip variant, compressed once instead of on every response
+ *
+ * Lifecycle:
+ * - Built on the first request for a version
+ * - Rebuilt on a background thread after every admin write
+ *   (PublicProjectCache eviction callback, runs after commit)
+ * - Dropped when the project is deleted or renamed
+ *
+ * Only public projects are stored, so the map stays as small
+ * as the portfolio itself.
+ */
+@Component
+public class PublicProjectSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicProjectSnapshots.class);
+
+    /**
+     * Rendered bytes of one project version.
+     */
+    public record Snapshot(VersionStamp version, byte[] json, byte[] gzip) {
+
+        /**
+         * Picks the variant for an Accept-Encoding header.
+         * Returns null for identity (plain JSON).
+         */
+        public String encodingFor(String acceptEncoding) {
+            return gzip.length < json.length && acceptsGzip(acceptEncoding) ? "gzip" : null;
+        }
+
+        public byte[] bytes(String encoding) {
+            return "gzip".equals(encoding) ? gzip : json;
+        }
+    }
+
+    private final ProjectQueryService query;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Snapshot> bySlug = new ConcurrentHashMap<>();
+    private final Map<UUID, String> slugByProjectId = new ConcurrentHashMap<>();
+
+    // One thread is enough: rebuilds are rare and cheap next to the write itself
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "public-snapshot-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public PublicProjectSnapshots(ProjectQueryService query,
+                                  ObjectMapper objectMapper,
+                                  PublicProjectCache publicCache) {
+        this.query = query;
+        this.objectMapper = objectMapper;
+        publicCache.onProjectEvicted(this::rebuildLater);
+    }
+
+    /**
+     * Returns the snapshot of a project at the given version,
+     * rendering it now if the stored one is missing or older.
+     */
+    public Snapshot get(String slug, VersionStamp version) {
+        Snapshot current = bySlug.get(slug);
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        return render(slug, version);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Re-renders a project's snapshot off the request thread.
+     * Always renders, even if the version looks unchanged: the stored
+     * bytes may have been built from a cache entry that was about to be evicted.
+     */
+    private void rebuildLater(UUID projectId) {
+        String slug = slugByProjectId.get(projectId);
+        if (slug == null) return;
+
+        rebuilder.execute(() -> {
+            try {
+                render(slug, query.getPublicProjectVersion(slug));
+            } catch (IllegalArgumentException notFound) {
+                // Deleted, renamed or no longer public
+                bySlug.remove(slug);
+                slugByProjectId.remove(projectId, slug);
+            } catch (RuntimeException e) {
+                log.warn("Snapshot rebuild failed for {}", slug, e);
+                bySlug.remove(slug);
+            }
+        });
+    }
+
+    private Snapshot render(String slug, VersionStamp version) {
+        var details = query.getPublicDetails(slug);
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(details);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render project " + slug, e);
+        }
+
+        Snapshot snapshot = new Snapshot(version, json, gzip(json));
+        bySlug.put(slug, snapshot);
+        slugByProjectId.put(details.project().id(), slug);
+        return snapshot;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        var out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (var gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * True when Accept-Encoding lists gzip (or *) without q=0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().toLowerCase(Locale.ROOT).split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equals("gzip") && !coding.equals("*")) continue;
+
+            boolean refused = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) return true;
+        }
+        return false;
+    }
+}
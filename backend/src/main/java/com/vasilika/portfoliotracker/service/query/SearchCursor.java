@@ -0,0 +1,53 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Search Cursor
+ * =========================================
+ *
+ * Position of the last hit of a search page, as (rank, kind, id).
+ *
+ * Same idea as {@link KeysetCursor}, ordered by relevance:
+ * rank descending, then kind and id as tie-breakers.
+ * The rank is the exact float4 PostgreSQL returned,
+ * so the next page starts right after the last hit.
+ */
+public record SearchCursor(float rank, String kind, UUID id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Encodes this cursor into an opaque token.
+     */
+    public String encode() {
+        String raw = rank + "|" + kind + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * Returns null for a missing token (first page).
+     * Throws IllegalArgumentException for a malformed one (mapped to 400).
+     */
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            if (!parts[1].equals("TASK") && !parts[1].equals("UPDATE")) {
+                throw new IllegalArgumentException(parts[1]);
+            }
+            return new SearchCursor(Float.parseFloat(parts[0]), parts[1], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.SearchRepository;
+import com.vasilika.portfoliotracker.web.dto.CursorPageDto;
+import com.vasilika.portfoliotracker.web.dto.SearchHitDto;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Search Service
+ * =========================================
+ *
+ * Full-text search over the PUBLIC portfolio (demo projects excluded):
+ * - across every project  (GET /api/search)
+ * - inside one project    (GET /api/projects/{slug}/search)
+ *
+ * Tasks and updates are ranked together, best match first,
+ * and paged with opaque (rank, kind, id) cursors (see SearchCursor).
+ * Matching and ranking run in PostgreSQL (see SearchRepository).
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class SearchService {
+
+    static final int MAX_PAGE_SIZE = 50;
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private final SearchRepository search;
+    private final ProjectRepository projects;
+
+    public SearchService(SearchRepository search, ProjectRepository projects) {
+        this.search = search;
+        this.projects = projects;
+    }
+
+    /**
+     * Searches every PUBLIC project.
+     */
+    public CursorPageDto<SearchHitDto> searchPublic(String q, int size, String cursor) {
+        return page(null, q, size, cursor);
+    }
+
+    /**
+     * Searches one PUBLIC project.
+     */
+    public CursorPageDto<SearchHitDto> searchPublicProject(String slug, String q, int size, String cursor) {
+        UUID projectId = projects.findBySlugAndDemo(slug, false)
+                .map(Project::getId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + slug));
+        return page(projectId, q, size, cursor);
+    }
+
+    /**
+     * Reads limit + 1 hits: the extra one only tells whether a next page exists.
+     */
+    private CursorPageDto<SearchHitDto> page(UUID projectId, String q, int size, String cursor) {
+        String query = requireQuery(q);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        SearchCursor after = SearchCursor.decode(cursor);
+
+        List<SearchHitDto> rows = search.search(query, projectId,
+                after == null ? null : after.rank(),
+                after == null ? null : after.kind(),
+                after == null ? null : after.id(),
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<SearchHitDto> hits = hasNext ? rows.subList(0, size) : rows;
+
+        SearchHitDto last = hits.isEmpty() ? null : hits.get(hits.size() - 1);
+        String nextCursor = hasNext
+                ? new SearchCursor(last.rank(), last.kind(), last.id()).encode()
+                : null;
+
+        return new CursorPageDto<>(hits, size, nextCursor, hasNext);
+    }
+
+    private static String requireQuery(String q) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        String query = q.trim();
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return query;
+    }
+}
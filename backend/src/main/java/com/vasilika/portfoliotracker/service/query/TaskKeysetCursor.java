@@ -0,0 +1,55 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Task Keyset Cursor
+ * =========================================
+ *
+ * Position of the last task of a Kanban page,
+ * as (statusRank, createdAt, id).
+ *
+ * Same idea as {@link KeysetCursor}, with the Kanban column
+ * as the leading sort key.
+ */
+public record TaskKeysetCursor(short statusRank, Instant createdAt, UUID id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Encodes this cursor into an opaque token.
+     */
+    public String encode() {
+        String raw = statusRank + "|" + createdAt + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * Returns null for a missing token (first page).
+     * Throws IllegalArgumentException for a malformed one (mapped to 400).
+     */
+    public static TaskKeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            return new TaskKeysetCursor(
+                    Short.parseShort(parts[0]),
+                    Instant.parse(parts[1]),
+                    UUID.fromString(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.repo.TaskTitleRepository;
+import com.vasilika.portfoliotracker.web.dto.TaskSuggestionDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * =========================================
+ * Task Title Index
+ * =========================================
+ *
+ * In-memory typeahead over task titles, one index per REAL project
+ * (GET /admin/projects/{projectId}/tasks/suggest).
+ *
+ * Lifecycle:
+ * - Built on the first suggestion for a project (one query, see TaskTitleRepository)
+ * - Kept current after commit from every JPA task create, patch
+ *   and delete (TaskTitleIndexListener), so warm lookups run no SQL
+ * - Dropped after writes that bypass JPA (batch import, restore,
+ *   project delete) and rebuilt on the next suggestion
+ *
+ * Each project index is immutable (see TaskTitlePrefixIndex): a write
+ * computes the next one outside any lock and publishes it with a
+ * compare-and-set on the project's map entry, so writes to different
+ * projects never wait on each other and lookups never lock.
+ * A generation counter stops a build that raced with a write
+ * from being kept.
+ */
+@Component
+public class TaskTitleIndex {
+
+    static final int MAX_LIMIT = 20;
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private final TaskTitleRepository titles;
+
+    private final Map<UUID, TaskTitlePrefixIndex> byProject = new ConcurrentHashMap<>();
+
+    // Bumped by every write before it touches the map
+    private final AtomicLong generation = new AtomicLong();
+
+    public TaskTitleIndex(TaskTitleRepository titles) {
+        this.titles = titles;
+    }
+
+    /**
+     * Tasks of a real project whose title words start with the query terms.
+     * A blank query suggests nothing.
+     */
+    public List<TaskSuggestionDto> suggest(UUID projectId, String q, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (q != null && q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        TaskTitlePrefixIndex index = byProject.get(projectId);
+        if (index == null) {
+            index = load(projectId);
+        }
+        return index.suggest(q, limit);
+    }
+
+    /**
+     * A task was created or edited (applied after commit).
+     */
+    public void taskSaved(UUID projectId, TaskSuggestionDto task) {
+        update(projectId, index -> index.with(task));
+    }
+
+    /**
+     * A task was deleted (applied after commit).
+     */
+    public void taskRemoved(UUID projectId, UUID taskId) {
+        update(projectId, index -> index.without(taskId));
+    }
+
+    /**
+     * Drops a project's index after writes the listener does not see.
+     */
+    public void evictProject(UUID projectId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            byProject.remove(projectId);
+        });
+    }
+
+    private TaskTitlePrefixIndex load(UUID projectId) {
+        long startGeneration = generation.get();
+
+        TaskTitlePrefixIndex loaded = titles.findRealProjectTitles(projectId)
+                .map(TaskTitlePrefixIndex::of)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+
+        // A write after this check sees the stored index (and updates it),
+        // a write before it is caught by the second check
+        if (generation.get() == startGeneration
+                && byProject.putIfAbsent(projectId, loaded) == null
+                && generation.get() != startGeneration) {
+            byProject.remove(projectId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Only projects that are already indexed are updated: the others
+     * are read in full (this write included) when first needed.
+     */
+    private void update(UUID projectId, UnaryOperator<TaskTitlePrefixIndex> change) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            while (true) {
+                TaskTitlePrefixIndex current = byProject.get(projectId);
+                if (current == null) return;
+
+                TaskTitlePrefixIndex next = change.apply(current);
+                if (next == current || byProject.replace(projectId, current, next)) return;
+            }
+        });
+    }
+
+    /**
+     * Runs the action after the current transaction commits,
+     * or right away when there is no transaction.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
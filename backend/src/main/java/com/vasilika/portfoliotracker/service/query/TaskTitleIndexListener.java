@@ -0,0 +1,42 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.web.dto.TaskSuggestionDto;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * =========================================
+ * Task Title Index Listener
+ * =========================================
+ *
+ * JPA entity listener that feeds every Task create, edit and delete
+ * into the TaskTitleIndex, whichever controller or service did it.
+ *
+ * The index applies the change after commit, so a rolled back
+ * write never shows up in suggestions.
+ *
+ * Rows inserted with plain SQL (batch import, restore) are not seen
+ * here: those paths evict the project's index instead.
+ */
+public class TaskTitleIndexListener {
+
+    private final TaskTitleIndex index;
+
+    public TaskTitleIndexListener(TaskTitleIndex index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Task t) {
+        index.taskSaved(t.getProject().getId(),
+                new TaskSuggestionDto(t.getId(), t.getTitle(), t.getStatus().name()));
+    }
+
+    @PostRemove
+    public void onRemove(Task t) {
+        index.taskRemoved(t.getProject().getId(), t.getId());
+    }
+}
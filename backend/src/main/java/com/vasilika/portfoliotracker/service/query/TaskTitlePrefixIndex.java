@@ -0,0 +1,310 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.web.dto.TaskSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable word-prefix index over one project's task titles.
+ *
+ * Layout (sorted arrays, no per-node objects):
+ * - tasks / normalized: one slot per task, ordered by normalized title
+ * - words / owners: every distinct title word, sorted, with the
+ *   slot of the task it belongs to
+ *
+ * Titles starting with the query are found with one binary search
+ * over the slots. Other matches: the longest query term finds its
+ * words with one binary search and a scan of the matching range.
+ * Because slots are in title order, walking them in order already
+ * yields alphabetical results, so a page is cut after limit matches
+ * without sorting anything.
+ *
+ * Changes return a new index (copy-on-write): readers never lock.
+ * A single task change is an insert / remove by binary search and
+ * array copies, O(tasks + words) with no re-split or re-sort.
+ */
+final class TaskTitlePrefixIndex {
+
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<Slot> TITLE_ORDER = Comparator
+            .comparing(Slot::normalized)
+            .thenComparing(s -> s.task().id());
+
+    private record Slot(TaskSuggestionDto task, String[] terms, String normalized) {}
+
+    private record Word(String word, int owner) {}
+
+    private final TaskSuggestionDto[] tasks;
+    private final String[] normalized;
+    private final String[] words;
+    private final int[] owners;
+
+    private TaskTitlePrefixIndex(TaskSuggestionDto[] tasks, String[] normalized, String[] words, int[] owners) {
+        this.tasks = tasks;
+        this.normalized = normalized;
+        this.words = words;
+        this.owners = owners;
+    }
+
+    static TaskTitlePrefixIndex of(Collection<TaskSuggestionDto> rows) {
+        Slot[] slots = rows.stream()
+                .map(t -> {
+                    String[] terms = terms(t.title());
+                    return new Slot(t, terms, String.join(" ", terms));
+                })
+                .sorted(TITLE_ORDER)
+                .toArray(Slot[]::new);
+
+        TaskSuggestionDto[] tasks = new TaskSuggestionDto[slots.length];
+        String[] normalized = new String[slots.length];
+        List<Word> words = new ArrayList<>(slots.length * 4);
+
+        for (int i = 0; i < slots.length; i++) {
+            tasks[i] = slots[i].task();
+            normalized[i] = slots[i].normalized();
+            for (String word : new LinkedHashSet<>(Arrays.asList(slots[i].terms()))) {
+                words.add(new Word(word, i));
+            }
+        }
+        words.sort(Comparator.comparing(Word::word).thenComparingInt(Word::owner));
+
+        String[] wordArray = new String[words.size()];
+        int[] ownerArray = new int[words.size()];
+        for (int i = 0; i < wordArray.length; i++) {
+            wordArray[i] = words.get(i).word();
+            ownerArray[i] = words.get(i).owner();
+        }
+        return new TaskTitlePrefixIndex(tasks, normalized, wordArray, ownerArray);
+    }
+
+    int size() {
+        return tasks.length;
+    }
+
+    /**
+     * Adds a task, or replaces the indexed task with the same id.
+     * Returns this index when nothing the picker shows has changed.
+     */
+    TaskTitlePrefixIndex with(TaskSuggestionDto task) {
+        int slot = slotOf(task.id());
+        if (slot < 0) return insert(task);
+
+        TaskSuggestionDto current = tasks[slot];
+        if (Objects.equals(current.title(), task.title()) && Objects.equals(current.status(), task.status())) {
+            return this;
+        }
+        return remove(slot).insert(task);
+    }
+
+    /**
+     * Drops a task. Returns this index when it was not indexed.
+     */
+    TaskTitlePrefixIndex without(UUID taskId) {
+        int slot = slotOf(taskId);
+        return slot < 0 ? this : remove(slot);
+    }
+
+    /**
+     * New index with the task's slot and words inserted at their sorted
+     * positions: one copy of each array, nothing else re-split or re-sorted.
+     */
+    private TaskTitlePrefixIndex insert(TaskSuggestionDto task) {
+        String[] terms = terms(task.title());
+        String title = String.join(" ", terms);
+        int slot = insertionPoint(title, task.id());
+
+        String[] added = new LinkedHashSet<>(Arrays.asList(terms)).toArray(String[]::new);
+        Arrays.sort(added);
+
+        String[] newWords = new String[words.length + added.length];
+        int[] newOwners = new int[newWords.length];
+        int from = 0;
+        for (int j = 0; j < added.length; j++) {
+            // Existing runs are copied as a block, each new word goes in between
+            int at = wordPosition(added[j], slot);
+            System.arraycopy(words, from, newWords, from + j, at - from);
+            System.arraycopy(owners, from, newOwners, from + j, at - from);
+            newWords[at + j] = added[j];
+            newOwners[at + j] = -1;
+            from = at;
+        }
+        System.arraycopy(words, from, newWords, from + added.length, words.length - from);
+        System.arraycopy(owners, from, newOwners, from + added.length, words.length - from);
+
+        // Slots from the insertion point on move down by one
+        for (int k = 0; k < newOwners.length; k++) {
+            if (newOwners[k] == -1) {
+                newOwners[k] = slot;
+            } else if (newOwners[k] >= slot) {
+                newOwners[k]++;
+            }
+        }
+
+        return new TaskTitlePrefixIndex(insertAt(tasks, slot, task), insertAt(normalized, slot, title),
+                newWords, newOwners);
+    }
+
+    /**
+     * New index without the slot and its words (one copy of each array).
+     */
+    private TaskTitlePrefixIndex remove(int slot) {
+        int kept = 0;
+        for (int owner : owners) {
+            if (owner != slot) kept++;
+        }
+
+        String[] newWords = new String[kept];
+        int[] newOwners = new int[kept];
+        for (int i = 0, k = 0; i < words.length; i++) {
+            if (owners[i] == slot) continue;
+            newWords[k] = words[i];
+            newOwners[k++] = owners[i] > slot ? owners[i] - 1 : owners[i];
+        }
+
+        return new TaskTitlePrefixIndex(removeAt(tasks, slot), removeAt(normalized, slot), newWords, newOwners);
+    }
+
+    /**
+     * Tasks whose title has a word starting with every query term.
+     *
+     * Titles that start with the whole query come first,
+     * then the other matches; both groups in title order.
+     */
+    List<TaskSuggestionDto> suggest(String query, int limit) {
+        String[] terms = terms(query);
+        if (terms.length == 0 || limit < 1) return List.of();
+
+        String phrase = String.join(" ", terms);
+        List<TaskSuggestionDto> out = new ArrayList<>(limit);
+
+        // Titles starting with the query are one contiguous run of slots
+        for (int slot = lowerBound(normalized, phrase);
+             slot < normalized.length && normalized[slot].startsWith(phrase) && out.size() < limit; slot++) {
+            out.add(tasks[slot]);
+        }
+        if (out.size() == limit) return out;
+
+        // The longest term has the narrowest word range
+        String probe = terms[0];
+        for (String term : terms) {
+            if (term.length() > probe.length()) probe = term;
+        }
+
+        BitSet candidates = new BitSet(tasks.length);
+        for (int i = lowerBound(words, probe); i < words.length && words[i].startsWith(probe); i++) {
+            candidates.set(owners[i]);
+        }
+
+        for (int slot = candidates.nextSetBit(0); slot >= 0 && out.size() < limit;
+             slot = candidates.nextSetBit(slot + 1)) {
+            if (!normalized[slot].startsWith(phrase) && matchesAll(normalized[slot], terms)) {
+                out.add(tasks[slot]);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Lower-case words of a title or query (letters and digits only).
+     */
+    static String[] terms(String text) {
+        if (text == null) return new String[0];
+        return Arrays.stream(WORD_SEPARATORS.split(text.toLowerCase(Locale.ROOT)))
+                .filter(w -> !w.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static boolean matchesAll(String normalizedTitle, String[] terms) {
+        for (String term : terms) {
+            if (!normalizedTitle.startsWith(term) && !normalizedTitle.contains(" " + term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int slotOf(UUID taskId) {
+        for (int i = 0; i < tasks.length; i++) {
+            if (tasks[i].id().equals(taskId)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot a (normalized title, id) pair sorts into (TITLE_ORDER).
+     */
+    private int insertionPoint(String title, UUID id) {
+        int lo = 0;
+        int hi = tasks.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = normalized[mid].compareTo(title);
+            if (cmp < 0 || (cmp == 0 && tasks[mid].id().compareTo(id) < 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Word table position of a new (word, slot) entry, before the
+     * entries of that word whose slot moves down to make room.
+     */
+    private int wordPosition(String word, int slot) {
+        int lo = 0;
+        int hi = words.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = words[mid].compareTo(word);
+            if (cmp < 0 || (cmp == 0 && owners[mid] < slot)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static <T> T[] insertAt(T[] array, int index, T value) {
+        T[] copy = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        copy[index] = value;
+        return copy;
+    }
+
+    private static <T> T[] removeAt(T[] array, int index) {
+        T[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * First position in a sorted array that is >= prefix.
+     */
+    private static int lowerBound(String[] sorted, String prefix) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
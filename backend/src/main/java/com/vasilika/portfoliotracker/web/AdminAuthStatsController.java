@@ -0,0 +1,41 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.vasilika.portfoliotracker.service.PasswordCheckExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * =========================================
+ * Admin Auth Stats Controller
+ * =========================================
+ *
+ * Read-only view of login / password-check load.
+ *
+ * Secured via Spring Security:
+ * - Accessible only to users with ADMIN role.
+ *
+ * Base path:
+ *   /admin/auth
+ */
+@RestController
+@RequestMapping("/admin/auth")
+public class AdminAuthStatsController {
+
+    private final PasswordCheckExecutor passwordChecks;
+
+    public AdminAuthStatsController(PasswordCheckExecutor passwordChecks) {
+        this.passwordChecks = passwordChecks;
+    }
+
+    /**
+     * Queue depth, rejections and latency of BCrypt checks.
+     *
+     * HTTP Method: GET
+     * Endpoint: /admin/auth/password-checks
+     */
+    @GetMapping("/password-checks")
+    public PasswordCheckExecutor.Stats passwordChecks() {
+        return passwordChecks.stats();
+    }
+}
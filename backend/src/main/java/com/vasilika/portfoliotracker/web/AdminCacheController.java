@@ -0,0 +1,55 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.vasilika.portfoliotracker.security.VerifiedJwtCache;
+import com.vasilika.portfoliotracker.service.query.PublicProjectCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * =========================================
+ * Admin Cache Controller
+ * =========================================
+ *
+ * Read-only view of in-memory cache statistics.
+ *
+ * Secured via Spring Security:
+ * - Accessible only to users with ADMIN role.
+ *
+ * Base path:
+ *   /admin/cache
+ */
+@RestController
+@RequestMapping("/admin/cache")
+public class AdminCacheController {
+
+    private final PublicProjectCache publicCache;
+    private final VerifiedJwtCache verifiedJwtCache;
+
+    public AdminCacheController(PublicProjectCache publicCache, VerifiedJwtCache verifiedJwtCache) {
+        this.publicCache = publicCache;
+        this.verifiedJwtCache = verifiedJwtCache;
+    }
+
+    /**
+     * Hit / miss / eviction counters of the public project cache.
+     *
+     * HTTP Method: GET
+     * Endpoint: /admin/cache/public-projects
+     */
+    @GetMapping("/public-projects")
+    public PublicProjectCache.Stats publicProjects() {
+        return publicCache.stats();
+    }
+
+    /**
+     * Hit rate of the verified-JWT cache.
+     *
+     * HTTP Method: GET
+     * Endpoint: /admin/cache/jwt
+     */
+    @GetMapping("/jwt")
+    public VerifiedJwtCache.Stats jwt() {
+        return verifiedJwtCache.stats();
+    }
+}
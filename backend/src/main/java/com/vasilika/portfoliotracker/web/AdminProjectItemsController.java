@@ -10,14 +10,24 @@ import com.vasilika.portfoliotracker.repo.PlanningItemRepository;
 import com.vasilika.portfoliotracker.repo.ProjectRepository;
 import com.vasilika.portfoliotracker.repo.TaskRepository;
 import com.vasilika.portfoliotracker.repo.UpdateRepository;
+import com.vasilika.portfoliotracker.service.PlanningBoardService;
 import com.vasilika.portfoliotracker.service.TaskTypeOptionService;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.service.export.ExportFormat;
+import com.vasilika.portfoliotracker.service.export.ProjectExportService;
+import com.vasilika.portfoliotracker.service.export.ProjectRestoreService;
+import com.vasilika.portfoliotracker.service.query.PublicProjectCache;
+import com.vasilika.portfoliotracker.service.query.TaskTitleIndex;
+import com.vasilika.portfoliotracker.web.dto.BulkCreateTasksRequest;
+import com.vasilika.portfoliotracker.web.dto.BulkImportResultDto;
 import com.vasilika.portfoliotracker.web.dto.CreateProjectRequest;
 import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
 import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
 import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
-import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardItemRequest;
+import com.vasilika.portfoliotracker.web.dto.RestoreResultDto;
 import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardRequest;
 import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.TaskSuggestionDto;
 import com.vasilika.portfoliotracker.web.dto.UpdateProjectRequest;
 import com.vasilika.portfoliotracker.web.dto.UpdateTaskRequest;
 import com.vasilika.portfoliotracker.web.dto.UpdateDto;
@@ -26,12 +36,17 @@ import com.vasilika.portfoliotracker.web.mapper.PlanningItemMapper;
 import com.vasilika.portfoliotracker.web.mapper.TaskMapper;
 import com.vasilika.portfoliotracker.web.mapper.UpdateMapper;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
@@ -45,19 +60,37 @@ public class AdminProjectItemsController {
     private final UpdateRepository updates;
     private final PlanningItemRepository planningItems;
     private final TaskTypeOptionService taskTypeOptionService;
+    private final PublicProjectCache publicCache;
+    private final TaskImportService taskImport;
+    private final PlanningBoardService planningBoards;
+    private final ProjectExportService exports;
+    private final ProjectRestoreService restores;
+    private final TaskTitleIndex titleIndex;
 
     public AdminProjectItemsController(
             ProjectRepository projects,
             TaskRepository tasks,
             UpdateRepository updates,
             PlanningItemRepository planningItems,
-            TaskTypeOptionService taskTypeOptionService
+            TaskTypeOptionService taskTypeOptionService,
+            PublicProjectCache publicCache,
+            TaskImportService taskImport,
+            PlanningBoardService planningBoards,
+            ProjectExportService exports,
+            ProjectRestoreService restores,
+            TaskTitleIndex titleIndex
     ) {
         this.projects = projects;
         this.tasks = tasks;
         this.updates = updates;
         this.planningItems = planningItems;
         this.taskTypeOptionService = taskTypeOptionService;
+        this.publicCache = publicCache;
+        this.taskImport = taskImport;
+        this.planningBoards = planningBoards;
+        this.exports = exports;
+        this.restores = restores;
+        this.titleIndex = titleIndex;
     }
 
     /**
@@ -76,7 +109,6 @@ public class AdminProjectItemsController {
         }
 
         Project p = new Project();
-        p.setId(UUID.randomUUID()); // (optional) remove if your entity generates UUID automatically
         p.setSlug(slug);
         p.setName(req.name().trim());
         p.setSummary(req.summary());
@@ -89,6 +121,7 @@ public class AdminProjectItemsController {
         p.setDemo(false);
 
         Project saved = projects.save(p);
+        publicCache.evictList();
 
         // Location points to the public details endpoint
         return ResponseEntity
@@ -110,7 +143,6 @@ public class AdminProjectItemsController {
                 .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
 
         Task t = new Task();
-        t.setId(UUID.randomUUID()); // (optional) remove if entity generates UUID automatically
         t.setProject(project);
         t.setTitle(req.title());
         t.setDescription(req.description());
@@ -130,12 +162,56 @@ public class AdminProjectItemsController {
         t.setUpdatedAt(Instant.now());
 
         Task saved = tasks.save(t);
+        publicCache.evictProject(projectId);
 
         return ResponseEntity
                 .created(URI.create("/api/projects/" + project.getSlug()))
                 .body(TaskMapper.toDto(saved));
     }
 
+    /**
+     * Create many tasks under a project in one call (admin-only).
+     *
+     * POST /admin/projects/{projectId}/tasks/batch
+     *
+     * All-or-nothing:
+     * - 201 with the created count when every row is valid
+     * - 400 with per-row errors (nothing inserted) otherwise
+     */
+    @PostMapping("/{projectId}/tasks/batch")
+    public ResponseEntity<BulkImportResultDto> createTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkCreateTasksRequest req
+    ) {
+        BulkImportResultDto result = taskImport.importTasks(projectId, req.tasks());
+
+        if (!result.errors().isEmpty()) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.status(201).body(result);
+    }
+
+    /**
+     * ==========================================================
+     * GET /admin/projects/{projectId}/tasks/suggest?q=...&limit=10
+     * ==========================================================
+     *
+     * Task picker typeahead (link an update, fill the planning board).
+     *
+     * Matches tasks whose title words start with every query term,
+     * titles starting with the query first. Served from the in-memory
+     * TaskTitleIndex: only the first lookup of a project reads the table.
+     * Real projects only.
+     */
+    @GetMapping("/{projectId}/tasks/suggest")
+    public List<TaskSuggestionDto> suggestTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return titleIndex.suggest(projectId, q, limit);
+    }
+
     /**
      * Create an update under a project (admin-only).
      *
@@ -150,7 +226,6 @@ public class AdminProjectItemsController {
                 .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
 
         Update u = new Update();
-        u.setId(UUID.randomUUID());
         u.setProject(project);
 
         // Optional related task
@@ -170,6 +245,7 @@ public class AdminProjectItemsController {
         u.setCreatedAt(Instant.now());
 
         Update saved = updates.save(u);
+        publicCache.evictProject(projectId);
 
         return ResponseEntity
                 .created(URI.create("/api/projects/" + project.getSlug()))
@@ -193,6 +269,7 @@ public class AdminProjectItemsController {
         if (!task.getProject().getId().equals(projectId)) return ResponseEntity.notFound().build();
 
         tasks.delete(task);
+        publicCache.evictProject(projectId);
         return ResponseEntity.noContent().build();
     }
 
@@ -235,7 +312,11 @@ public class AdminProjectItemsController {
 
         p.setUpdatedAt(Instant.now());
 
-        return ResponseEntity.ok(projects.save(p));
+        Project saved = projects.save(p);
+        publicCache.evictProject(projectId);
+        publicCache.evictList();
+
+        return ResponseEntity.ok(saved);
     }
 
     /**
@@ -254,6 +335,9 @@ public class AdminProjectItemsController {
         }
 
         projects.deleteById(projectId);
+        publicCache.evictProject(projectId);
+        publicCache.evictList();
+        titleIndex.evictProject(projectId);
 
         return ResponseEntity.noContent().build();
     }
@@ -312,6 +396,7 @@ public class AdminProjectItemsController {
         t.setUpdatedAt(Instant.now());
 
         Task saved = tasks.save(t);
+        publicCache.evictProject(projectId);
 
         return ResponseEntity.ok(TaskMapper.toDto(saved));
     }
@@ -375,9 +460,65 @@ public class AdminProjectItemsController {
         if (req.body() != null) u.setBody(req.body());
 
         Update saved = updates.save(u);
+        publicCache.evictProject(projectId);
         return ResponseEntity.ok(UpdateMapper.toDto(saved));
     }
 
+    /**
+     * ==========================================================
+     * GET /admin/projects/export?format=ndjson|csv
+     * ==========================================================
+     *
+     * Streams every real portfolio project (tasks and updates included)
+     * as one download. Demo sandboxes are not exported.
+     *
+     * Rows are written as they are read (see ProjectExportService),
+     * so memory use does not grow with the portfolio.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("projects." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(out -> exports.exportPublicProjects(exportFormat, out));
+    }
+
+    /**
+     * ==========================================================
+     * POST /admin/projects/restore?format=ndjson|csv&replace=false
+     * ==========================================================
+     *
+     * Restores an archive downloaded from /export (raw request body).
+     *
+     * All-or-nothing:
+     * - 201 with the restored counts when every row is valid
+     * - 400 with per-line errors (nothing restored) otherwise
+     *
+     * The body is read as a stream and COPYed row by row
+     * (see ProjectRestoreService), so uploads of any size fit.
+     * replace=true overwrites real projects that share a slug.
+     */
+    @PostMapping("/restore")
+    public ResponseEntity<RestoreResultDto> restoreProjects(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean replace,
+            InputStream body
+    ) throws IOException {
+        RestoreResultDto result = restores.restore(ExportFormat.parse(format), replace, body);
+
+        if (!result.errors().isEmpty()) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.status(201).body(result);
+    }
+
     /**
      * ==========================================================
      * GET /admin/projects/{projectId}/planning
@@ -388,17 +529,22 @@ public class AdminProjectItemsController {
      * Rules:
      * - items are returned in sort order
      * - DONE tasks are excluded automatically
+     *
+     * One query for the board (tasks fetched, DONE filtered in SQL).
+     * Only an empty board needs a second query, to tell
+     * "no items" from "no such project".
      */
     @GetMapping("/{projectId}/planning")
     public ResponseEntity<List<PlanningItemDto>> getPlanningBoard(
             @PathVariable UUID projectId
     ) {
-        Project project = projects.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+        var board = planningItems.findOpenBoard(projectId);
+
+        if (board.isEmpty() && !projects.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found: " + projectId);
+        }
 
-        var items = planningItems.findByProject_IdOrderBySortOrderAscCreatedAtAsc(project.getId())
-                .stream()
-                .filter(item -> item.getTask().getStatus() != TaskStatus.DONE)
+        var items = board.stream()
                 .map(PlanningItemMapper::toDto)
                 .toList();
 
@@ -417,6 +563,9 @@ public class AdminProjectItemsController {
      * - easier reorder support
      * - one request saves the whole queue state
      *
+     * Stored as a diff (see PlanningBoardService), so a reorder
+     * only updates the rows that moved.
+     *
      * Rules:
      * - all tasks must belong to the same project
      * - DONE tasks cannot be placed in planning board
@@ -430,44 +579,8 @@ public class AdminProjectItemsController {
         Project project = projects.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
 
-        long currentCount = req.items().stream()
-                .filter(SavePlanningBoardItemRequest::isCurrent)
-                .count();
-
-        if (currentCount > 1) {
-            throw new IllegalArgumentException("Only one planning item can be marked as current.");
-        }
-
-        // Clear old board and recreate it from the incoming ordered list
-        planningItems.deleteByProject_Id(projectId);
-
-        List<PlanningItem> savedItems = new ArrayList<>();
-
-        for (int i = 0; i < req.items().size(); i++) {
-            SavePlanningBoardItemRequest incoming = req.items().get(i);
-
-            Task task = tasks.findById(incoming.taskId())
-                    .orElseThrow(() -> new IllegalArgumentException("Task not found: " + incoming.taskId()));
-
-            if (!task.getProject().getId().equals(projectId)) {
-                throw new IllegalArgumentException("Task does not belong to project: " + projectId);
-            }
-
-            if (task.getStatus() == TaskStatus.DONE) {
-                throw new IllegalArgumentException("DONE tasks cannot be added to the planning board.");
-            }
-
-            PlanningItem item = new PlanningItem();
-            item.setId(UUID.randomUUID());
-            item.setProject(project);
-            item.setTask(task);
-            item.setSortOrder(i);
-            item.setCurrent(incoming.isCurrent());
-            item.setCreatedAt(Instant.now());
-            item.setUpdatedAt(Instant.now());
-
-            savedItems.add(planningItems.save(item));
-        }
+        // Diff against the stored board: only changed rows are written
+        List<PlanningItem> savedItems = planningBoards.saveBoard(project, req.items());
 
         var response = savedItems.stream()
                 .map(PlanningItemMapper::toDto)
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotBlank;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * =========================================
  * Authentication Controller
@@ -42,10 +44,16 @@ import org.springframework.web.bind.annotation.*;
                 @NotBlank String password
         ) {}
 
-        /** ADMIN login */
+        /**
+         * ADMIN login
+         *
+         * Async: the worker thread is released while BCrypt runs
+         * on the password-check pool.
+         */
         @PostMapping("/login")
-        public ResponseEntity<?> login(@Valid @RequestBody LoginRequest req) {
-            return ResponseEntity.ok(authService.loginAdmin(req.username(), req.password()));
+        public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest req) {
+            return authService.loginAdmin(req.username(), req.password())
+                    .thenApply(ResponseEntity::ok);
         }
 
         /** DEMO login */
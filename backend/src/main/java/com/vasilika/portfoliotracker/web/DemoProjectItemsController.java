@@ -10,7 +10,10 @@ import com.vasilika.portfoliotracker.repo.PlanningItemRepository;
 import com.vasilika.portfoliotracker.repo.ProjectRepository;
 import com.vasilika.portfoliotracker.repo.TaskRepository;
 import com.vasilika.portfoliotracker.repo.UpdateRepository;
+import com.vasilika.portfoliotracker.service.AuthService;
 import com.vasilika.portfoliotracker.service.DemoSeederService;
+import com.vasilika.portfoliotracker.service.PlanningBoardService;
+import com.vasilika.portfoliotracker.service.TaskNotFoundException;
 import com.vasilika.portfoliotracker.service.TaskTypeOptionService;
 import com.vasilika.portfoliotracker.web.dto.CreateProjectRequest;
 import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
@@ -18,7 +21,7 @@ import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
 import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
 import com.vasilika.portfoliotracker.web.dto.ProjectDetailsDto;
 import com.vasilika.portfoliotracker.web.dto.ProjectDto;
-import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardItemRequest;
+import com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto;
 import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardRequest;
 import com.vasilika.portfoliotracker.web.dto.TaskDto;
 import com.vasilika.portfoliotracker.web.dto.UpdateDto;
@@ -32,6 +35,8 @@ import com.vasilika.portfoliotracker.web.mapper.UpdateMapper;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -50,6 +55,7 @@ import java.util.UUID;
  *
  * Rules:
  * - All projects created here are demo-only (Project.demo = true)
+ *   and belong to the caller's sandbox
  * - All operations here MUST only affect demo projects
  * - This prevents any demo account from touching real admin data
  *
@@ -59,7 +65,11 @@ import java.util.UUID;
  * - Create / update / delete demo projects
  * - Create / update / delete demo tasks
  * - Create / update / delete demo updates
- * - Reset all demo data
+ * - Reset the caller's demo sandbox
+ *
+ * Sandboxes:
+ * - Each demo login owns a private sandbox (id in the JWT "sandbox" claim)
+ * - Projects outside the caller's sandbox are treated as not found
  */
 @RestController
 @RequestMapping("/demo/projects")
@@ -71,6 +81,7 @@ public class DemoProjectItemsController {
     private final DemoSeederService demoSeeder;
     private final PlanningItemRepository planningItems;
     private final TaskTypeOptionService taskTypeOptionService;
+    private final PlanningBoardService planningBoards;
 
     public DemoProjectItemsController(
             ProjectRepository projects,
@@ -78,7 +89,8 @@ public class DemoProjectItemsController {
             UpdateRepository updates,
             PlanningItemRepository planningItems,
             DemoSeederService demoSeeder,
-            TaskTypeOptionService taskTypeOptionService
+            TaskTypeOptionService taskTypeOptionService,
+            PlanningBoardService planningBoards
     ) {
         this.projects = projects;
         this.tasks = tasks;
@@ -86,6 +98,7 @@ public class DemoProjectItemsController {
         this.planningItems = planningItems;
         this.demoSeeder = demoSeeder;
         this.taskTypeOptionService = taskTypeOptionService;
+        this.planningBoards = planningBoards;
     }
 
     /**
@@ -93,18 +106,16 @@ public class DemoProjectItemsController {
      * GET /demo/projects
      * ==========================================================
      *
-     * Lists all demo projects.
+     * Lists the demo projects of the caller's sandbox.
      *
      * Used by:
      * - DemoHomePage
      * - Demo project grid/listing UI
      */
     @GetMapping
-    public java.util.List<ProjectDto> listDemoProjects() {
-        return projects.findAllByDemoTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(ProjectMapper::toDto)
-                .toList();
+    public java.util.List<ProjectSummaryDto> listDemoProjects(@AuthenticationPrincipal Jwt jwt) {
+        // Card columns only (projection), like the public list
+        return projects.findSandboxSummaries(sandboxOf(jwt));
     }
 
     /**
@@ -121,9 +132,9 @@ public class DemoProjectItemsController {
      * - DemoProjectDetailsPage
      */
     @GetMapping("/{slug}")
-    public ProjectDetailsDto getDemoProjectDetails(@PathVariable String slug) {
+    public ProjectDetailsDto getDemoProjectDetails(@AuthenticationPrincipal Jwt jwt, @PathVariable String slug) {
 
-        Project project = projects.findBySlugAndDemo(slug, true)
+        Project project = projects.findBySlugAndSandboxId(slug, sandboxOf(jwt))
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Demo project not found: " + slug
@@ -178,17 +189,21 @@ public class DemoProjectItemsController {
      * - project is always forced to demo=true
      */
     @PostMapping
-    public ResponseEntity<ProjectDto> createDemoProject(@Valid @RequestBody CreateProjectRequest req) {
+    public ResponseEntity<ProjectDto> createDemoProject(
+            @AuthenticationPrincipal Jwt jwt,
+            @Valid @RequestBody CreateProjectRequest req
+    ) {
+        UUID sandboxId = sandboxOf(jwt);
         String slug = req.slug().trim();
 
-        // Demo-only slug uniqueness check
-        if (projects.existsBySlugAndDemo(slug, true)) {
+        // Slug must be unique inside this user's sandbox
+        if (projects.existsBySlugAndSandboxId(slug, sandboxId)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Demo slug already exists: " + slug);
         }
 
         Project p = new Project();
-        p.setId(UUID.randomUUID()); // remove if @GeneratedValue is used
         p.setDemo(true);            // force sandbox mode
+        p.setSandboxId(sandboxId);  // owned by the caller's sandbox
         p.setSlug(slug);
         p.setName(req.name().trim());
         p.setSummary(req.summary());
@@ -222,6 +237,7 @@ public class DemoProjectItemsController {
      */
     @PatchMapping("/{projectId}")
     public ResponseEntity<ProjectDto> demoUpdateProject(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @Valid @RequestBody UpdateProjectRequest req
     ) {
@@ -232,7 +248,7 @@ public class DemoProjectItemsController {
                 ));
 
         // Hard stop if someone tries to update a real project using demo endpoints
-        if (!p.isDemo()) {
+        if (!inSandbox(p, jwt)) {
             return ResponseEntity.notFound().build();
         }
 
@@ -242,7 +258,7 @@ public class DemoProjectItemsController {
         if (req.slug() != null && !req.slug().trim().equalsIgnoreCase(p.getSlug())) {
             String newSlug = req.slug().trim();
 
-            if (projects.existsBySlugAndDemo(newSlug, true)) {
+            if (projects.existsBySlugAndSandboxId(newSlug, p.getSandboxId())) {
                 throw new ResponseStatusException(
                         HttpStatus.BAD_REQUEST,
                         "Demo slug already exists: " + newSlug
@@ -278,10 +294,10 @@ public class DemoProjectItemsController {
      * - tasks/updates are expected to be removed by cascade
      */
     @DeleteMapping("/{projectId}")
-    public ResponseEntity<?> deleteDemoProject(@PathVariable UUID projectId) {
+    public ResponseEntity<?> deleteDemoProject(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId) {
 
         var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
+        if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
             return ResponseEntity.notFound().build();
         }
 
@@ -298,6 +314,7 @@ public class DemoProjectItemsController {
      */
     @PostMapping("/{projectId}/tasks")
     public ResponseEntity<TaskDto> createDemoTask(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @Valid @RequestBody CreateTaskRequest req
     ) {
@@ -308,12 +325,11 @@ public class DemoProjectItemsController {
                 ));
 
         // Prevent demo endpoints from touching real projects
-        if (!project.isDemo()) {
+        if (!inSandbox(project, jwt)) {
             return ResponseEntity.notFound().build();
         }
 
         Task t = new Task();
-        t.setId(UUID.randomUUID()); // remove if @GeneratedValue is used
         t.setProject(project);
         t.setTitle(req.title());
         t.setDescription(req.description());
@@ -348,12 +364,13 @@ public class DemoProjectItemsController {
      */
     @PatchMapping("/{projectId}/tasks/{taskId}")
     public ResponseEntity<TaskDto> updateDemoTask(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @PathVariable UUID taskId,
             @Valid @RequestBody UpdateTaskRequest req
     ) {
         var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
+        if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
             return ResponseEntity.notFound().build();
         }
 
@@ -390,11 +407,12 @@ public class DemoProjectItemsController {
      */
     @DeleteMapping("/{projectId}/tasks/{taskId}")
     public ResponseEntity<?> deleteDemoTask(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @PathVariable UUID taskId
     ) {
         var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
+        if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
             return ResponseEntity.notFound().build();
         }
 
@@ -423,6 +441,7 @@ public class DemoProjectItemsController {
      */
     @PostMapping("/{projectId}/updates")
     public ResponseEntity<UpdateDto> createDemoUpdate(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @Valid @RequestBody CreateUpdateRequest req
     ) {
@@ -433,12 +452,11 @@ public class DemoProjectItemsController {
                 ));
 
         // Prevent demo endpoints from touching real projects
-        if (!project.isDemo()) {
+        if (!inSandbox(project, jwt)) {
             return ResponseEntity.notFound().build();
         }
 
         Update u = new Update();
-        u.setId(UUID.randomUUID());
         u.setProject(project);
 
         /*
@@ -487,12 +505,13 @@ public class DemoProjectItemsController {
      */
     @PatchMapping("/{projectId}/updates/{updateId}")
     public ResponseEntity<UpdateDto> updateDemoUpdate(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @PathVariable UUID updateId,
             @Valid @RequestBody UpdateUpdateRequest req
     ) {
         var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
+        if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
             return ResponseEntity.notFound().build();
         }
 
@@ -554,11 +573,12 @@ public class DemoProjectItemsController {
      */
     @DeleteMapping("/{projectId}/updates/{updateId}")
     public ResponseEntity<?> deleteDemoUpdate(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @PathVariable UUID updateId
     ) {
         var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
+        if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
             return ResponseEntity.notFound().build();
         }
 
@@ -583,7 +603,8 @@ public class DemoProjectItemsController {
      * POST /demo/projects/reset
      * ==========================================================
      *
-     * Clears all current demo data and re-seeds the sandbox.
+     * Clears the caller's sandbox and re-seeds it from the portfolio.
+     * Other demo users keep their own sandboxes.
      *
      * Useful for:
      * - demo logout cleanup
@@ -591,8 +612,8 @@ public class DemoProjectItemsController {
      * - recruiter testing flow
      */
     @PostMapping("/reset")
-    public ResponseEntity<?> resetDemo() {
-        demoSeeder.seedDemoData();
+    public ResponseEntity<?> resetDemo(@AuthenticationPrincipal Jwt jwt) {
+        demoSeeder.reseedSandbox(sandboxOf(jwt));
         return ResponseEntity.noContent().build();
     }
 
@@ -602,19 +623,25 @@ public class DemoProjectItemsController {
      * ==========================================================
      *
      * Returns the saved planning board for a demo project.
+     *
+     * The sandbox check is part of the board query, so a non-empty
+     * board costs one query. An empty one is checked for ownership.
      */
     @GetMapping("/{projectId}/planning")
     public ResponseEntity<java.util.List<PlanningItemDto>> getDemoPlanningBoard(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId
     ) {
-        var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
-            return ResponseEntity.notFound().build();
+        var board = planningItems.findOpenSandboxBoard(projectId, sandboxOf(jwt));
+
+        if (board.isEmpty()) {
+            var projectOpt = projects.findById(projectId);
+            if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
+                return ResponseEntity.notFound().build();
+            }
         }
 
-        var items = planningItems.findByProject_IdOrderBySortOrderAscCreatedAtAsc(projectId)
-                .stream()
-                .filter(item -> item.getTask().getStatus() != TaskStatus.DONE)
+        var items = board.stream()
                 .map(PlanningItemMapper::toDto)
                 .toList();
 
@@ -630,64 +657,23 @@ public class DemoProjectItemsController {
      */
     @PutMapping("/{projectId}/planning")
     public ResponseEntity<java.util.List<PlanningItemDto>> saveDemoPlanningBoard(
+            @AuthenticationPrincipal Jwt jwt,
             @PathVariable UUID projectId,
             @Valid @RequestBody SavePlanningBoardRequest req
     ) {
         var projectOpt = projects.findById(projectId);
-        if (projectOpt.isEmpty() || !projectOpt.get().isDemo()) {
+        if (projectOpt.isEmpty() || !inSandbox(projectOpt.get(), jwt)) {
             return ResponseEntity.notFound().build();
         }
 
         Project project = projectOpt.get();
 
-        long currentCount = req.items().stream()
-                .filter(SavePlanningBoardItemRequest::isCurrent)
-                .count();
-
-        if (currentCount > 1) {
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "Only one planning item can be marked as current."
-            );
-        }
-
-        planningItems.deleteByProject_Id(projectId);
-
-        java.util.List<PlanningItem> savedItems = new java.util.ArrayList<>();
-
-        for (int i = 0; i < req.items().size(); i++) {
-            SavePlanningBoardItemRequest incoming = req.items().get(i);
-
-            Task task = tasks.findById(incoming.taskId())
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "Task not found: " + incoming.taskId()
-                    ));
-
-            if (!task.getProject().getId().equals(projectId)) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_REQUEST,
-                        "Task does not belong to this project"
-                );
-            }
-
-            if (task.getStatus() == TaskStatus.DONE) {
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_REQUEST,
-                        "DONE tasks cannot be added to the planning board."
-                );
-            }
-
-            PlanningItem item = new PlanningItem();
-            item.setId(UUID.randomUUID());
-            item.setProject(project);
-            item.setTask(task);
-            item.setSortOrder(i);
-            item.setCurrent(incoming.isCurrent());
-            item.setCreatedAt(Instant.now());
-            item.setUpdatedAt(Instant.now());
-
-            savedItems.add(planningItems.save(item));
+        // Same diff-based save as the admin board
+        java.util.List<PlanningItem> savedItems;
+        try {
+            savedItems = planningBoards.saveBoard(project, req.items());
+        } catch (TaskNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
 
         var response = savedItems.stream()
@@ -697,6 +683,29 @@ public class DemoProjectItemsController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * ==========================================================
+     * Helper: sandbox scoping
+     * ==========================================================
+     *
+     * Every demo token carries the id of the sandbox it claimed at login.
+     * A demo user may only see and change projects of that sandbox.
+     */
+    private static UUID sandboxOf(Jwt jwt) {
+        String sandbox = jwt.getClaimAsString(AuthService.SANDBOX_CLAIM);
+        if (sandbox == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.FORBIDDEN,
+                    "Demo session has no sandbox, please log in again."
+            );
+        }
+        return UUID.fromString(sandbox);
+    }
+
+    private static boolean inSandbox(Project project, Jwt jwt) {
+        return project.isDemo() && sandboxOf(jwt).equals(project.getSandboxId());
+    }
+
     /**
      * ==========================================================
      * Helper: enum parsing
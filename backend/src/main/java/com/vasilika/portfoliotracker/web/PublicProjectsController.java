@@ -1,12 +1,30 @@
 package com.vasilika.portfoliotracker.web;
 
+import com.vasilika.portfoliotracker.service.export.ExportFormat;
+import com.vasilika.portfoliotracker.service.export.ProjectExportService;
 import com.vasilika.portfoliotracker.service.query.ProjectQueryService;
-import com.vasilika.portfoliotracker.web.dto.ProjectDetailsDto;
+import com.vasilika.portfoliotracker.service.query.PublicProjectSnapshots;
+import com.vasilika.portfoliotracker.service.query.SearchService;
+import com.vasilika.portfoliotracker.web.dto.CursorPageDto;
 import com.vasilika.portfoliotracker.web.dto.ProjectDetailsPagedDto;
-import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectStatsDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectSummaryDto;
+import com.vasilika.portfoliotracker.web.dto.SearchHitDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import com.vasilika.portfoliotracker.domain.VersionStamp;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * =========================================
@@ -23,6 +41,12 @@ import java.util.List;
  * and require a DEMO token. This ensures:
  * - Demo users can freely edit demo data without affecting real data
  *
+ * Conditional GETs:
+ * - List, details and paged details carry a weak ETag and Last-Modified
+ *   taken from a cheap version stamp (see ProjectVersionRepository)
+ * - A matching If-None-Match / If-Modified-Since gets 304 before any
+ *   task or update is loaded or serialized
+ *
  * Base path:
  *   /api/projects
  */
@@ -31,12 +55,21 @@ import java.util.List;
 public class PublicProjectsController {
 
     private final ProjectQueryService query;
+    private final PublicProjectSnapshots snapshots;
+    private final ProjectExportService exports;
+    private final SearchService search;
 
     /**
-     * Constructor injection of query service.
+     * Constructor injection of query service, snapshot store, exporter and search.
      */
-    public PublicProjectsController(ProjectQueryService query) {
+    public PublicProjectsController(ProjectQueryService query,
+                                    PublicProjectSnapshots snapshots,
+                                    ProjectExportService exports,
+                                    SearchService search) {
         this.query = query;
+        this.snapshots = snapshots;
+        this.exports = exports;
+        this.search = search;
     }
 
     /**
@@ -50,9 +83,27 @@ public class PublicProjectsController {
      * - Public project listings
      */
     @GetMapping
-    public List<ProjectDto> list() {
+    public ResponseEntity<List<ProjectSummaryDto>> list(ServletWebRequest request) {
         // Only real portfolio projects (demo=false)
-        return query.listPublicProjects();
+        return conditional(request, query.getPublicListVersion(), query::listPublicProjects);
+    }
+
+    /**
+     * Returns one cursor page of PUBLIC projects, newest first.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/projects?size=20&cursor=...
+     *
+     * Selected when the "size" parameter is present; without it
+     * the endpoint above keeps returning the full list.
+     * Pass nextCursor from the previous response to continue.
+     */
+    @GetMapping(params = "size")
+    public CursorPageDto<ProjectSummaryDto> listPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return query.listPublicProjectsPage(size, cursor);
     }
 
     /**
@@ -65,11 +116,126 @@ public class PublicProjectsController {
      * - Project info
      * - All tasks
      * - All updates
+     *
+     * Body is a pre-rendered snapshot (plain or gzip, by Accept-Encoding),
+     * so unchanged projects are never re-serialized.
      */
-    @GetMapping("/{slug}")
-    public ProjectDetailsDto details(@PathVariable String slug) {
+    @GetMapping(value = "/{slug}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> details(@PathVariable String slug, ServletWebRequest request) {
         // Only real portfolio projects (demo=false)
-        return query.getPublicDetails(slug);
+        VersionStamp version = query.getPublicProjectVersion(slug);
+        if (isNotModified(request, version)) {
+            return null;
+        }
+
+        // Pre-rendered JSON, already compressed for this version
+        PublicProjectSnapshots.Snapshot snapshot = snapshots.get(slug, version);
+        String encoding = snapshot.encodingFor(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null) {
+            ok.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return ok.body(snapshot.bytes(encoding));
+    }
+
+    /**
+     * Returns the PUBLIC update timeline of a project, newest first.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/projects/{slug}/updates?size=10&cursor=...
+     *
+     * Keyset paged: page cost stays constant however far the client scrolls.
+     */
+    @GetMapping("/{slug}/updates")
+    public CursorPageDto<UpdateDto> timeline(
+            @PathVariable String slug,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return query.getPublicTimeline(slug, size, cursor);
+    }
+
+    /**
+     * Returns the PUBLIC tasks of a project in Kanban order.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/projects/{slug}/tasks?status=&type=&priority=&size=10&cursor=...
+     *
+     * Keyset paged over (status, createdAt, id): every page is an index range scan.
+     */
+    @GetMapping("/{slug}/tasks")
+    public CursorPageDto<TaskDto> tasks(
+            @PathVariable String slug,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String priority,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return query.getPublicTasksPage(slug, status, type, priority, size, cursor);
+    }
+
+    /**
+     * Full-text search inside one PUBLIC project, best match first.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/projects/{slug}/search?q=...&size=10&cursor=...
+     *
+     * Same hits as /api/search (see SearchService), limited to this project.
+     */
+    @GetMapping("/{slug}/search")
+    public CursorPageDto<SearchHitDto> search(
+            @PathVariable String slug,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return search.searchPublicProject(slug, q, size, cursor);
+    }
+
+    /**
+     * Returns Kanban column counts and progress of a PUBLIC project.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/projects/{slug}/stats
+     *
+     * One primary-key read of project_stats; no task is loaded,
+     * so the UI can draw counts and progress bars without the board.
+     */
+    @GetMapping("/{slug}/stats")
+    public ProjectStatsDto stats(@PathVariable String slug) {
+        return query.getPublicStats(slug);
+    }
+
+    /**
+     * Streams a whole PUBLIC project as a file download.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/projects/{slug}/export?format=ndjson|csv
+     *
+     * Unlike /{slug}, nothing is built in memory: rows are written
+     * as they are read (see ProjectExportService), so any project
+     * size is served with the same heap.
+     */
+    @GetMapping("/{slug}/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String slug,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        // Unknown slug => normal error response, before streaming starts
+        UUID projectId = exports.requirePublicProjectId(slug);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(slug + "." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(out -> exports.exportProject(projectId, exportFormat, out));
     }
 
     /**
@@ -88,7 +254,7 @@ public class PublicProjectsController {
      * - Updates: page 0, size 5
      */
     @GetMapping("/{slug}/paged")
-    public ProjectDetailsPagedDto detailsPaged(
+    public ResponseEntity<ProjectDetailsPagedDto> detailsPaged(
             @PathVariable String slug,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String type,
@@ -96,10 +262,11 @@ public class PublicProjectsController {
             @RequestParam(defaultValue = "0") int tasksPage,
             @RequestParam(defaultValue = "10") int tasksSize,
             @RequestParam(defaultValue = "0") int updatesPage,
-            @RequestParam(defaultValue = "5") int updatesSize
+            @RequestParam(defaultValue = "5") int updatesSize,
+            ServletWebRequest request
     ) {
         // Only real portfolio projects (demo=false)
-        return query.getPublicDetailsPaged(
+        return conditional(request, query.getPublicProjectVersion(slug), () -> query.getPublicDetailsPaged(
                 slug,
                 status,
                 type,
@@ -108,6 +275,33 @@ public class PublicProjectsController {
                 tasksSize,
                 updatesPage,
                 updatesSize
-        );
+        ));
+    }
+
+    /**
+     * Answers 304 Not Modified when the client already has this version,
+     * otherwise builds the body and tags it with ETag + Last-Modified.
+     *
+     * "no-cache" makes browsers revalidate on every navigation
+     * instead of guessing a freshness lifetime from Last-Modified.
+     */
+    private static <T> ResponseEntity<T> conditional(
+            ServletWebRequest request,
+            VersionStamp version,
+            Supplier<T> body
+    ) {
+        if (isNotModified(request, version)) {
+            return null;
+        }
+        return ResponseEntity.ok(body.get());
+    }
+
+    /**
+     * Writes ETag, Last-Modified and Cache-Control, and sets 304
+     * when the client is up to date (the handler then returns null).
+     */
+    private static boolean isNotModified(ServletWebRequest request, VersionStamp version) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return request.checkNotModified(version.etag(), version.lastModified().toEpochMilli());
     }
 }
\ No newline at end of file
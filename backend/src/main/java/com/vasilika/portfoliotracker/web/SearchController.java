@@ -0,0 +1,52 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.vasilika.portfoliotracker.service.query.SearchService;
+import com.vasilika.portfoliotracker.web.dto.CursorPageDto;
+import com.vasilika.portfoliotracker.web.dto.SearchHitDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * =========================================
+ * Search Controller
+ * =========================================
+ *
+ * Public full-text search across the whole portfolio.
+ * Demo sandbox projects are never searched.
+ *
+ * Per-project search lives next to the other project reads:
+ *   GET /api/projects/{slug}/search
+ *
+ * Base path:
+ *   /api/search
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService search;
+
+    public SearchController(SearchService search) {
+        this.search = search;
+    }
+
+    /**
+     * Returns tasks and updates matching q, best match first.
+     *
+     * HTTP Method: GET
+     * Endpoint: /api/search?q=...&size=10&cursor=...
+     *
+     * q uses web-search syntax: "quoted phrase", or, -excluded.
+     * Pass nextCursor from the previous response to continue.
+     */
+    @GetMapping
+    public CursorPageDto<SearchHitDto> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return search.searchPublic(q, size, cursor);
+    }
+}
@@ -0,0 +1,16 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for importing many tasks into one project.
+ *
+ * Rows are NOT validated with @Valid here: the import service
+ * checks every row itself so it can report all errors by row number.
+ */
+public record BulkCreateTasksRequest(
+        @NotEmpty @Size(max = 10_000) List<CreateTaskRequest> tasks
+) {}
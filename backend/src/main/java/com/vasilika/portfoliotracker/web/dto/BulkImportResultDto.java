@@ -0,0 +1,41 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.util.List;
+
+/**
+ * =========================================
+ * Bulk Import Result DTO
+ * =========================================
+ *
+ * Outcome of a batch import.
+ *
+ * All-or-nothing:
+ * - errors empty     => every row was inserted (created == received)
+ * - errors non-empty => nothing was inserted (created == 0)
+ */
+public record BulkImportResultDto(
+
+        /**
+         * Number of rows in the request.
+         */
+        int received,
+
+        /**
+         * Number of rows inserted.
+         */
+        int created,
+
+        /**
+         * One entry per invalid field, in row order.
+         */
+        List<RowError> errors
+
+) {
+
+    /**
+     * Validation error of a single row.
+     *
+     * row is the 0-based index in the request list.
+     */
+    public record RowError(int row, String field, String message) {}
+}
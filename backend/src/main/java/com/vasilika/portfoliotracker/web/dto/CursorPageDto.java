@@ -0,0 +1,46 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.util.List;
+
+/**
+ * =========================================
+ * Cursor Page DTO (Keyset Pagination Response)
+ * =========================================
+ *
+ * Sibling of {@link PageDto} for endpoints that page with cursors
+ * instead of page numbers.
+ *
+ * Differences from PageDto:
+ * - No page number or totals (no count query is needed)
+ * - nextCursor is passed back as ?cursor=... to load the next page
+ *
+ * Typically used for:
+ * - Updates timeline (infinite scroll)
+ * - Project listing
+ *
+ * <T> represents the DTO type being returned.
+ */
+public record CursorPageDto<T>(
+
+        /**
+         * List of items for the current page.
+         */
+        List<T> items,
+
+        /**
+         * Requested number of items per page.
+         */
+        int size,
+
+        /**
+         * Opaque cursor for the next page.
+         * Null when this is the last page.
+         */
+        String nextCursor,
+
+        /**
+         * Indicates whether another page exists.
+         */
+        boolean hasNext
+
+) {}
@@ -0,0 +1,30 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Project Stats DTO
+ * =========================================
+ *
+ * Kanban column counts and progress of one project,
+ * served by GET /api/projects/{slug}/stats.
+ *
+ * - byStatus / byPriority list every enum value (0 when empty),
+ *   so the UI can render fixed columns without the tasks
+ * - byType only lists type codes the project uses
+ * - lastActivityAt is the newest task / update write, null if none
+ */
+public record ProjectStatsDto(
+        UUID projectId,
+        int taskCount,
+        int openCount,
+        int doneCount,
+        Map<String, Integer> byStatus,
+        Map<String, Integer> byType,
+        Map<String, Integer> byPriority,
+        int updateCount,
+        Instant lastActivityAt
+) {}
@@ -0,0 +1,27 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Project Summary DTO (list cards)
+ * =========================================
+ *
+ * What the project listings show per card:
+ * - GET /api/projects (full list and cursor pages)
+ * - GET /demo/projects
+ *
+ * Read straight from the listed columns (see ProjectRepository),
+ * so the long description and the links are never loaded for a list.
+ * Full fields stay on ProjectDto (details, create/update responses).
+ */
+public record ProjectSummaryDto(
+        UUID id,
+        String slug,
+        String name,
+        String summary,
+        String techStack,
+        Instant createdAt,
+        Instant updatedAt
+) {}
@@ -0,0 +1,49 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.util.List;
+
+/**
+ * =========================================
+ * Restore Result DTO
+ * =========================================
+ *
+ * Outcome of POST /admin/projects/restore.
+ *
+ * All-or-nothing:
+ * - errors empty     => every row was restored (counts = rows written)
+ * - errors non-empty => the transaction was rolled back (counts are 0)
+ */
+public record RestoreResultDto(
+
+        /**
+         * Number of archive rows read (including invalid ones).
+         */
+        long received,
+
+        int projects,
+
+        long tasks,
+
+        long updates,
+
+        long planningItems,
+
+        /**
+         * Errors in archive order, capped (see ProjectRestoreService).
+         */
+        List<RowError> errors
+
+) {
+
+    /**
+     * Error of a single archive row.
+     *
+     * line is the 1-based line of the row in the uploaded file,
+     * or 0 when the database rejected the restore as a whole.
+     */
+    public record RowError(long line, String field, String message) {}
+
+    public static RestoreResultDto failed(long received, List<RowError> errors) {
+        return new RestoreResultDto(received, 0, 0, 0, 0, errors);
+    }
+}
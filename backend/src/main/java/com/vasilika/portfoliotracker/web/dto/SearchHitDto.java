@@ -0,0 +1,30 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Search Hit DTO
+ * =========================================
+ *
+ * One task or update matching a full-text search.
+ *
+ * - kind is "TASK" or "UPDATE"
+ * - taskId is the linked task of an update (null for tasks)
+ * - snippet is HTML-safe: the source text is escaped and only
+ *   <mark>...</mark> around matched words is added
+ * - rank is the relevance used for ordering (higher first)
+ */
+public record SearchHitDto(
+        String kind,
+        UUID id,
+        UUID projectId,
+        String projectSlug,
+        String projectName,
+        UUID taskId,
+        String title,
+        String snippet,
+        float rank,
+        Instant createdAt
+) {}
@@ -0,0 +1,20 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import java.util.UUID;
+
+/**
+ * =========================================
+ * Task Suggestion DTO
+ * =========================================
+ *
+ * One entry of the admin task picker
+ * (GET /admin/projects/{projectId}/tasks/suggest).
+ *
+ * Only what the picker shows: the status lets the planning
+ * board leave DONE tasks out.
+ */
+public record TaskSuggestionDto(
+        UUID id,
+        String title,
+        String status
+) {}
@@ -1,6 +1,7 @@
 package com.vasilika.portfoliotracker.web.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -93,6 +94,30 @@ public class ApiExceptionHandler {
         ));
     }
 
+    /**
+     * Handles throttled logins.
+     *
+     * Triggered when:
+     * - the password-check queue is full
+     * - a username is in failed-login backoff
+     */
+    @ExceptionHandler(com.vasilika.portfoliotracker.service.LoginThrottledException.class)
+    public ResponseEntity<?> handleLoginThrottled(
+            com.vasilika.portfoliotracker.service.LoginThrottledException ex, HttpServletRequest req) {
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(Map.of(
+                        "timestamp", Instant.now().toString(),
+                        "status", 429,
+                        "error", "Too many requests",
+                        "message", ex.getMessage(),
+                        "path", req.getRequestURI()
+                ));
+    }
+
     /**
      * Handles missing resources.
      *
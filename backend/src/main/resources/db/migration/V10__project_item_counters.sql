@@ -0,0 +1,49 @@
+-- =========================================================
+-- V10__project_item_counters.sql
+-- =========================================================
+-- Goal:
+-- Fill PageDto.totalElements without count(*) queries.
+--
+-- project_task_counters: tasks per (status, type, priority) bucket
+-- project_update_counters: updates per project
+--
+-- Kept up to date incrementally by ProjectCountersListener
+-- on every task / update insert, change and delete.
+-- =========================================================
+
+CREATE TABLE project_task_counters (
+    project_id uuid NOT NULL,
+    status varchar(20) NOT NULL,
+    type varchar(50) NOT NULL,
+    priority varchar(20) NOT NULL,
+    task_count integer NOT NULL,
+
+    CONSTRAINT pk_project_task_counters
+        PRIMARY KEY (project_id, status, type, priority),
+
+    CONSTRAINT fk_project_task_counters_project
+        FOREIGN KEY (project_id)
+        REFERENCES projects(id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE project_update_counters (
+    project_id uuid PRIMARY KEY,
+    update_count integer NOT NULL,
+
+    CONSTRAINT fk_project_update_counters_project
+        FOREIGN KEY (project_id)
+        REFERENCES projects(id)
+        ON DELETE CASCADE
+);
+
+-- Backfill from existing rows
+INSERT INTO project_task_counters (project_id, status, type, priority, task_count)
+SELECT project_id, status, type, priority, count(*)
+FROM tasks
+GROUP BY project_id, status, type, priority;
+
+INSERT INTO project_update_counters (project_id, update_count)
+SELECT project_id, count(*)
+FROM updates
+GROUP BY project_id;
@@ -0,0 +1,27 @@
+-- =========================================================
+-- V11__project_version_stamp.sql
+-- =========================================================
+-- Goal:
+-- Let the public API answer conditional GETs (ETag /
+-- Last-Modified) from a one-row version lookup.
+--
+-- 1) updates.updated_at, so editing an update moves the stamp
+-- 2) (project_id, updated_at) indexes, so the newest change
+--    per project is a single index probe
+-- =========================================================
+
+ALTER TABLE updates
+    ADD COLUMN updated_at TIMESTAMP;
+
+UPDATE updates
+SET updated_at = created_at;
+
+ALTER TABLE updates
+    ALTER COLUMN updated_at SET NOT NULL,
+    ALTER COLUMN updated_at SET DEFAULT now();
+
+CREATE INDEX idx_tasks_project_updated_at
+    ON tasks(project_id, updated_at DESC);
+
+CREATE INDEX idx_updates_project_updated_at
+    ON updates(project_id, updated_at DESC);
@@ -0,0 +1,27 @@
+-- =========================================================
+-- V12__uuid_v7_function.sql
+-- =========================================================
+-- Goal:
+-- Time-ordered ids for rows created in SQL (demo sandbox clone),
+-- matching the UUIDv7 ids the application generates (UuidV7).
+--
+-- Layout: 48-bit Unix milliseconds, then the random bits of a v4
+-- UUID with the version nibble switched from 4 to 7.
+-- (No per-millisecond counter: order inside one millisecond is random.)
+-- =========================================================
+
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS uuid
+LANGUAGE sql
+VOLATILE
+AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid
+$$;
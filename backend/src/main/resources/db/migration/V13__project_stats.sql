@@ -0,0 +1,58 @@
+-- =========================================================
+-- V13__project_stats.sql
+-- =========================================================
+-- Goal:
+-- Serve GET /api/projects/{slug}/stats (Kanban column counts,
+-- progress, last activity) from a single primary-key row.
+--
+-- One row per project:
+-- - task totals: all, open (not DONE), done
+-- - tasks per status / type / priority as jsonb objects
+--   (task types are dynamic, see task_type_options)
+-- - update count and last task / update activity
+--
+-- Kept up to date by ProjectCounterRepository in the same
+-- statement that adjusts project_task_counters and
+-- project_update_counters.
+-- =========================================================
+
+CREATE TABLE project_stats (
+    project_id uuid PRIMARY KEY,
+    task_count integer NOT NULL DEFAULT 0,
+    open_count integer NOT NULL DEFAULT 0,
+    done_count integer NOT NULL DEFAULT 0,
+    status_counts jsonb NOT NULL DEFAULT '{}'::jsonb,
+    type_counts jsonb NOT NULL DEFAULT '{}'::jsonb,
+    priority_counts jsonb NOT NULL DEFAULT '{}'::jsonb,
+    update_count integer NOT NULL DEFAULT 0,
+    last_activity_at timestamp with time zone,
+
+    CONSTRAINT fk_project_stats_project
+        FOREIGN KEY (project_id)
+        REFERENCES projects(id)
+        ON DELETE CASCADE
+);
+
+-- Backfill from existing rows (projects without tasks or updates get no row)
+INSERT INTO project_stats (project_id, task_count, open_count, done_count,
+                           status_counts, type_counts, priority_counts,
+                           update_count, last_activity_at)
+SELECT p.id,
+       (SELECT count(*) FROM tasks t WHERE t.project_id = p.id),
+       (SELECT count(*) FROM tasks t WHERE t.project_id = p.id AND t.status <> 'DONE'),
+       (SELECT count(*) FROM tasks t WHERE t.project_id = p.id AND t.status = 'DONE'),
+       coalesce((SELECT jsonb_object_agg(x.status, x.n)
+                 FROM (SELECT status, count(*) AS n FROM tasks
+                       WHERE project_id = p.id GROUP BY status) x), '{}'::jsonb),
+       coalesce((SELECT jsonb_object_agg(x.type, x.n)
+                 FROM (SELECT type, count(*) AS n FROM tasks
+                       WHERE project_id = p.id GROUP BY type) x), '{}'::jsonb),
+       coalesce((SELECT jsonb_object_agg(x.priority, x.n)
+                 FROM (SELECT priority, count(*) AS n FROM tasks
+                       WHERE project_id = p.id GROUP BY priority) x), '{}'::jsonb),
+       (SELECT count(*) FROM updates u WHERE u.project_id = p.id),
+       greatest((SELECT max(t.updated_at) FROM tasks t WHERE t.project_id = p.id),
+                (SELECT max(u.updated_at) FROM updates u WHERE u.project_id = p.id))
+FROM projects p
+WHERE EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = p.id)
+   OR EXISTS (SELECT 1 FROM updates u WHERE u.project_id = p.id);
@@ -0,0 +1,36 @@
+-- =========================================================
+-- V14__full_text_search.sql
+-- =========================================================
+-- Goal:
+-- Ranked full-text search over tasks and updates
+-- (GET /api/search, GET /api/projects/{slug}/search).
+--
+-- 1) Generated tsvector columns: the database keeps them in
+--    sync on every insert / update, whichever path wrote the
+--    row (JPA, JDBC batches, COPY restore, demo clone)
+-- 2) GIN indexes, so a query only touches matching rows
+--
+-- Weights: title = A, description / body = B
+-- (a hit in the title ranks higher).
+-- 'english' must match SearchRepository's queries.
+--
+-- NOTE: adding a STORED generated column rewrites each table once.
+-- =========================================================
+
+ALTER TABLE tasks
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE updates
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english'::regconfig, coalesce(body, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_tasks_search_vector
+    ON tasks USING gin (search_vector);
+
+CREATE INDEX idx_updates_search_vector
+    ON updates USING gin (search_vector);
@@ -0,0 +1,17 @@
+-- =========================================================
+-- V15__updates_timeline_keyset_index.sql
+-- =========================================================
+-- Supports keyset paging of a project's update timeline:
+--   WHERE project_id = ?
+--     AND (created_at, id) < (?, ?)
+--   ORDER BY created_at DESC, id DESC
+--
+-- With id in the index the cursor is an index range,
+-- not a filter over every newer update of the project.
+-- Replaces idx_updates_project_id_created_at (same prefix).
+-- =========================================================
+
+CREATE INDEX idx_updates_project_created_at_id
+    ON updates(project_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_updates_project_id_created_at;
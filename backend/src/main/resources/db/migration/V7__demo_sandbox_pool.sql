@@ -0,0 +1,55 @@
+-- =========================================================
+-- V7__demo_sandbox_pool.sql
+-- =========================================================
+-- Goal:
+-- Give every demo login its own private copy of the portfolio.
+--
+-- - demo_sandboxes holds one row per pre-seeded "generation"
+-- - READY sandboxes wait in the pool, CLAIMED ones belong to a token
+-- - demo projects point at their sandbox; deleting a sandbox
+--   cascades to its projects, tasks, updates and planning items
+-- =========================================================
+
+CREATE TABLE demo_sandboxes (
+    id uuid PRIMARY KEY,
+    status varchar(20) NOT NULL,
+    created_at timestamp with time zone NOT NULL,
+    claimed_at timestamp with time zone,
+    expires_at timestamp with time zone
+);
+
+-- Claim query: oldest READY sandbox first
+CREATE INDEX idx_demo_sandboxes_status_created
+    ON demo_sandboxes(status, created_at);
+
+-- Sweeper query: expired CLAIMED sandboxes
+CREATE INDEX idx_demo_sandboxes_expires_at
+    ON demo_sandboxes(expires_at);
+
+-- Old global demo data has no owner, drop it
+DELETE FROM projects WHERE demo = true;
+
+ALTER TABLE projects
+    ADD COLUMN sandbox_id uuid NULL;
+
+ALTER TABLE projects
+    ADD CONSTRAINT fk_projects_sandbox
+    FOREIGN KEY (sandbox_id)
+    REFERENCES demo_sandboxes(id)
+    ON DELETE CASCADE;
+
+-- Slugs are unique per tenant:
+-- - real portfolio: one namespace
+-- - demo: one namespace per sandbox
+ALTER TABLE projects
+    DROP CONSTRAINT IF EXISTS uk_projects_demo_slug;
+
+CREATE UNIQUE INDEX uk_projects_public_slug
+    ON projects(slug) WHERE demo = false;
+
+CREATE UNIQUE INDEX uk_projects_sandbox_slug
+    ON projects(sandbox_id, slug) WHERE demo = true;
+
+-- Used by ON DELETE CASCADE when a sandbox is swept
+CREATE INDEX idx_projects_sandbox_id
+    ON projects(sandbox_id);
@@ -0,0 +1,13 @@
+-- =========================================================
+-- V8__public_projects_keyset_index.sql
+-- =========================================================
+-- Supports keyset paging of the public project list:
+--   WHERE demo = false
+--   ORDER BY created_at DESC, id DESC
+--
+-- Partial index: demo sandboxes never show up in this listing.
+-- =========================================================
+
+CREATE INDEX idx_projects_public_created_at_id
+    ON projects(created_at DESC, id DESC)
+    WHERE demo = false;
@@ -0,0 +1,29 @@
+-- =========================================================
+-- V9__task_status_rank.sql
+-- =========================================================
+-- Goal:
+-- Serve Kanban-ordered task pages from an index.
+--
+-- The old query ordered by a CASE over status, which no index
+-- can provide, so every page sorted the whole project.
+-- status_rank stores that order (kept in sync by Task.setStatus):
+--   BACKLOG = 1, IN_PROGRESS = 2, DONE = 3
+-- =========================================================
+
+ALTER TABLE tasks
+    ADD COLUMN status_rank smallint;
+
+UPDATE tasks
+SET status_rank = CASE status
+    WHEN 'BACKLOG' THEN 1
+    WHEN 'IN_PROGRESS' THEN 2
+    WHEN 'DONE' THEN 3
+    ELSE 99
+END;
+
+ALTER TABLE tasks
+    ALTER COLUMN status_rank SET NOT NULL;
+
+-- Kanban order inside one project, unique per row (id tie-breaker)
+CREATE INDEX idx_tasks_project_rank_created_id
+    ON tasks(project_id, status_rank, created_at, id);
@@ -0,0 +1,190 @@
+package com.vasilika.portfoliotracker.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load generator for local benchmarks.
+ *
+ * {@code concurrency} client threads each send one request, wait for the
+ * response, and immediately send the next one. Latencies recorded during
+ * the warm-up are discarded.
+ *
+ * Requests carry a label (usually the endpoint template), and results
+ * are reported per label as well as in total.
+ */
+final class LoadDriver {
+
+    /**
+     * One request of a scenario. {@code label} groups latencies in the report.
+     */
+    record Call(String label, HttpRequest request) {
+
+        static Call get(String label, URI uri) {
+            return new Call(label, LoadDriver.request(uri).GET().build());
+        }
+    }
+
+    /**
+     * Outcome of one run. Latencies are in milliseconds.
+     */
+    record Result(long requests, long errors, double throughput, double p50, double p95, double p99, double max) {
+
+        String format(String label) {
+            return String.format("%-40s %8d req  %5d err  %9.1f req/s  p50 %7.2f  p95 %7.2f  p99 %7.2f  max %8.2f ms",
+                    label, requests, errors, throughput, p50, p95, p99, max);
+        }
+    }
+
+    /**
+     * Total and per-label results of a mixed run (labels sorted).
+     */
+    record Report(Result total, Map<String, Result> byLabel) {
+
+        List<String> lines() {
+            List<String> lines = new ArrayList<>();
+            byLabel.forEach((label, result) -> lines.add(result.format(label)));
+            lines.add(total.format("TOTAL"));
+            return lines;
+        }
+    }
+
+    /**
+     * Latencies and errors of one label, recorded by one client thread.
+     */
+    private static final class Samples {
+        long[] latencies = new long[1 << 10];
+        int count;
+        long errors;
+
+        void add(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * Request builder with the driver's default timeout.
+     */
+    static HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Runs GET load and returns throughput and latency percentiles.
+     *
+     * @param uriForRequest builds the URI of the n-th request (lets callers rotate pages / filters)
+     */
+    Result run(IntFunction<URI> uriForRequest, int concurrency, Duration warmUp, Duration measure) throws InterruptedException {
+        return runMix(n -> Call.get("GET", uriForRequest.apply(n)), concurrency, warmUp, measure).total();
+    }
+
+    /**
+     * Runs a request mix and reports every label separately.
+     * 2xx and 304 responses count as success.
+     *
+     * @param callForRequest builds the n-th request (a weighted scenario picks the endpoint from n)
+     */
+    Report runMix(IntFunction<Call> callForRequest, int concurrency, Duration warmUp, Duration measure) throws InterruptedException {
+        long warmUpEnd = System.nanoTime() + warmUp.toNanos();
+        long end = warmUpEnd + measure.toNanos();
+
+        AtomicLong sequence = new AtomicLong();
+        // Each client owns one slot; the latch publishes them to this thread
+        @SuppressWarnings("unchecked")
+        Map<String, Samples>[] perClient = new Map[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int t = 0; t < concurrency; t++) {
+            int slot = t;
+
+            Thread worker = new Thread(() -> {
+                Map<String, Samples> samples = new HashMap<>();
+                try {
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) break;
+
+                        Call call = callForRequest.apply((int) sequence.getAndIncrement());
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> res = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                            ok = res.statusCode() / 100 == 2 || res.statusCode() == 304;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long finished = System.nanoTime();
+
+                        if (start < warmUpEnd) continue;
+
+                        Samples s = samples.computeIfAbsent(call.label(), k -> new Samples());
+                        if (ok) {
+                            s.add(finished - start);
+                        } else {
+                            s.errors++;
+                        }
+                    }
+                } finally {
+                    perClient[slot] = samples;
+                    done.countDown();
+                }
+            }, "load-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        done.await();
+
+        double seconds = measure.toNanos() / 1e9;
+        Map<String, Result> byLabel = new TreeMap<>();
+        Samples total = new Samples();
+
+        Map<String, Samples> merged = new HashMap<>();
+        for (Map<String, Samples> client : perClient) {
+            client.forEach((label, s) -> {
+                Samples into = merged.computeIfAbsent(label, k -> new Samples());
+                for (int i = 0; i < s.count; i++) {
+                    into.add(s.latencies[i]);
+                    total.add(s.latencies[i]);
+                }
+                into.errors += s.errors;
+                total.errors += s.errors;
+            });
+        }
+        merged.forEach((label, s) -> byLabel.put(label, summarize(s, seconds)));
+
+        return new Report(summarize(total, seconds), byLabel);
+    }
+
+    private static Result summarize(Samples s, double seconds) {
+        long[] sorted = Arrays.copyOf(s.latencies, s.count);
+        Arrays.sort(sorted);
+        return new Result(sorted.length, s.errors, sorted.length / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
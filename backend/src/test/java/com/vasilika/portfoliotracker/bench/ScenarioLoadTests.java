@@ -0,0 +1,237 @@
+package com.vasilika.portfoliotracker.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.PortfoliotrackerApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load scenario over the public, admin and demo endpoints.
+ *
+ * 1) Starts the application on a random port
+ * 2) Generates a synthetic portfolio (SyntheticPortfolio, portfolio.* properties)
+ * 3) Logs in once as admin and as a few demo users
+ * 4) Drives a weighted request mix (mostly public reads, some admin writes)
+ * 5) Prints throughput and p50/p95/p99 per endpoint
+ *
+ * Requires a disposable PostgreSQL database (SPRING_DATASOURCE_* and APP_* env vars).
+ * Synthetic projects are removed afterwards unless -Dportfolio.keep=true.
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=ScenarioLoadTests -Dbench=true
+ * Tuning (system properties):
+ *   load.concurrency (default 100), load.seconds (default 30), load.warmup (default 10),
+ *   load.demo-users (default 4), load.profile (e.g. virtual-threads),
+ *   portfolio.projects / .tasks / .updates / .planning / .history-days / .seed
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class ScenarioLoadTests {
+
+    private static final String ADMIN_USER = "load-admin";
+    private static final String DEMO_PASSWORD = "demo-portfolio-2026!";
+
+    /**
+     * One endpoint of the mix: {@code weight} out of the total picks it.
+     */
+    private record Endpoint(int weight, IntFunction<LoadDriver.Call> call) {}
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void publicAdminDemoMix() throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 100);
+        Duration measure = Duration.ofSeconds(Integer.getInteger("load.seconds", 30));
+        Duration warmUp = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+        int demoUsers = Integer.getInteger("load.demo-users", 4);
+        SyntheticPortfolio.Spec spec = SyntheticPortfolio.Spec.fromSystemProperties();
+
+        String adminPassword = UUID.randomUUID().toString();
+
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(PortfoliotrackerApplication.class)
+                .profiles(profiles())
+                .properties(Map.of(
+                        "server.port", "0",
+                        "app.demo.pool.size", String.valueOf(demoUsers),
+                        "app.security.admin.username", ADMIN_USER,
+                        "app.security.admin.password-hash", new BCryptPasswordEncoder().encode(adminPassword)))
+                .run()) {
+
+            SyntheticPortfolio generator = new SyntheticPortfolio(ctx.getBean(JdbcTemplate.class));
+            ObjectMapper json = ctx.getBean(ObjectMapper.class);
+            String base = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+
+            try {
+                long start = System.nanoTime();
+                SyntheticPortfolio.Portfolio portfolio = generator.generate(spec);
+                System.out.printf("Generated %d rows in %d ms%n",
+                        spec.totalRows(), (System.nanoTime() - start) / 1_000_000);
+
+                String adminToken = login(json, base + "/auth/login", ADMIN_USER, adminPassword);
+
+                List<String> demoTokens = new ArrayList<>();
+                List<JsonNode> demoProjects = new ArrayList<>();
+                for (int i = 0; i < demoUsers; i++) {
+                    String token = login(json, base + "/auth/demo/login", "demo", DEMO_PASSWORD);
+                    demoTokens.add(token);
+                    demoProjects.add(json.readTree(send(authorized(base + "/demo/projects", token).GET().build())));
+                }
+
+                List<Endpoint> mix = scenario(base, json, portfolio, adminToken, demoTokens, demoProjects);
+                LoadDriver.Report report = new LoadDriver().runMix(picker(mix), concurrency, warmUp, measure);
+
+                System.out.printf("%d projects x %d tasks, %d clients, %ds measured%n",
+                        spec.projects(), spec.tasksPerProject(), concurrency, measure.toSeconds());
+                report.lines().forEach(System.out::println);
+
+                assertThat(report.total().requests()).isPositive();
+            } finally {
+                if (!Boolean.getBoolean("portfolio.keep")) {
+                    generator.deleteAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * The request mix, weighted like real traffic:
+     * anonymous portfolio reads dominate, admin writes are rare.
+     */
+    private List<Endpoint> scenario(String base, ObjectMapper json, SyntheticPortfolio.Portfolio portfolio,
+                                    String adminToken, List<String> demoTokens, List<JsonNode> demoProjects) {
+        List<String> slugs = portfolio.slugs();
+        List<UUID> projectIds = portfolio.projectIds();
+        List<List<UUID>> taskIds = portfolio.taskIdsByProject();
+        String[] statuses = {"BACKLOG", "IN_PROGRESS", "DONE"};
+
+        return List.of(
+                new Endpoint(15, n -> LoadDriver.Call.get("GET /api/projects",
+                        URI.create(base + "/api/projects"))),
+
+                new Endpoint(20, n -> new LoadDriver.Call("GET /api/projects/{slug}",
+                        LoadDriver.request(URI.create(base + "/api/projects/" + slugs.get(n % slugs.size())))
+                                .header("Accept-Encoding", "gzip")
+                                .GET().build())),
+
+                new Endpoint(20, n -> LoadDriver.Call.get("GET /api/projects/{slug}/paged",
+                        URI.create(base + "/api/projects/" + slugs.get(n % slugs.size())
+                                + "/paged?tasksPage=" + (n % 5) + "&tasksSize=20&updatesSize=10"))),
+
+                new Endpoint(10, n -> LoadDriver.Call.get("GET /api/projects/{slug}/tasks",
+                        URI.create(base + "/api/projects/" + slugs.get(n % slugs.size())
+                                + "/tasks?size=20&status=" + statuses[n % statuses.length]))),
+
+                new Endpoint(5, n -> LoadDriver.Call.get("GET /api/projects/{slug}/updates",
+                        URI.create(base + "/api/projects/" + slugs.get(n % slugs.size()) + "/updates?size=10"))),
+
+                new Endpoint(5, n -> new LoadDriver.Call("GET /admin/projects/{id}/planning",
+                        authorized(base + "/admin/projects/" + projectIds.get(n % projectIds.size()) + "/planning",
+                                adminToken).GET().build())),
+
+                new Endpoint(2, n -> new LoadDriver.Call("POST /admin/projects/{id}/tasks",
+                        authorized(base + "/admin/projects/" + projectIds.get(n % projectIds.size()) + "/tasks",
+                                adminToken)
+                                .header("Content-Type", "application/json")
+                                .POST(body(json, Map.of(
+                                        "title", "Load test task " + n,
+                                        "status", "BACKLOG",
+                                        "type", "FEATURE",
+                                        "priority", "MEDIUM")))
+                                .build())),
+
+                new Endpoint(3, n -> {
+                    int project = n % projectIds.size();
+                    List<UUID> tasks = taskIds.get(project);
+                    UUID projectId = projectIds.get(project);
+                    UUID taskId = tasks.get((n / projectIds.size()) % tasks.size());
+                    return new LoadDriver.Call("PATCH /admin/projects/{id}/tasks/{taskId}",
+                            authorized(base + "/admin/projects/" + projectId + "/tasks/" + taskId, adminToken)
+                                    .header("Content-Type", "application/json")
+                                    .method("PATCH", body(json, Map.of("priority", n % 2 == 0 ? "HIGH" : "LOW")))
+                                    .build());
+                }),
+
+                new Endpoint(5, n -> new LoadDriver.Call("GET /demo/projects",
+                        authorized(base + "/demo/projects", demoTokens.get(n % demoTokens.size())).GET().build())),
+
+                new Endpoint(10, n -> {
+                    int user = n % demoTokens.size();
+                    JsonNode projects = demoProjects.get(user);
+                    String slug = projects.get(n % projects.size()).get("slug").asText();
+                    return new LoadDriver.Call("GET /demo/projects/{slug}",
+                            authorized(base + "/demo/projects/" + slug, demoTokens.get(user)).GET().build());
+                }),
+
+                new Endpoint(5, n -> {
+                    int user = n % demoTokens.size();
+                    JsonNode projects = demoProjects.get(user);
+                    String id = projects.get(n % projects.size()).get("id").asText();
+                    return new LoadDriver.Call("GET /demo/projects/{id}/planning",
+                            authorized(base + "/demo/projects/" + id + "/planning", demoTokens.get(user)).GET().build());
+                })
+        );
+    }
+
+    /**
+     * Maps request n to an endpoint according to the weights.
+     * n is scrambled first so clients do not walk the wheel in lockstep.
+     */
+    private static IntFunction<LoadDriver.Call> picker(List<Endpoint> mix) {
+        List<Endpoint> wheel = new ArrayList<>();
+        for (Endpoint e : mix) {
+            for (int i = 0; i < e.weight(); i++) wheel.add(e);
+        }
+        return n -> {
+            int scrambled = (n * 0x9E3779B1) >>> 1;
+            return wheel.get(scrambled % wheel.size()).call().apply(n);
+        };
+    }
+
+    private static String[] profiles() {
+        String profile = System.getProperty("load.profile");
+        return profile == null ? new String[0] : new String[] {profile};
+    }
+
+    private String login(ObjectMapper json, String url, String username, String password) throws Exception {
+        HttpRequest request = LoadDriver.request(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(body(json, Map.of("username", username, "password", password)))
+                .build();
+        return json.readTree(send(request)).get("accessToken").asText();
+    }
+
+    private String send(HttpRequest request) throws Exception {
+        HttpResponse<String> res = http.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(res.statusCode()).as("%s %s", request.method(), request.uri()).isEqualTo(200);
+        return res.body();
+    }
+
+    private static HttpRequest.Builder authorized(String url, String token) {
+        return LoadDriver.request(URI.create(url)).header("Authorization", "Bearer " + token);
+    }
+
+    private static HttpRequest.BodyPublisher body(ObjectMapper json, Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(value));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
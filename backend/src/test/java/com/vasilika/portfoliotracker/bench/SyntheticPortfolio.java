@@ -0,0 +1,256 @@
+package com.vasilika.portfoliotracker.bench;
+
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.domain.id.UuidV7;
+import com.vasilika.portfoliotracker.repo.ProjectCounterRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Fills the database with a production-sized portfolio for load tests.
+ *
+ * Rows are written with JDBC batches (no JPA), then the project counters
+ * and stats rows are rebuilt from the inserted rows (ProjectCounterRepository).
+ * Every generated project has a "synthetic-" slug, so the data can be
+ * removed again without touching the real portfolio.
+ *
+ * Distributions (rough shape of a real roadmap):
+ * - status:   BACKLOG 45%, IN_PROGRESS 15%, DONE 40% (DONE tasks are older)
+ * - priority: LOW 30%, MEDIUM 50%, HIGH 20%
+ * - type:     FEATURE 55%, BUG 30%, REFACTOR 15%
+ * - updates:  half of them linked to a task
+ * - planning: non-DONE tasks only, first item marked current
+ */
+final class SyntheticPortfolio {
+
+    static final String SLUG_PREFIX = "synthetic-";
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * How much to generate. Same spec + seed => same portfolio.
+     */
+    record Spec(int projects, int tasksPerProject, int updatesPerProject, int planningItemsPerProject,
+                Duration history, long seed) {
+
+        /**
+         * Reads portfolio.projects / .tasks / .updates / .planning / .history-days / .seed.
+         */
+        static Spec fromSystemProperties() {
+            return new Spec(
+                    Integer.getInteger("portfolio.projects", 20),
+                    Integer.getInteger("portfolio.tasks", 500),
+                    Integer.getInteger("portfolio.updates", 200),
+                    Integer.getInteger("portfolio.planning", 15),
+                    Duration.ofDays(Integer.getInteger("portfolio.history-days", 365)),
+                    Long.getLong("portfolio.seed", 42L));
+        }
+
+        long totalRows() {
+            return (long) projects * (1 + tasksPerProject + updatesPerProject + planningItemsPerProject);
+        }
+    }
+
+    /**
+     * What was generated, for scenarios that need ids and slugs.
+     * All lists are indexed by project.
+     */
+    record Portfolio(List<UUID> projectIds, List<String> slugs, List<List<UUID>> taskIdsByProject) {}
+
+    private record TaskRow(UUID id, UUID projectId, int index, TaskStatus status, String type,
+                           TaskPriority priority, Instant createdAt, Instant updatedAt) {}
+
+    private record UpdateRow(UUID id, UUID projectId, UUID taskId, int index, Instant createdAt) {}
+
+    private record PlanningRow(UUID id, UUID projectId, UUID taskId, int sortOrder, Instant createdAt) {}
+
+    private final JdbcTemplate jdbc;
+
+    SyntheticPortfolio(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Replaces any previous synthetic portfolio with a new one.
+     */
+    Portfolio generate(Spec spec) {
+        deleteAll();
+
+        Random random = new Random(spec.seed());
+        Instant now = Instant.now();
+        long historySeconds = spec.history().toSeconds();
+
+        List<UUID> projectIds = new ArrayList<>();
+        List<String> slugs = new ArrayList<>();
+        List<List<UUID>> taskIds = new ArrayList<>();
+
+        for (int p = 0; p < spec.projects(); p++) {
+            UUID projectId = UuidV7.next();
+            String slug = SLUG_PREFIX + p;
+            Instant projectCreated = now.minusSeconds(historySeconds);
+
+            jdbc.update("""
+                    INSERT INTO projects (id, slug, name, summary, description, tech_stack, repo_url, live_url,
+                                          demo, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)
+                    """,
+                    projectId, slug, "Synthetic project " + p,
+                    "Generated project " + p + " for load testing",
+                    "Generated by SyntheticPortfolio (seed " + spec.seed() + ").",
+                    "Java, Spring Boot, PostgreSQL, React",
+                    "https://github.com/example/" + slug, null,
+                    Timestamp.from(projectCreated), Timestamp.from(now));
+
+            List<TaskRow> tasks = tasks(random, projectId, spec.tasksPerProject(), now, historySeconds);
+            insertTasks(tasks);
+
+            insertUpdates(updates(random, projectId, tasks, spec.updatesPerProject(), now, historySeconds));
+            insertPlanningItems(planningItems(projectId, tasks, spec.planningItemsPerProject(), now));
+
+            projectIds.add(projectId);
+            slugs.add(slug);
+            taskIds.add(tasks.stream().map(TaskRow::id).toList());
+        }
+
+        rebuildCounters(projectIds);
+        return new Portfolio(projectIds, slugs, taskIds);
+    }
+
+    /**
+     * Removes every synthetic project (tasks, updates, planning items
+     * and counters cascade).
+     */
+    void deleteAll() {
+        jdbc.update("DELETE FROM projects WHERE demo = false AND slug LIKE ?", SLUG_PREFIX + "%");
+    }
+
+    private static List<TaskRow> tasks(Random random, UUID projectId, int count, Instant now, long historySeconds) {
+        List<TaskRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskStatus status = pick(random, TaskStatus.values(), 45, 15, 40);
+            TaskPriority priority = pick(random, TaskPriority.values(), 30, 50, 20);
+            String type = pick(random, new String[] {"FEATURE", "BUG", "REFACTOR"}, 55, 30, 15);
+
+            // DONE work skews towards the start of the history, BACKLOG towards the end
+            double age = switch (status) {
+                case DONE -> 0.3 + 0.7 * random.nextDouble();
+                case IN_PROGRESS -> 0.5 * random.nextDouble();
+                case BACKLOG -> random.nextDouble();
+            };
+            Instant created = now.minusSeconds((long) (age * historySeconds));
+            Instant updated = created.plusSeconds((long) (random.nextDouble() * (now.getEpochSecond() - created.getEpochSecond())));
+
+            rows.add(new TaskRow(UuidV7.next(), projectId, i, status, type, priority, created, updated));
+        }
+        return rows;
+    }
+
+    private static List<UpdateRow> updates(Random random, UUID projectId, List<TaskRow> tasks, int count,
+                                           Instant now, long historySeconds) {
+        List<UpdateRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID taskId = !tasks.isEmpty() && random.nextBoolean()
+                    ? tasks.get(random.nextInt(tasks.size())).id()
+                    : null;
+            Instant created = now.minusSeconds((long) (random.nextDouble() * historySeconds));
+            rows.add(new UpdateRow(UuidV7.next(), projectId, taskId, i, created));
+        }
+        return rows;
+    }
+
+    private static List<PlanningRow> planningItems(UUID projectId, List<TaskRow> tasks, int count, Instant now) {
+        List<PlanningRow> rows = new ArrayList<>(count);
+        for (TaskRow t : tasks) {
+            if (rows.size() == count) break;
+            if (t.status() == TaskStatus.DONE) continue;
+            rows.add(new PlanningRow(UuidV7.next(), projectId, t.id(), rows.size(), now));
+        }
+        return rows;
+    }
+
+    private void insertTasks(List<TaskRow> rows) {
+        jdbc.batchUpdate("""
+                INSERT INTO tasks (id, project_id, title, description, status, status_rank, type,
+                                   priority, target_version, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows, BATCH_SIZE, (ps, t) -> {
+            ps.setObject(1, t.id());
+            ps.setObject(2, t.projectId());
+            ps.setString(3, "Task " + t.index() + ": " + t.type().toLowerCase(Locale.ROOT) + " work item");
+            ps.setString(4, t.index() % 4 == 0 ? null
+                    : "Synthetic description for task " + t.index() + ", long enough to look like real text.");
+            ps.setString(5, t.status().name());
+            ps.setShort(6, t.status().rank());
+            ps.setString(7, t.type());
+            ps.setString(8, t.priority().name());
+            ps.setString(9, t.index() % 3 == 0 ? null : "v" + (1 + t.index() % 5) + ".0");
+            ps.setTimestamp(10, Timestamp.from(t.createdAt()));
+            ps.setTimestamp(11, Timestamp.from(t.updatedAt()));
+        });
+    }
+
+    private void insertUpdates(List<UpdateRow> rows) {
+        jdbc.batchUpdate("""
+                INSERT INTO updates (id, project_id, task_id, title, body, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows, BATCH_SIZE, (ps, u) -> {
+            ps.setObject(1, u.id());
+            ps.setObject(2, u.projectId());
+            ps.setObject(3, u.taskId());
+            ps.setString(4, "Update " + u.index());
+            ps.setString(5, "Synthetic progress note " + u.index() + ": what shipped, what is next, and what is blocked.");
+            ps.setTimestamp(6, Timestamp.from(u.createdAt()));
+            ps.setTimestamp(7, Timestamp.from(u.createdAt()));
+        });
+    }
+
+    private void insertPlanningItems(List<PlanningRow> rows) {
+        jdbc.batchUpdate("""
+                INSERT INTO planning_items (id, project_id, task_id, sort_order, is_current, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows, BATCH_SIZE, (ps, item) -> {
+            ps.setObject(1, item.id());
+            ps.setObject(2, item.projectId());
+            ps.setObject(3, item.taskId());
+            ps.setInt(4, item.sortOrder());
+            ps.setBoolean(5, item.sortOrder() == 0);
+            ps.setTimestamp(6, Timestamp.from(item.createdAt()));
+            ps.setTimestamp(7, Timestamp.from(item.createdAt()));
+        });
+    }
+
+    /**
+     * Rows were inserted without ProjectCountersListener: counters and the
+     * project_stats row are recomputed per project, as after a restore.
+     */
+    private void rebuildCounters(List<UUID> projectIds) {
+        ProjectCounterRepository counters = new ProjectCounterRepository(jdbc);
+        for (UUID projectId : projectIds) {
+            counters.rebuild(projectId);
+        }
+    }
+
+    /**
+     * Picks one of {@code values} with the given integer weights.
+     */
+    private static <T> T pick(Random random, T[] values, int... weights) {
+        int total = 0;
+        for (int w : weights) total += w;
+
+        int r = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            r -= weights[i];
+            if (r < 0) return values[i];
+        }
+        return values[values.length - 1];
+    }
+}
@@ -0,0 +1,49 @@
+package com.vasilika.portfoliotracker.bench;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fills the local database with a synthetic portfolio and leaves it there,
+ * for manual exploration and ad-hoc load tests against a running backend.
+ *
+ * Requires a disposable PostgreSQL database (SPRING_DATASOURCE_* env vars).
+ * Replaces the previous synthetic projects, the real portfolio is untouched.
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=SyntheticPortfolioTests -Dbench=true -Dportfolio.projects=50 -Dportfolio.tasks=2000
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@SpringBootTest(properties = "app.demo.pool.size=0")
+class SyntheticPortfolioTests {
+
+    @Autowired private JdbcTemplate jdbc;
+
+    @Test
+    void fillPortfolio() {
+        SyntheticPortfolio.Spec spec = SyntheticPortfolio.Spec.fromSystemProperties();
+
+        long start = System.nanoTime();
+        SyntheticPortfolio.Portfolio portfolio = new SyntheticPortfolio(jdbc).generate(spec);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("Generated %s: %d rows in %d ms%n", spec, spec.totalRows(), millis);
+
+        assertThat(portfolio.slugs()).hasSize(spec.projects());
+        assertThat(jdbc.queryForObject(
+                "SELECT coalesce(sum(task_count), 0) FROM project_task_counters c JOIN projects p ON p.id = c.project_id "
+                        + "WHERE p.demo = false AND p.slug LIKE ?",
+                Long.class, SyntheticPortfolio.SLUG_PREFIX + "%"))
+                .isEqualTo((long) spec.projects() * spec.tasksPerProject());
+        assertThat(jdbc.queryForObject(
+                "SELECT coalesce(sum(s.task_count), 0) FROM project_stats s JOIN projects p ON p.id = s.project_id "
+                        + "WHERE p.demo = false AND p.slug LIKE ?",
+                Long.class, SyntheticPortfolio.SLUG_PREFIX + "%"))
+                .isEqualTo((long) spec.projects() * spec.tasksPerProject());
+    }
+}
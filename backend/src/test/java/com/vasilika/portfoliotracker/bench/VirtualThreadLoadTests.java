@@ -0,0 +1,113 @@
+package com.vasilika.portfoliotracker.bench;
+
+import com.vasilika.portfoliotracker.PortfoliotrackerApplication;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares platform-thread and virtual-thread request execution
+ * on /api/projects/{slug}/paged (blocking JDBC on every request).
+ *
+ * Starts the application twice on a random port: once with the default
+ * profile, once with "virtual-threads". Both use the same Hikari pool.
+ * Needs a Java 21+ JVM for the virtual-thread run to differ.
+ *
+ * Requires a PostgreSQL database (SPRING_DATASOURCE_* and APP_* env vars).
+ * Creates and deletes its own project only.
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=VirtualThreadLoadTests -Dbench=true
+ * Tuning (system properties):
+ *   load.concurrency (default 400), load.seconds (default 20), load.warmup (default 5)
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class VirtualThreadLoadTests {
+
+    private static final int TASKS = 500;
+    private static final int UPDATES = 100;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        Duration measure = Duration.ofSeconds(Integer.getInteger("load.seconds", 20));
+        Duration warmUp = Duration.ofSeconds(Integer.getInteger("load.warmup", 5));
+
+        String slug = "load-" + UUID.randomUUID();
+        List<LoadDriver.Result> results = new ArrayList<>();
+
+        UUID projectId;
+        try (ConfigurableApplicationContext ctx = start()) {
+            projectId = seed(ctx, slug);
+            results.add(run(ctx, slug, concurrency, warmUp, measure));
+        }
+
+        try (ConfigurableApplicationContext ctx = start("virtual-threads")) {
+            results.add(run(ctx, slug, concurrency, warmUp, measure));
+            ctx.getBean(ProjectRepository.class).deleteById(projectId);
+        }
+
+        System.out.printf("Java %d, %d clients, %ds measured%n",
+                Runtime.version().feature(), concurrency, measure.toSeconds());
+        System.out.println(results.get(0).format("platform threads"));
+        System.out.println(results.get(1).format("virtual threads"));
+
+        assertThat(results).allSatisfy(r -> assertThat(r.requests()).isPositive());
+    }
+
+    private static ConfigurableApplicationContext start(String... profiles) {
+        return new SpringApplicationBuilder(PortfoliotrackerApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "app.demo.pool.size=0")
+                .run();
+    }
+
+    private static UUID seed(ConfigurableApplicationContext ctx, String slug) {
+        Project p = new Project();
+        p.setSlug(slug);
+        p.setName("Load test");
+        UUID projectId = ctx.getBean(ProjectRepository.class).save(p).getId();
+
+        String[] statuses = {"BACKLOG", "IN_PROGRESS", "DONE"};
+        List<CreateTaskRequest> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new CreateTaskRequest("Task " + i, "Load test task " + i,
+                    statuses[i % 3], "FEATURE", "MEDIUM", "v1"));
+        }
+        ctx.getBean(TaskImportService.class).importTasks(projectId, tasks);
+
+        ProjectAdminService admin = ctx.getBean(ProjectAdminService.class);
+        for (int i = 0; i < UPDATES; i++) {
+            admin.createUpdate(projectId, new CreateUpdateRequest(null, "Update " + i, "Body " + i));
+        }
+        return projectId;
+    }
+
+    private static LoadDriver.Result run(ConfigurableApplicationContext ctx, String slug,
+                                         int concurrency, Duration warmUp, Duration measure) throws InterruptedException {
+        String port = ctx.getEnvironment().getProperty("local.server.port");
+        String base = "http://localhost:" + port + "/api/projects/" + slug + "/paged";
+        String[] statuses = {"", "&status=BACKLOG", "&status=IN_PROGRESS"};
+
+        // Rotate pages and filters so every request reads different rows
+        return new LoadDriver().run(n -> URI.create(base
+                        + "?tasksPage=" + (n % 10) + "&tasksSize=20&updatesPage=" + (n % 5) + "&updatesSize=10"
+                        + statuses[n % statuses.length]),
+                concurrency, warmUp, measure);
+    }
+}
@@ -0,0 +1,82 @@
+package com.vasilika.portfoliotracker.domain.id;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares random v4 ids with time-ordered v7 ids for bulk inserts:
+ * insert throughput and primary key index size.
+ *
+ * Uses scratch copies of the tasks and updates tables (LIKE ... INCLUDING INDEXES),
+ * so real rows are never touched.
+ *
+ * Requires a PostgreSQL database (SPRING_DATASOURCE_* env vars).
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=UuidV7BenchmarkTests -Dbench=true
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@SpringBootTest
+class UuidV7BenchmarkTests {
+
+    private static final int BATCH = 1_000;
+
+    @Autowired private JdbcTemplate jdbc;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tasks", "updates"})
+    void compareV4WithV7(String table) {
+        int rows = 200_000;
+
+        Result v4 = run(table, "v4", rows, UUID::randomUUID);
+        Result v7 = run(table, "v7", rows, UuidV7::next);
+
+        System.out.printf("%-8s rows=%d  v4: %8.0f rows/s, pkey %6d kB  |  v7: %8.0f rows/s, pkey %6d kB%n",
+                table, rows, v4.rowsPerSecond, v4.pkeyKb, v7.rowsPerSecond, v7.pkeyKb);
+    }
+
+    private record Result(double rowsPerSecond, long pkeyKb) {}
+
+    private Result run(String table, String label, int rows, Supplier<UUID> ids) {
+        String scratch = "bench_" + table + "_" + label;
+        jdbc.execute("DROP TABLE IF EXISTS " + scratch);
+        jdbc.execute("CREATE TABLE " + scratch + " (LIKE " + table + " INCLUDING DEFAULTS INCLUDING INDEXES)");
+
+        UUID projectId = UuidV7.next();
+        String sql = table.equals("tasks")
+                ? "INSERT INTO " + scratch + " (id, project_id, title, status, status_rank, type, priority, created_at, updated_at)"
+                  + " VALUES (?, ?, ?, 'BACKLOG', 1, 'FEATURE', 'LOW', ?, ?)"
+                : "INSERT INTO " + scratch + " (id, project_id, title, body, created_at, updated_at)"
+                  + " VALUES (?, ?, ?, 'Body', ?, ?)";
+
+        long start = System.nanoTime();
+        for (int done = 0; done < rows; done += BATCH) {
+            List<Object[]> batch = new ArrayList<>(BATCH);
+            Timestamp now = Timestamp.from(Instant.now());
+            for (int i = 0; i < BATCH; i++) {
+                batch.add(new Object[]{ids.get(), projectId, "Row " + (done + i), now, now});
+            }
+            jdbc.batchUpdate(sql, batch);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Long pkeyBytes = jdbc.queryForObject(
+                "SELECT pg_relation_size(i.indexrelid) FROM pg_index i"
+                        + " WHERE i.indrelid = ?::regclass AND i.indisprimary",
+                Long.class, scratch);
+
+        jdbc.execute("DROP TABLE " + scratch);
+        return new Result(rows / seconds, pkeyBytes == null ? 0 : pkeyBytes / 1024);
+    }
+}
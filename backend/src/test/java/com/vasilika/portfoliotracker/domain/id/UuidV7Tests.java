@@ -0,0 +1,39 @@
+package com.vasilika.portfoliotracker.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Tests {
+
+    @Test
+    void hasVersion7AndRfcVariant() {
+        UUID id = UuidV7.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void encodesCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(UuidV7.timestampMillis(id)).isBetween(before, after + 1);
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinOneMillisecond() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            // Compare as unsigned 128-bit: this is the order PostgreSQL uses for uuid
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+}
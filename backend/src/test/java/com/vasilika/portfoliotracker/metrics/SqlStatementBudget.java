@@ -0,0 +1,40 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when its body runs more SQL statements than allowed,
+ * or runs the same statement {@code repeatThreshold} times or more (likely N+1).
+ *
+ * The budget is either looked up in sql-budgets.conf:
+ *   @SqlStatementBudget(endpoint = "GET /api/projects/{slug}")
+ * or given directly:
+ *   @SqlStatementBudget(max = 2)
+ *
+ * Only the test method is measured: fixtures built in @BeforeEach are not counted.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    /**
+     * "METHOD /route-template" as listed in sql-budgets.conf.
+     */
+    String endpoint() default "";
+
+    /**
+     * Explicit budget; overrides the endpoint's budget when not negative.
+     */
+    int max() default -1;
+
+    /**
+     * Executions of one identical SQL string that count as N+1.
+     */
+    int repeatThreshold() default 5;
+}
@@ -0,0 +1,72 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JUnit extension behind {@link SqlStatementBudget}.
+ *
+ * Opens a SqlStatementCounter scope right before the test method and checks it
+ * right after. MockMvc requests run on the test thread, so every statement of
+ * the request (and of the test body) is counted.
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    private static final SqlStatementBudgets BUDGETS = SqlStatementBudgets.load();
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        String label = context.getDisplayName();
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.open(() -> label));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        if (scope == null) return;
+        scope.close();
+
+        SqlStatementBudget budget = context.getRequiredTestMethod().getAnnotation(SqlStatementBudget.class);
+        if (budget == null || context.getExecutionException().isPresent()) return;
+
+        int max = maxOf(budget);
+        if (scope.statements() > max) {
+            throw new AssertionFailedError("Ran " + scope.statements() + " SQL statements, budget is " + max
+                    + describe(budget) + repeats(scope.repeated(2)));
+        }
+
+        List<SqlStatementCounter.Repeat> repeats = scope.repeated(budget.repeatThreshold());
+        if (!repeats.isEmpty()) {
+            throw new AssertionFailedError("Possible N+1: statements ran " + budget.repeatThreshold()
+                    + "+ times" + describe(budget) + repeats(repeats));
+        }
+    }
+
+    private static int maxOf(SqlStatementBudget budget) {
+        if (budget.max() >= 0) return budget.max();
+        if (budget.endpoint().isBlank()) {
+            throw new IllegalStateException("@SqlStatementBudget needs endpoint or max");
+        }
+        return BUDGETS.find(budget.endpoint()).orElseThrow(() ->
+                new IllegalStateException("No budget in " + SqlStatementBudgets.RESOURCE + " for " + budget.endpoint()));
+    }
+
+    private static String describe(SqlStatementBudget budget) {
+        return budget.endpoint().isBlank() ? "" : " (" + budget.endpoint() + ")";
+    }
+
+    private static String repeats(List<SqlStatementCounter.Repeat> repeats) {
+        return repeats.stream()
+                .map(r -> "\n  " + r.count() + "x " + r.sql())
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,69 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every controller endpoint must have a checked-in SQL budget.
+ */
+class SqlStatementBudgetsTests {
+
+    private final SqlStatementBudgets budgets = SqlStatementBudgets.load();
+
+    @Test
+    void everyEndpointHasABudget() throws Exception {
+        List<String> endpoints = controllerEndpoints();
+        assertThat(endpoints).isNotEmpty();
+
+        List<String> missing = endpoints.stream()
+                .filter(e -> budgets.find(e).isEmpty())
+                .toList();
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void looksUpByMethodAndRouteTemplate() {
+        assertThat(budgets.find("GET", "/api/projects/{slug}")).isPresent();
+        assertThat(budgets.find("get /api/projects/{slug}")).isPresent();
+        assertThat(budgets.find("GET", "/api/projects/my-slug")).isEmpty();
+    }
+
+    /**
+     * "METHOD /route" for every @RequestMapping method of every @RestController.
+     */
+    private static List<String> controllerEndpoints() throws ClassNotFoundException {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+
+        List<String> endpoints = new ArrayList<>();
+        for (BeanDefinition bd : scanner.findCandidateComponents("com.vasilika.portfoliotracker.web")) {
+            Class<?> controller = ClassUtils.forName(bd.getBeanClassName(), null);
+            RequestMapping base = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+            String prefix = base != null && base.path().length > 0 ? base.path()[0] : "";
+
+            for (Method m : controller.getDeclaredMethods()) {
+                RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(m, RequestMapping.class);
+                if (mapping == null) continue;
+
+                String path = prefix + (mapping.path().length > 0 ? mapping.path()[0] : "");
+                for (RequestMethod method : mapping.method()) {
+                    endpoints.add(method.name() + " " + path);
+                }
+            }
+        }
+        return endpoints;
+    }
+}
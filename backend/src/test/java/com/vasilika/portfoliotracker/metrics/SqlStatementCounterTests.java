@@ -0,0 +1,91 @@
+package com.vasilika.portfoliotracker.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTests {
+
+    @Test
+    void countsExecutedStatementsInEveryOpenScope() throws Exception {
+        DataSource ds = new CountingDataSource(fakeDataSource());
+
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            try (Connection con = ds.getConnection()) {
+                PreparedStatement ps = con.prepareStatement("select 1");
+                ps.executeQuery();
+
+                try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                    ps.executeQuery();
+                    con.createStatement().execute("select 2");
+                    assertThat(inner.statements()).isEqualTo(2);
+                }
+            }
+            assertThat(outer.statements()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void preparingWithoutExecutingIsNotCounted() throws Exception {
+        DataSource ds = new CountingDataSource(fakeDataSource());
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+             Connection con = ds.getConnection()) {
+            con.prepareStatement("select 1").close();
+            assertThat(scope.statements()).isZero();
+        }
+    }
+
+    @Test
+    void statementsOutsideAScopeAreIgnored() throws Exception {
+        DataSource ds = new CountingDataSource(fakeDataSource());
+        try (Connection con = ds.getConnection()) {
+            con.prepareStatement("select 1").executeQuery();
+        }
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            assertThat(scope.statements()).isZero();
+        }
+    }
+
+    @Test
+    void reportsStatementsRepeatedInAScope() throws Exception {
+        DataSource ds = new CountingDataSource(fakeDataSource());
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(() -> "GET /test");
+             Connection con = ds.getConnection()) {
+            PreparedStatement byId = con.prepareStatement("select * from tasks where id = ?");
+            for (int i = 0; i < 4; i++) byId.executeQuery();
+            con.prepareStatement("select 1").executeQuery();
+
+            assertThat(scope.label()).isEqualTo("GET /test");
+            assertThat(scope.repeated(4))
+                    .containsExactly(new SqlStatementCounter.Repeat("select * from tasks where id = ?", 4));
+            assertThat(scope.repeated(5)).isEmpty();
+        }
+    }
+
+    private static DataSource fakeDataSource() {
+        return fake(DataSource.class, (proxy, method, args) ->
+                method.getName().equals("getConnection") ? fakeConnection() : null);
+    }
+
+    private static Connection fakeConnection() {
+        return fake(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> fake(PreparedStatement.class, (p, m, a) -> null);
+            case "createStatement" -> fake(Statement.class, (p, m, a) -> m.getReturnType() == boolean.class ? false : null);
+            default -> null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T fake(Class<T> type, java.lang.reflect.InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
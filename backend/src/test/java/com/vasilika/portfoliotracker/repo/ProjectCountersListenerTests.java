@@ -0,0 +1,120 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.metrics.SqlStatementCounter;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counter upkeep is one statement per transaction, and the counters
+ * it leaves match the rows.
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars).
+ * The fixture project is deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest(properties = "app.demo.pool.size=0")
+class ProjectCountersListenerTests {
+
+    @Autowired private ProjectRepository projects;
+    @Autowired private TaskRepository tasks;
+    @Autowired private ProjectAdminService admin;
+    @Autowired private ProjectCounterRepository counters;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbc;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void createProject() {
+        Project p = new Project();
+        p.setSlug("counters-test-" + UUID.randomUUID());
+        p.setName("Counters test");
+        projectId = projects.save(p).getId();
+    }
+
+    @AfterEach
+    void deleteProject() {
+        projects.deleteById(projectId);
+    }
+
+    @Test
+    void manyWritesInOneTransactionRunOneCounterStatement() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                List<TaskDto> created = new ArrayList<>();
+                for (int i = 0; i < 6; i++) {
+                    created.add(admin.createTask(projectId,
+                            new CreateTaskRequest("Task " + i, null, "BACKLOG", "FEATURE", "LOW", null)));
+                }
+                admin.createUpdate(projectId, new CreateUpdateRequest(created.get(0).id(), "Update", "Body"));
+
+                // Moved to DONE, then another one back and forth (nets to zero)
+                tasks.findById(created.get(1).id()).orElseThrow().setStatus(TaskStatus.DONE);
+                tasks.flush();
+                tasks.findById(created.get(2).id()).orElseThrow().setStatus(TaskStatus.IN_PROGRESS);
+                tasks.flush();
+                tasks.findById(created.get(2).id()).orElseThrow().setStatus(TaskStatus.BACKLOG);
+
+                tasks.deleteById(created.get(5).id());
+            });
+
+            long counterStatements = scope.repeated(1).stream()
+                    .filter(r -> r.sql().contains("project_stats"))
+                    .mapToLong(SqlStatementCounter.Repeat::count)
+                    .sum();
+            assertThat(counterStatements).isEqualTo(1);
+        }
+
+        assertCountersMatchRows();
+        assertThat(counters.countTasks(projectId, TaskStatus.DONE, null, null)).isEqualTo(1);
+        assertThat(counters.countTasks(projectId, TaskStatus.IN_PROGRESS, null, null)).isZero();
+        assertThat(counters.countUpdates(projectId)).isEqualTo(1);
+    }
+
+    @Test
+    void writesOutsideAnExplicitTransactionAreCountedToo() {
+        TaskDto task = admin.createTask(projectId,
+                new CreateTaskRequest("Task", null, "BACKLOG", "BUG", "HIGH", null));
+        admin.createUpdate(projectId, new CreateUpdateRequest(null, "Update", "Body"));
+        tasks.deleteById(task.id());
+
+        assertCountersMatchRows();
+        assertThat(counters.countTasks(projectId, null, null, null)).isZero();
+    }
+
+    private void assertCountersMatchRows() {
+        Map<String, Object> stats = jdbc.queryForMap("""
+                select task_count, open_count, done_count, update_count,
+                       (select count(*) from tasks where project_id = ?) as tasks,
+                       (select count(*) from tasks where project_id = ? and status = 'DONE') as done,
+                       (select count(*) from updates where project_id = ?) as updates
+                from project_stats where project_id = ?
+                """, projectId, projectId, projectId, projectId);
+
+        assertThat(((Number) stats.get("task_count")).longValue()).isEqualTo(((Number) stats.get("tasks")).longValue());
+        assertThat(((Number) stats.get("done_count")).longValue()).isEqualTo(((Number) stats.get("done")).longValue());
+        assertThat(((Number) stats.get("update_count")).longValue()).isEqualTo(((Number) stats.get("updates")).longValue());
+        assertThat(counters.countTasks(projectId, null, null, null))
+                .isEqualTo(((Number) stats.get("tasks")).longValue());
+    }
+}
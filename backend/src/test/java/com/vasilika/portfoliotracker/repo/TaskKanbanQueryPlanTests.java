@@ -0,0 +1,136 @@
+package com.vasilika.portfoliotracker.repo;
+
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that Kanban task pages are read in index order.
+ *
+ * The SQL is the one Hibernate actually sends for
+ * TaskRepositoryImpl.findKanbanPage, captured through CountingDataSource
+ * (SqlStatementCounter), then PREPAREd on the test's own connection and
+ * explained with plan_cache_mode = force_generic_plan: the plan a
+ * prepared statement gets, whatever the bind values.
+ * PostgreSQL must walk idx_tasks_project_rank_created_id without a Sort node.
+ *
+ * (EXPLAIN (GENERIC_PLAN) with $n placeholders is rejected over JDBC's
+ * extended protocol: the Bind message supplies no values for them.)
+ *
+ * The fixture is big enough (40 projects x 500 tasks) for the planner
+ * to prefer the index on its own; no cost setting is changed.
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars). Everything is rolled back.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest
+@Transactional
+class TaskKanbanQueryPlanTests {
+
+    private static final String KANBAN_INDEX = "idx_tasks_project_rank_created_id";
+
+    @Autowired private TaskRepository tasks;
+    @Autowired private JdbcTemplate jdbc;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void fillProjects() {
+        String slugPrefix = "plan-test-" + UUID.randomUUID() + "-";
+
+        jdbc.update("""
+                insert into projects (id, slug, name, demo, created_at, updated_at)
+                select gen_random_uuid(), ? || g, 'Plan test', false, now(), now()
+                from generate_series(1, 40) g
+                """, slugPrefix);
+
+        jdbc.update("""
+                insert into tasks (id, project_id, title, status, status_rank, type, priority,
+                                   created_at, updated_at)
+                select gen_random_uuid(), p.id, 'Task ' || g,
+                       (array['BACKLOG', 'IN_PROGRESS', 'DONE'])[g % 3 + 1], g % 3 + 1,
+                       'FEATURE', 'MEDIUM', now() - g * interval '1 minute', now()
+                from projects p
+                cross join generate_series(1, 500) g
+                where p.slug like ?
+                """, slugPrefix + "%");
+
+        projectId = jdbc.queryForObject("select id from projects where slug = ?", UUID.class, slugPrefix + 1);
+
+        jdbc.execute("analyze tasks");
+    }
+
+    @Test
+    void firstPageIsReadInIndexOrder() {
+        String sql = capture(() -> tasks.findKanbanPage(projectId, null, null, null, null, null, null, 11));
+
+        assertNoSortOnKanbanIndex(explain(sql));
+    }
+
+    @Test
+    void cursorPageWithStatusFilterIsReadInIndexOrder() {
+        String sql = capture(() -> tasks.findKanbanPage(projectId, TaskStatus.IN_PROGRESS, null, null,
+                TaskStatus.IN_PROGRESS.rank(), Instant.EPOCH, new UUID(0, 0), 11));
+
+        assertThat(sql).contains("status_rank");
+        assertNoSortOnKanbanIndex(explain(sql));
+    }
+
+    /**
+     * Runs the repository call and returns the one statement it executed.
+     */
+    private static String capture(Runnable call) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            call.run();
+
+            List<SqlStatementCounter.Repeat> statements = scope.repeated(1);
+            assertThat(statements).hasSize(1);
+            return statements.get(0).sql();
+        }
+    }
+
+    /**
+     * PREPARE takes $n placeholders instead of JDBC's "?". The NULLs
+     * passed to EXECUTE never reach the plan: it is forced generic.
+     */
+    private List<String> explain(String jdbcSql) {
+        StringBuilder sql = new StringBuilder();
+        int parameter = 0;
+        for (char c : jdbcSql.toCharArray()) {
+            if (c == '?') {
+                sql.append('$').append(++parameter);
+            } else {
+                sql.append(c);
+            }
+        }
+
+        jdbc.execute("set local plan_cache_mode = force_generic_plan");
+        jdbc.execute("prepare kanban_page as " + sql);
+        try {
+            String nulls = String.join(", ", Collections.nCopies(parameter, "null"));
+            return jdbc.queryForList("explain execute kanban_page(" + nulls + ")", String.class);
+        } finally {
+            // Prepared statements outlive the (rolled back) transaction
+            jdbc.execute("deallocate kanban_page");
+        }
+    }
+
+    private static void assertNoSortOnKanbanIndex(List<String> plan) {
+        String text = String.join("\n", plan);
+        assertThat(text).contains(KANBAN_INDEX);
+        assertThat(text).doesNotContain("Sort");
+    }
+}
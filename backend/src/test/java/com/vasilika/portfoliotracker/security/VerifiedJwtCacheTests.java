@@ -0,0 +1,77 @@
+package com.vasilika.portfoliotracker.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedJwtCacheTests {
+
+    @Test
+    void returnsCachedJwtUntilExp() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10);
+        Jwt jwt = jwt("token-a", Instant.now().plusSeconds(60));
+
+        assertThat(cache.get("token-a")).isNull();
+        cache.put("token-a", jwt);
+
+        assertThat(cache.get("token-a")).isSameAs(jwt);
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void neverReturnsExpiredTokens() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10);
+        cache.put("expired", jwt("expired", Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    void convertsAuthoritiesOncePerToken() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10);
+        Jwt jwt = jwt("token-a", Instant.now().plusSeconds(60));
+        cache.put("token-a", jwt);
+
+        AtomicInteger conversions = new AtomicInteger();
+        Collection<GrantedAuthority> first = cache.authorities(jwt, j -> {
+            conversions.incrementAndGet();
+            return List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        });
+        Collection<GrantedAuthority> second = cache.authorities(jwt, j -> {
+            conversions.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(conversions).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void stopsCachingWhenFull() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(1);
+        cache.put("token-a", jwt("token-a", Instant.now().plusSeconds(60)));
+        cache.put("token-b", jwt("token-b", Instant.now().plusSeconds(60)));
+
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.stats().rejected()).isEqualTo(1);
+    }
+
+    private static Jwt jwt(String token, Instant exp) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject("admin")
+                .issuedAt(exp.minusSeconds(3600))
+                .expiresAt(exp)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.vasilika.portfoliotracker.service;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.Update;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.TaskRepository;
+import com.vasilika.portfoliotracker.repo.UpdateRepository;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the old row-by-row demo clone with the set-based clone.
+ *
+ * Requires a disposable PostgreSQL database (SPRING_DATASOURCE_* env vars).
+ * The real portfolio in that database is wiped, so never point this at production.
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=DemoSeederBenchmarkTests -Dbench=true
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@SpringBootTest
+class DemoSeederBenchmarkTests {
+
+    private static final int ROUNDS = 5;
+
+    @Autowired private DemoSeederService seeder;
+    @Autowired private ProjectRepository projects;
+    @Autowired private TaskRepository tasks;
+    @Autowired private UpdateRepository updates;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private TransactionTemplate tx;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000})
+    void compareRowByRowWithSetBased(int tasksPerProject) {
+        tx.executeWithoutResult(s -> fillPortfolio(3, tasksPerProject));
+
+        long rowByRow = timeRounds(() -> tx.executeWithoutResult(s -> legacySeed()));
+        long setBased = timeRounds(() -> {
+            jdbc.update("delete from demo_sandboxes");
+            seeder.seedReadySandbox();
+        });
+
+        System.out.printf("tasks/project=%5d  row-by-row=%6d ms  set-based=%6d ms%n",
+                tasksPerProject, rowByRow, setBased);
+
+        UUID sandboxId = seeder.seedReadySandbox();
+        assertThat(projects.findAllBySandboxIdOrderByCreatedAtDesc(sandboxId)).hasSize(3);
+        assertThat(jdbc.queryForObject(
+                "select count(*) from tasks t join projects p on p.id = t.project_id where p.sandbox_id = ?",
+                Long.class, sandboxId)).isEqualTo(3L * tasksPerProject);
+    }
+
+    private long timeRounds(Runnable seed) {
+        seed.run(); // warm-up
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) seed.run();
+        return (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+    }
+
+    private void fillPortfolio(int projectCount, int tasksPerProject) {
+        jdbc.update("delete from demo_sandboxes");
+        jdbc.update("delete from projects");
+
+        for (int p = 0; p < projectCount; p++) {
+            Project project = new Project();
+            project.setSlug("bench-" + p);
+            project.setName("Bench " + p);
+            project = projects.save(project);
+
+            for (int i = 0; i < tasksPerProject; i++) {
+                Task t = new Task();
+                t.setId(UUID.randomUUID());
+                t.setProject(project);
+                t.setTitle("Task " + i);
+                t.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+                t.setType("FEATURE");
+                t.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+                t.setCreatedAt(Instant.now());
+                t.setUpdatedAt(Instant.now());
+                tasks.save(t);
+
+                Update u = new Update();
+                u.setId(UUID.randomUUID());
+                u.setProject(project);
+                u.setTask(t);
+                u.setTitle("Update " + i);
+                u.setBody("Body " + i);
+                u.setCreatedAt(Instant.now());
+                updates.save(u);
+            }
+        }
+    }
+
+    /**
+     * The previous DemoSeederService implementation, kept here as the baseline.
+     */
+    private void legacySeed() {
+        projects.deleteAllByDemoTrue();
+
+        for (Project admin : projects.findAllByDemoFalse()) {
+            Project demo = new Project();
+            demo.setId(UUID.randomUUID());
+            demo.setDemo(true);
+            demo.setSlug(admin.getSlug());
+            demo.setName(admin.getName());
+            demo.setSummary(admin.getSummary());
+            demo.setDescription(admin.getDescription());
+            demo.setTechStack(admin.getTechStack());
+            demo.setRepoUrl(admin.getRepoUrl());
+            demo.setLiveUrl(admin.getLiveUrl());
+            Project saved = projects.save(demo);
+
+            Map<UUID, Task> byAdminId = new HashMap<>();
+            for (Task t : tasks.findByProject_Id(admin.getId())) {
+                Task copy = new Task();
+                copy.setId(UUID.randomUUID());
+                copy.setProject(saved);
+                copy.setTitle(t.getTitle());
+                copy.setDescription(t.getDescription());
+                copy.setStatus(t.getStatus());
+                copy.setType(t.getType());
+                copy.setPriority(t.getPriority());
+                copy.setTargetVersion(t.getTargetVersion());
+                copy.setCreatedAt(Instant.now());
+                copy.setUpdatedAt(Instant.now());
+                byAdminId.put(t.getId(), tasks.save(copy));
+            }
+
+            for (Update u : updates.findByProject_Id(admin.getId())) {
+                Update copy = new Update();
+                copy.setId(UUID.randomUUID());
+                copy.setProject(saved);
+                copy.setTitle(u.getTitle());
+                copy.setBody(u.getBody());
+                copy.setCreatedAt(Instant.now());
+                if (u.getTask() != null) copy.setTask(byAdminId.get(u.getTask().getId()));
+                updates.save(copy);
+            }
+        }
+    }
+}
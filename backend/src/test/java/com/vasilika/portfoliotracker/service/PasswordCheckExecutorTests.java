@@ -0,0 +1,78 @@
+package com.vasilika.portfoliotracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordCheckExecutorTests {
+
+    /**
+     * Plain-text encoder; optionally blocks until released.
+     */
+    private static final class TestEncoder implements PasswordEncoder {
+        private final CountDownLatch release;
+
+        TestEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence raw) {
+            return raw.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return encoded.contentEquals(raw);
+        }
+    }
+
+    @Test
+    void backsOffUsernameAfterFreeAttempts() {
+        var checks = new PasswordCheckExecutor(new TestEncoder(new CountDownLatch(0)),
+                1, 4, 2, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        assertThat(checks.matches("admin", "wrong", "secret").join()).isFalse();
+        assertThat(checks.matches("admin", "wrong", "secret").join()).isFalse();
+        assertThat(checks.matches("admin", "wrong", "secret").join()).isFalse();
+
+        assertThatThrownBy(() -> checks.matches("admin", "secret", "secret"))
+                .isInstanceOf(LoginThrottledException.class);
+
+        // Other usernames are not affected
+        assertThat(checks.matches("someone", "secret", "secret").join()).isTrue();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        var release = new CountDownLatch(1);
+        var checks = new PasswordCheckExecutor(new TestEncoder(release),
+                1, 1, 3, Duration.ofSeconds(1), Duration.ofMinutes(5));
+
+        var running = checks.matches("a", "x", "x");
+        // Wait until the single worker picked up the first check, so the next one queues
+        while (checks.stats().activeChecks() == 0) {
+            Thread.onSpinWait();
+        }
+        var queued = checks.matches("b", "x", "x");
+
+        assertThatThrownBy(() -> checks.matches("c", "x", "x"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThat(checks.stats().rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.vasilika.portfoliotracker.service.admin;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.web.dto.BulkImportResultDto;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares rows/second of the single-row create path with the batch import.
+ *
+ * Requires a disposable PostgreSQL database (SPRING_DATASOURCE_* env vars).
+ * Creates and deletes its own project only.
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=TaskImportBenchmarkTests -Dbench=true
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@SpringBootTest
+class TaskImportBenchmarkTests {
+
+    @Autowired private ProjectAdminService admin;
+    @Autowired private TaskImportService taskImport;
+    @Autowired private ProjectRepository projects;
+    @Autowired private JdbcTemplate jdbc;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 5_000})
+    void compareSingleRowWithBatch(int rows) {
+        List<CreateTaskRequest> requests = requests(rows);
+
+        UUID singleProject = newProject("bench-single");
+        long singleNanos = time(() -> requests.forEach(r -> admin.createTask(singleProject, r)));
+
+        UUID batchProject = newProject("bench-batch");
+        BulkImportResultDto[] result = new BulkImportResultDto[1];
+        long batchNanos = time(() -> result[0] = taskImport.importTasks(batchProject, requests));
+
+        System.out.printf("rows=%5d  single-row=%8.0f rows/s  batch=%8.0f rows/s%n",
+                rows, rowsPerSecond(rows, singleNanos), rowsPerSecond(rows, batchNanos));
+
+        assertThat(result[0].errors()).isEmpty();
+        assertThat(result[0].created()).isEqualTo(rows);
+        assertThat(jdbc.queryForObject(
+                "select sum(task_count) from project_task_counters where project_id = ?",
+                Long.class, batchProject)).isEqualTo((long) rows);
+
+        projects.deleteById(singleProject);
+        projects.deleteById(batchProject);
+    }
+
+    private UUID newProject(String slug) {
+        Project p = new Project();
+        p.setSlug(slug + "-" + UUID.randomUUID());
+        p.setName(slug);
+        return projects.save(p).getId();
+    }
+
+    private static List<CreateTaskRequest> requests(int rows) {
+        String[] statuses = {"BACKLOG", "IN_PROGRESS", "DONE"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+
+        List<CreateTaskRequest> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(new CreateTaskRequest("Imported " + i, "Row " + i,
+                    statuses[i % 3], "feature", priorities[i % 3], "v1"));
+        }
+        return list;
+    }
+
+    private static long time(Runnable run) {
+        long start = System.nanoTime();
+        run.run();
+        return System.nanoTime() - start;
+    }
+
+    private static double rowsPerSecond(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
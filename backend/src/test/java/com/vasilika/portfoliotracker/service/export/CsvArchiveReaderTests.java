@@ -0,0 +1,87 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvArchiveReaderTests {
+
+    private static final Instant AT = Instant.parse("2026-01-02T03:04:05.123456Z");
+
+    private final UUID projectId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID taskId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final UUID updateId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Test
+    void readsBackWhatTheWriterWrote() throws Exception {
+        ProjectDto project = new ProjectDto(projectId, "tracker", "Tracker", null,
+                "Line one\nline two\n\nline four", null, null, null, AT, AT);
+        TaskDto task = new TaskDto(taskId, projectId, "Say \"hi\", twice", "Multi\r\nline, \"quoted\"",
+                "BACKLOG", "FEATURE", "LOW", "v1", AT, AT);
+        UpdateDto update = new UpdateDto(updateId, projectId, taskId, null, "Shipped", "Body", AT);
+
+        var out = new ByteArrayOutputStream();
+        try (var writer = new CsvExportWriter(out)) {
+            writer.project(project);
+            writer.task(task);
+            writer.update(update);
+        }
+
+        try (var reader = reader(out.toString(StandardCharsets.UTF_8))) {
+            var projectRow = (ArchiveRecord.ProjectRow) reader.next();
+            assertThat(projectRow.project()).isEqualTo(project);
+            assertThat(projectRow.line()).isEqualTo(2);
+
+            // The description above spans lines 2-5
+            var taskRow = (ArchiveRecord.TaskRow) reader.next();
+            assertThat(taskRow.task()).isEqualTo(task);
+            assertThat(taskRow.line()).isEqualTo(6);
+
+            var updateRow = (ArchiveRecord.UpdateRow) reader.next();
+            assertThat(updateRow.update()).isEqualTo(update);
+            assertThat(updateRow.line()).isEqualTo(8);
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void quotedFieldsKeepSeparatorsAndDoubledQuotes() throws Exception {
+        String csv = CsvExportWriter.HEADER + "\r\n"
+                + "project,tracker," + projectId + ",,\"A, \"\"B\"\"\",,,,,\"x\r\n,y\",,,,,,,,\r\n";
+
+        try (var reader = reader(csv)) {
+            var row = (ArchiveRecord.ProjectRow) reader.next();
+            assertThat(row.project().name()).isEqualTo("A, \"B\"");
+            assertThat(row.project().description()).isEqualTo("x\r\n,y");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void unterminatedQuoteIsAFormatError() throws Exception {
+        String csv = CsvExportWriter.HEADER + "\n"
+                + "project,tracker," + projectId + ",,\"never closed\n";
+
+        try (var reader = reader(csv)) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(ArchiveFormatException.class)
+                    .hasMessageContaining("Unterminated");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private static CsvArchiveReader reader(String csv) {
+        return new CsvArchiveReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvExportWriterTests {
+
+    private static final Instant AT = Instant.parse("2026-01-02T03:04:05Z");
+
+    @Test
+    void writesOneRowPerRecordAndQuotesWhereNeeded() throws Exception {
+        UUID projectId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID taskId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID updateId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+        var out = new ByteArrayOutputStream();
+        try (var writer = new CsvExportWriter(out)) {
+            writer.project(new ProjectDto(projectId, "tracker", "Tracker", null,
+                    "Line one\nline two", null, null, null, AT, AT));
+            writer.task(new TaskDto(taskId, projectId, "Say \"hi\", twice", null,
+                    "BACKLOG", "FEATURE", "LOW", "v1", AT, AT));
+            writer.update(new UpdateDto(updateId, projectId, taskId, "Say hi", "Shipped", "Body", AT));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                CsvExportWriter.HEADER + "\r\n"
+                + "project,tracker," + projectId + ",,Tracker,,,,,\"Line one\nline two\",,,,,,,"
+                + AT + "," + AT + "\r\n"
+                + "task,tracker," + taskId + ",,\"Say \"\"hi\"\", twice\",BACKLOG,FEATURE,LOW,v1,,,,,,,,"
+                + AT + "," + AT + "\r\n"
+                + "update,tracker," + updateId + "," + taskId + ",Shipped,,,,,Body,,,,,,,"
+                + AT + ",\r\n");
+    }
+}
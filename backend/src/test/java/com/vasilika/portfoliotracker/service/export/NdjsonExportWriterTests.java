@@ -0,0 +1,83 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonExportWriterTests {
+
+    private static final Instant AT = Instant.parse("2026-01-02T03:04:05Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void writesOneTypedObjectPerLine() throws Exception {
+        UUID projectId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID taskId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+        ProjectDto project = new ProjectDto(projectId, "tracker", "Tracker", null,
+                "Line one\nline two", null, null, null, AT, AT);
+        TaskDto task = new TaskDto(taskId, projectId, "Say \"hi\"", null,
+                "BACKLOG", "FEATURE", "LOW", "v1", AT, AT);
+        UpdateDto update = new UpdateDto(UUID.randomUUID(), projectId, taskId, null, "Shipped", "Body", AT);
+        PlanningItemDto item = new PlanningItemDto(UUID.randomUUID(), projectId, taskId, "Say \"hi\"",
+                null, null, null, null, null, 0, true, AT, AT);
+
+        var out = new ByteArrayOutputStream();
+        try (var writer = new NdjsonExportWriter(objectMapper, out)) {
+            writer.project(project);
+            writer.task(task);
+            writer.update(update);
+            writer.planning(item);
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(lines).hasSize(5);
+        assertThat(lines[4]).isEmpty();
+
+        assertLine(lines[0], "project", project);
+        assertLine(lines[1], "task", task);
+        assertLine(lines[2], "update", update);
+        assertLine(lines[3], "planning", item);
+
+        // Read back exactly as the restore does
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(objectMapper.treeToValue(first.get("data"), ProjectDto.class)).isEqualTo(project);
+    }
+
+    @Test
+    void leavesTheResponseStreamOpen() throws Exception {
+        var closed = new boolean[1];
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        new NdjsonExportWriter(objectMapper, out).close();
+
+        assertThat(closed[0]).isFalse();
+    }
+
+    // Raw text: readTree would skip stray whitespace around the object
+    private void assertLine(String line, String type, Object data) throws Exception {
+        assertThat(line).isEqualTo("{\"type\":\"" + type + "\",\"data\":" + objectMapper.writeValueAsString(data) + "}");
+    }
+}
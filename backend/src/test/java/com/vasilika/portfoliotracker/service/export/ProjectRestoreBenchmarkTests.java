@@ -0,0 +1,177 @@
+package com.vasilika.portfoliotracker.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.id.UuidV7;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.RestoreResultDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares rows/second of the existing write paths with the COPY restore:
+ * - single-row creates (POST /admin/projects/{id}/tasks and /updates)
+ * - the JDBC batch import (POST /admin/projects/{id}/tasks/batch, tasks only)
+ * - POST /admin/projects/restore of a generated NDJSON archive
+ *
+ * Then checks that export -> restore(replace) round-trips the project.
+ *
+ * Requires a disposable PostgreSQL database (SPRING_DATASOURCE_* env vars).
+ * Creates and deletes its own projects only.
+ *
+ * Run with:
+ *   ./mvnw test -Dtest=ProjectRestoreBenchmarkTests -Dbench=true
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@SpringBootTest
+class ProjectRestoreBenchmarkTests {
+
+    private static final String[] STATUSES = {"BACKLOG", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    @Autowired private ProjectAdminService admin;
+    @Autowired private TaskImportService taskImport;
+    @Autowired private ProjectRestoreService restores;
+    @Autowired private ProjectExportService exports;
+    @Autowired private ProjectRepository projects;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JdbcTemplate jdbc;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 10_000})
+    void compareExistingEndpointsWithCopyRestore(int rows) throws IOException {
+        List<CreateTaskRequest> taskRequests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            taskRequests.add(new CreateTaskRequest("Task " + i, "Row " + i,
+                    STATUSES[i % 3], "feature", PRIORITIES[i % 3], "v1"));
+        }
+
+        // 1) Single-row creates: one task and one update per row
+        UUID singleProject = newProject("bench-single");
+        long singleNanos = time(() -> {
+            for (CreateTaskRequest req : taskRequests) {
+                TaskDto task = admin.createTask(singleProject, req);
+                admin.createUpdate(singleProject, new CreateUpdateRequest(task.id(), "Update", "Body"));
+            }
+        });
+
+        // 2) Batch import (tasks only, there is no batch endpoint for updates)
+        UUID batchProject = newProject("bench-batch");
+        long batchNanos = time(() -> taskImport.importTasks(batchProject, taskRequests));
+
+        // 3) COPY restore: tasks, one update per task, a small planning board
+        String slug = "bench-restore-" + UUID.randomUUID();
+        byte[] archive = archive(slug, rows);
+        RestoreResultDto[] result = new RestoreResultDto[1];
+        long restoreNanos = time(() -> result[0] = restore(archive, false));
+
+        long restoredRows = result[0].tasks() + result[0].updates() + result[0].planningItems();
+        System.out.printf("rows=%6d  single-row=%8.0f rows/s  batch=%8.0f rows/s  copy-restore=%8.0f rows/s%n",
+                rows,
+                rowsPerSecond(2L * rows, singleNanos),
+                rowsPerSecond(rows, batchNanos),
+                rowsPerSecond(restoredRows, restoreNanos));
+
+        assertThat(result[0].errors()).isEmpty();
+        assertThat(result[0].tasks()).isEqualTo(rows);
+        assertThat(result[0].updates()).isEqualTo(rows);
+
+        UUID restoredProject = projects.findBySlugAndDemo(slug, false).orElseThrow().getId();
+        assertThat(jdbc.queryForObject(
+                "select sum(task_count) from project_task_counters where project_id = ?",
+                Long.class, restoredProject)).isEqualTo((long) rows);
+
+        // Export what was restored and restore it over itself
+        var exported = new ByteArrayOutputStream();
+        exports.exportProject(restoredProject, ExportFormat.NDJSON, exported);
+        RestoreResultDto again = restore(exported.toByteArray(), true);
+
+        assertThat(again.errors()).isEmpty();
+        assertThat(again.tasks()).isEqualTo(result[0].tasks());
+        assertThat(again.updates()).isEqualTo(result[0].updates());
+        assertThat(again.planningItems()).isEqualTo(result[0].planningItems());
+
+        projects.deleteById(singleProject);
+        projects.deleteById(batchProject);
+        projects.deleteById(restoredProject);
+    }
+
+    private RestoreResultDto restore(byte[] archive, boolean replace) {
+        try {
+            return restores.restore(ExportFormat.NDJSON, replace, new ByteArrayInputStream(archive));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] archive(String slug, int rows) throws IOException {
+        Instant now = Instant.now();
+        UUID projectId = UuidV7.next();
+        var out = new ByteArrayOutputStream();
+
+        line(out, "project", new ProjectDto(projectId, slug, "Restore bench", null, null, null, null, null, now, now));
+
+        List<UUID> taskIds = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            UUID taskId = UuidV7.next();
+            taskIds.add(taskId);
+            line(out, "task", new TaskDto(taskId, projectId, "Task " + i, "Row " + i,
+                    STATUSES[i % 3], "FEATURE", PRIORITIES[i % 3], "v1", now, now));
+        }
+        for (int i = 0; i < rows; i++) {
+            line(out, "update", new UpdateDto(UuidV7.next(), projectId, taskIds.get(i), null,
+                    "Update", "Body", now));
+        }
+        // Every third task is DONE, so plan BACKLOG tasks only
+        for (int i = 0, order = 0; i < rows && order < 20; i += 3, order++) {
+            line(out, "planning", new PlanningItemDto(UuidV7.next(), projectId, taskIds.get(i), null, null,
+                    null, null, null, null, order, order == 0, now, now));
+        }
+        return out.toByteArray();
+    }
+
+    private void line(ByteArrayOutputStream out, String type, Object data) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(Map.of("type", type, "data", data)));
+        out.write('\n');
+    }
+
+    private UUID newProject(String slug) {
+        Project p = new Project();
+        p.setSlug(slug + "-" + UUID.randomUUID());
+        p.setName(slug);
+        return projects.save(p).getId();
+    }
+
+    private static long time(Runnable run) {
+        long start = System.nanoTime();
+        run.run();
+        return System.nanoTime() - start;
+    }
+
+    private static double rowsPerSecond(long rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
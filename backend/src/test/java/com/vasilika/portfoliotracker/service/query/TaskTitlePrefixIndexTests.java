@@ -0,0 +1,111 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.web.dto.TaskSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskTitlePrefixIndexTests {
+
+    private final TaskSuggestionDto login = task("Fix login redirect", "BACKLOG");
+    private final TaskSuggestionDto logout = task("Logout button", "IN_PROGRESS");
+    private final TaskSuggestionDto docs = task("Document the login flow", "DONE");
+
+    private final TaskTitlePrefixIndex index = TaskTitlePrefixIndex.of(List.of(login, logout, docs));
+
+    @Test
+    void matchesWordPrefixesTitleStartFirst() {
+        assertThat(titles(index.suggest("log", 10)))
+                .containsExactly("Logout button", "Document the login flow", "Fix login redirect");
+    }
+
+    @Test
+    void everyTermMustMatchSomeWord() {
+        assertThat(titles(index.suggest("fix LOG", 10))).containsExactly("Fix login redirect");
+        assertThat(titles(index.suggest("login flow", 10))).containsExactly("Document the login flow");
+        assertThat(index.suggest("login cache", 10)).isEmpty();
+    }
+
+    @Test
+    void onlyMatchesFromTheStartOfAWord() {
+        assertThat(index.suggest("ogin", 10)).isEmpty();
+    }
+
+    @Test
+    void stopsAtLimit() {
+        assertThat(titles(index.suggest("log", 1))).containsExactly("Logout button");
+    }
+
+    @Test
+    void blankOrPunctuationOnlyQuerySuggestsNothing() {
+        assertThat(index.suggest(null, 10)).isEmpty();
+        assertThat(index.suggest("  -- ", 10)).isEmpty();
+    }
+
+    @Test
+    void changesReturnANewIndex() {
+        TaskSuggestionDto renamed = new TaskSuggestionDto(login.id(), "Fix signup redirect", "IN_PROGRESS");
+
+        TaskTitlePrefixIndex changed = index.with(renamed).without(logout.id());
+
+        assertThat(titles(changed.suggest("log", 10))).containsExactly("Document the login flow");
+        assertThat(changed.suggest("sign", 10)).containsExactly(renamed);
+        assertThat(changed.size()).isEqualTo(2);
+
+        // The original is untouched
+        assertThat(index.suggest("log", 10)).hasSize(3);
+    }
+
+    @Test
+    void unchangedTasksKeepTheSameIndex() {
+        assertThat(index.with(new TaskSuggestionDto(login.id(), login.title(), login.status()))).isSameAs(index);
+        assertThat(index.without(UUID.randomUUID())).isSameAs(index);
+    }
+
+    @Test
+    void incrementalChangesMatchAFullBuild() {
+        String[] words = {"fix", "login", "logout", "add", "search", "cache", "board", "bug"};
+        Random random = new Random(7);
+        Map<UUID, TaskSuggestionDto> rows = new LinkedHashMap<>();
+        TaskTitlePrefixIndex incremental = TaskTitlePrefixIndex.of(List.of());
+
+        for (int i = 0; i < 500; i++) {
+            List<UUID> ids = new ArrayList<>(rows.keySet());
+            if (!ids.isEmpty() && random.nextInt(4) == 0) {
+                UUID id = ids.get(random.nextInt(ids.size()));
+                rows.remove(id);
+                incremental = incremental.without(id);
+            } else {
+                UUID id = !ids.isEmpty() && random.nextBoolean()
+                        ? ids.get(random.nextInt(ids.size()))
+                        : UUID.randomUUID();
+                TaskSuggestionDto t = new TaskSuggestionDto(id,
+                        words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)],
+                        "BACKLOG");
+                rows.put(id, t);
+                incremental = incremental.with(t);
+            }
+        }
+
+        TaskTitlePrefixIndex rebuilt = TaskTitlePrefixIndex.of(rows.values());
+        assertThat(incremental.size()).isEqualTo(rows.size());
+        for (String q : List.of("f", "lo", "log", "login fix", "b", "bug board", "cache")) {
+            assertThat(incremental.suggest(q, 1_000)).isEqualTo(rebuilt.suggest(q, 1_000));
+        }
+    }
+
+    private static TaskSuggestionDto task(String title, String status) {
+        return new TaskSuggestionDto(UUID.randomUUID(), title, status);
+    }
+
+    private static List<String> titles(List<TaskSuggestionDto> tasks) {
+        return tasks.stream().map(TaskSuggestionDto::title).toList();
+    }
+}
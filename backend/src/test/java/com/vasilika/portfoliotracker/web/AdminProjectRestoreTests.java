@@ -0,0 +1,201 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.domain.id.UuidV7;
+import com.vasilika.portfoliotracker.metrics.SqlStatementBudget;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.TaskRepository;
+import com.vasilika.portfoliotracker.service.PlanningBoardService;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.service.export.ExportFormat;
+import com.vasilika.portfoliotracker.service.export.ProjectExportService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardItemRequest;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /admin/projects/restore against a real database:
+ * - all-or-nothing: a bad row in a later project rolls back the earlier ones
+ * - CSV export -> restore(replace) -> export gives the same archive
+ * - plain SQL per restored project (COPY rows are not counted)
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars).
+ * Every project the tests create or restore is deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest(properties = "app.demo.pool.size=0")
+@AutoConfigureMockMvc
+class AdminProjectRestoreTests {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private ProjectRepository projects;
+    @Autowired private TaskRepository tasks;
+    @Autowired private TaskImportService taskImport;
+    @Autowired private ProjectAdminService admin;
+    @Autowired private PlanningBoardService planningBoards;
+    @Autowired private ProjectExportService exports;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JdbcTemplate jdbc;
+
+    private final String slugPrefix = "restore-test-" + UUID.randomUUID() + "-";
+
+    @AfterEach
+    void deleteProjects() {
+        jdbc.update("delete from projects where demo = false and slug like ?", slugPrefix + "%");
+    }
+
+    @Test
+    void badRowInALaterProjectRestoresNothing() throws Exception {
+        Instant now = Instant.now();
+        UUID first = UuidV7.next();
+        UUID second = UuidV7.next();
+        var archive = new ByteArrayOutputStream();
+
+        line(archive, "project", project(first, slugPrefix + 1, now));
+        for (int i = 0; i < 3; i++) {
+            line(archive, "task", new TaskDto(UuidV7.next(), first, "Task " + i, null,
+                    "BACKLOG", "FEATURE", "LOW", null, now, now));
+        }
+        line(archive, "update", new UpdateDto(UuidV7.next(), first, null, null, "Update", "Body", now));
+        line(archive, "project", project(second, slugPrefix + 2, now));
+        line(archive, "task", new TaskDto(UuidV7.next(), second, "Broken", null,
+                "NOT_A_STATUS", "FEATURE", "LOW", null, now, now));
+
+        mvc.perform(post("/admin/projects/restore").param("format", "ndjson")
+                        .with(admin())
+                        .content(archive.toByteArray()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.length()").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(7))
+                .andExpect(jsonPath("$.errors[0].field").value("status"));
+
+        // The first project was written and its counters rebuilt before the bad row
+        assertThat(count("projects", "id", first)).isZero();
+        assertThat(count("tasks", "project_id", first)).isZero();
+        assertThat(count("project_task_counters", "project_id", first)).isZero();
+        assertThat(count("project_update_counters", "project_id", first)).isZero();
+        assertThat(count("project_stats", "project_id", first)).isZero();
+    }
+
+    @Test
+    void csvExportRestoresOverItselfUnchanged() throws Exception {
+        Project p = new Project();
+        p.setSlug(slugPrefix + "csv");
+        p.setName("CSV round trip");
+        p.setDescription("Line one\nline two, with \"quotes\"");
+        Project project = projects.save(p);
+        UUID projectId = project.getId();
+
+        String[] statuses = {"BACKLOG", "IN_PROGRESS", "DONE"};
+        List<CreateTaskRequest> rows = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            rows.add(new CreateTaskRequest("Task " + i, i % 2 == 0 ? "Multi\nline \"" + i + "\", csv" : null,
+                    statuses[i % 3], "FEATURE", "MEDIUM", "v1"));
+        }
+        taskImport.importTasks(projectId, rows);
+
+        List<Task> open = tasks.findByProject_Id(projectId).stream()
+                .filter(t -> t.getStatus() != TaskStatus.DONE)
+                .toList();
+        admin.createUpdate(projectId, new CreateUpdateRequest(open.get(0).getId(), "Linked", "Body\nwith a newline"));
+        admin.createUpdate(projectId, new CreateUpdateRequest(null, "General", "Body"));
+        planningBoards.saveBoard(project, open.stream()
+                .map(t -> new SavePlanningBoardItemRequest(t.getId(), false))
+                .toList());
+
+        String before = export(projectId);
+
+        mvc.perform(post("/admin/projects/restore").param("format", "csv").param("replace", "true")
+                        .with(admin())
+                        .content(before.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.projects").value(1))
+                .andExpect(jsonPath("$.tasks").value(9))
+                .andExpect(jsonPath("$.updates").value(2))
+                .andExpect(jsonPath("$.planningItems").value(open.size()));
+
+        assertThat(export(projectId)).isEqualTo(before);
+        assertThat(jdbc.queryForObject("select task_count from project_stats where project_id = ?",
+                Long.class, projectId)).isEqualTo(9L);
+    }
+
+    /**
+     * Two projects: slug check + insert + 4 counter rebuild statements each.
+     */
+    @Test
+    @SqlStatementBudget(max = 12)
+    void plainSqlGrowsPerProjectOnly() throws Exception {
+        Instant now = Instant.now();
+        var archive = new ByteArrayOutputStream();
+        for (int p = 0; p < 2; p++) {
+            UUID projectId = UuidV7.next();
+            line(archive, "project", project(projectId, slugPrefix + "budget-" + p, now));
+            for (int i = 0; i < 50; i++) {
+                line(archive, "task", new TaskDto(UuidV7.next(), projectId, "Task " + i, null,
+                        "BACKLOG", "FEATURE", "LOW", null, now, now));
+            }
+        }
+
+        mvc.perform(post("/admin/projects/restore").param("format", "ndjson")
+                        .with(admin())
+                        .content(archive.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.tasks").value(100));
+    }
+
+    private ProjectDto project(UUID id, String slug, Instant now) {
+        return new ProjectDto(id, slug, "Restore test", null, null, null, null, null, now, now);
+    }
+
+    private void line(ByteArrayOutputStream out, String type, Object data) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(Map.of("type", type, "data", data)));
+        out.write('\n');
+    }
+
+    private String export(UUID projectId) throws IOException {
+        var out = new ByteArrayOutputStream();
+        exports.exportProject(projectId, ExportFormat.CSV, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private long count(String table, String column, UUID id) {
+        Long n = jdbc.queryForObject("select count(*) from " + table + " where " + column + " = ?", Long.class, id);
+        return n == null ? 0 : n;
+    }
+
+    private static RequestPostProcessor admin() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,283 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.metrics.SqlStatementBudget;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.TaskRepository;
+import com.vasilika.portfoliotracker.service.AuthService;
+import com.vasilika.portfoliotracker.service.DemoSeederService;
+import com.vasilika.portfoliotracker.service.PlanningBoardService;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
+import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardItemRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keeps the main endpoints within their SQL budgets (sql-budgets.conf)
+ * and free of repeated per-row queries.
+ *
+ * Each test performs exactly one request against a small project
+ * (tasks, linked updates, a planning board) built in @BeforeEach.
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars).
+ * The fixture project (and its demo sandbox) is deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest(properties = "app.demo.pool.size=0")
+@AutoConfigureMockMvc
+class EndpointSqlBudgetTests {
+
+    private static final int TASKS = 12;
+    private static final int UPDATES = 8;
+    private static final int PLANNED = 6;
+
+    @Autowired private MockMvc mvc;
+    @Autowired private ProjectRepository projects;
+    @Autowired private TaskRepository tasks;
+    @Autowired private TaskImportService taskImport;
+    @Autowired private ProjectAdminService admin;
+    @Autowired private PlanningBoardService planningBoards;
+    @Autowired private DemoSeederService demoSeeder;
+    @Autowired private JdbcTemplate jdbc;
+
+    private String slug;
+    private UUID projectId;
+    private List<Task> open;
+    private UUID sandboxId;
+    private UUID demoProjectId;
+
+    @BeforeEach
+    void buildProject() {
+        slug = "sql-budget-" + UUID.randomUUID();
+
+        Project p = new Project();
+        p.setSlug(slug);
+        p.setName("SQL budget test");
+        Project project = projects.save(p);
+        projectId = project.getId();
+
+        String[] statuses = {"BACKLOG", "IN_PROGRESS", "DONE"};
+        List<CreateTaskRequest> rows = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new CreateTaskRequest("Task " + i, "Budget task " + i, statuses[i % 3], "FEATURE", "MEDIUM", "v1"));
+        }
+        taskImport.importTasks(projectId, rows);
+
+        open = tasks.findByProject_Id(projectId).stream()
+                .filter(t -> t.getStatus() != TaskStatus.DONE)
+                .toList();
+
+        // Every update linked to a different task: one lazy task load each would show up as N+1
+        for (int i = 0; i < UPDATES; i++) {
+            admin.createUpdate(projectId, new CreateUpdateRequest(open.get(i % open.size()).getId(), "Update " + i, "Body " + i));
+        }
+
+        planningBoards.saveBoard(project, open.subList(0, PLANNED).stream()
+                .map(t -> new SavePlanningBoardItemRequest(t.getId(), false))
+                .toList());
+
+        sandboxId = demoSeeder.seedClaimedSandbox(Instant.now().plus(1, ChronoUnit.HOURS));
+        Project demoProject = projects.findBySlugAndSandboxId(slug, sandboxId).orElseThrow();
+        demoProjectId = demoProject.getId();
+
+        // Planning boards are not cloned into sandboxes
+        planningBoards.saveBoard(demoProject, tasks.findByProject_Id(demoProjectId).stream()
+                .filter(t -> t.getStatus() != TaskStatus.DONE)
+                .limit(PLANNED)
+                .map(t -> new SavePlanningBoardItemRequest(t.getId(), false))
+                .toList());
+    }
+
+    @AfterEach
+    void deleteProject() {
+        jdbc.update("delete from demo_sandboxes where id = ?", sandboxId);
+        projects.deleteById(projectId);
+    }
+
+    // ---- Public ----
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects")
+    void publicList() throws Exception {
+        mvc.perform(get("/api/projects")).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects/{slug}")
+    void publicDetails() throws Exception {
+        mvc.perform(get("/api/projects/{slug}", slug)).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects/{slug}/stats")
+    void publicStats() throws Exception {
+        // Fixture rows were written by the batch import and JPA: both keep project_stats current
+        mvc.perform(get("/api/projects/{slug}/stats", slug))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskCount").value(TASKS))
+                .andExpect(jsonPath("$.doneCount").value(TASKS / 3))
+                .andExpect(jsonPath("$.openCount").value(TASKS - TASKS / 3))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(TASKS / 3))
+                .andExpect(jsonPath("$.byType.FEATURE").value(TASKS))
+                .andExpect(jsonPath("$.byPriority.LOW").value(0))
+                .andExpect(jsonPath("$.updateCount").value(UPDATES));
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects/{slug}/updates")
+    void publicUpdates() throws Exception {
+        mvc.perform(get("/api/projects/{slug}/updates", slug)).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects/{slug}/tasks")
+    void publicTasks() throws Exception {
+        mvc.perform(get("/api/projects/{slug}/tasks", slug)).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects/{slug}/paged")
+    void publicPaged() throws Exception {
+        mvc.perform(get("/api/projects/{slug}/paged", slug)).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/projects/{slug}/search")
+    void publicProjectSearch() throws Exception {
+        // Every fixture task description contains "Budget"
+        mvc.perform(get("/api/projects/{slug}/search", slug).param("q", "budget").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /api/search")
+    void publicSearch() throws Exception {
+        mvc.perform(get("/api/search").param("q", "budget")).andExpect(status().isOk());
+    }
+
+    // ---- Admin ----
+
+    /**
+     * A non-empty board is one query (the 2 in sql-budgets.conf covers
+     * the extra existence check of an empty board).
+     */
+    @Test
+    @SqlStatementBudget(max = 1)
+    void adminPlanningBoard() throws Exception {
+        mvc.perform(get("/admin/projects/{id}/planning", projectId).with(admin()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "PUT /admin/projects/{projectId}/planning")
+    void adminSavePlanningBoard() throws Exception {
+        String body = """
+                {"items": [{"taskId": "%s", "isCurrent": true}, {"taskId": "%s", "isCurrent": false}]}
+                """.formatted(open.get(1).getId(), open.get(0).getId());
+
+        mvc.perform(put("/admin/projects/{id}/planning", projectId).with(admin())
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "POST /admin/projects/{projectId}/tasks")
+    void adminCreateTask() throws Exception {
+        mvc.perform(post("/admin/projects/{id}/tasks", projectId).with(admin())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "New", "status": "BACKLOG", "type": "FEATURE", "priority": "LOW"}
+                                """))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    /**
+     * The first lookup builds the project's title index (one query),
+     * the following ones are served from memory.
+     */
+    @Test
+    @SqlStatementBudget(endpoint = "GET /admin/projects/{projectId}/tasks/suggest")
+    void adminSuggestTasks() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(get("/admin/projects/{id}/tasks/suggest", projectId).param("q", "task 1").with(admin()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(3))
+                    .andExpect(jsonPath("$[0].title").value("Task 1"));
+        }
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "PATCH /admin/projects/{projectId}/tasks/{taskId}")
+    void adminPatchTask() throws Exception {
+        mvc.perform(patch("/admin/projects/{id}/tasks/{taskId}", projectId, open.get(0).getId()).with(admin())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"status": "IN_PROGRESS"}
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    // ---- Demo ----
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /demo/projects")
+    void demoList() throws Exception {
+        mvc.perform(get("/demo/projects").with(demo())).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(endpoint = "GET /demo/projects/{slug}")
+    void demoDetails() throws Exception {
+        mvc.perform(get("/demo/projects/{slug}", slug).with(demo())).andExpect(status().isOk());
+    }
+
+    /**
+     * One query, sandbox check included.
+     */
+    @Test
+    @SqlStatementBudget(max = 1)
+    void demoPlanningBoard() throws Exception {
+        mvc.perform(get("/demo/projects/{id}/planning", demoProjectId).with(demo()))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor admin() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+
+    private RequestPostProcessor demo() {
+        return jwt().jwt(j -> j.claim(AuthService.SANDBOX_CLAIM, sandboxId.toString()))
+                .authorities(new SimpleGrantedAuthority("ROLE_DEMO"));
+    }
+}
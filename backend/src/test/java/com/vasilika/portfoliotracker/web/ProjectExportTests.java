@@ -0,0 +1,219 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.repo.TaskRepository;
+import com.vasilika.portfoliotracker.service.PlanningBoardService;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.service.export.ExportFormat;
+import com.vasilika.portfoliotracker.service.export.ProjectExportService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.CreateUpdateRequest;
+import com.vasilika.portfoliotracker.web.dto.SavePlanningBoardItemRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/projects/{slug}/export against a real database.
+ *
+ * The body is a StreamingResponseBody: the request starts async,
+ * asyncDispatch waits for the stream and returns what was written.
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars).
+ * The fixture projects are deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest(properties = "app.demo.pool.size=0")
+@AutoConfigureMockMvc
+class ProjectExportTests {
+
+    private static final int TASKS = 3_000;
+    private static final int UPDATES = 20;
+    private static final int PLANNED = 10;
+
+    /** project + tasks + updates + planning items */
+    private static final int RECORDS = 1 + TASKS + UPDATES + PLANNED;
+
+    @Autowired private MockMvc mvc;
+    @Autowired private ProjectRepository projects;
+    @Autowired private TaskRepository tasks;
+    @Autowired private TaskImportService taskImport;
+    @Autowired private ProjectAdminService admin;
+    @Autowired private PlanningBoardService planningBoards;
+    @Autowired private ProjectExportService exports;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private String slug;
+    private UUID projectId;
+    private UUID demoProjectId;
+
+    @BeforeEach
+    void buildProject() {
+        slug = "export-test-" + UUID.randomUUID();
+
+        Project p = new Project();
+        p.setSlug(slug);
+        p.setName("Export test");
+        Project project = projects.save(p);
+        projectId = project.getId();
+
+        String[] statuses = {"BACKLOG", "IN_PROGRESS", "DONE"};
+        List<CreateTaskRequest> rows = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new CreateTaskRequest("Task " + i, "Export task " + i, statuses[i % 3], "FEATURE", "MEDIUM", "v1"));
+        }
+        taskImport.importTasks(projectId, rows);
+
+        List<Task> open = tasks.findByProject_Id(projectId).stream()
+                .filter(t -> t.getStatus() != TaskStatus.DONE)
+                .toList();
+        for (int i = 0; i < UPDATES; i++) {
+            admin.createUpdate(projectId, new CreateUpdateRequest(open.get(i).getId(), "Update " + i, "Body " + i));
+        }
+        planningBoards.saveBoard(project, open.subList(0, PLANNED).stream()
+                .map(t -> new SavePlanningBoardItemRequest(t.getId(), false))
+                .toList());
+
+        Project demo = new Project();
+        demo.setSlug("export-demo-" + UUID.randomUUID());
+        demo.setName("Export demo");
+        demo.setDemo(true);
+        demoProjectId = projects.save(demo).getId();
+    }
+
+    @AfterEach
+    void deleteProject() {
+        projects.deleteById(projectId);
+        projects.deleteById(demoProjectId);
+    }
+
+    @Test
+    void streamsEveryRowAsNdjson() throws Exception {
+        MvcResult started = mvc.perform(get("/api/projects/{slug}/export", slug))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + slug + ".ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(RECORDS);
+        assertThat(lines[0]).startsWith("{\"type\":\"project\"");
+        assertThat(lines[RECORDS - 1]).startsWith("{\"type\":\"planning\"");
+    }
+
+    @Test
+    void streamsEveryRowAsCsv() throws Exception {
+        MvcResult started = mvc.perform(get("/api/projects/{slug}/export", slug).param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + slug + ".csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        // Header row + one row per record (no field in the fixture spans lines)
+        assertThat(body.split("\r\n")).hasSize(1 + RECORDS);
+    }
+
+    @Test
+    void unknownSlugFailsBeforeStreaming() throws Exception {
+        mvc.perform(get("/api/projects/{slug}/export", "no-such-project-" + UUID.randomUUID()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("Project not found")));
+    }
+
+    @Test
+    void demoProjectIsNotExported() throws Exception {
+        String demoSlug = projects.findById(demoProjectId).orElseThrow().getSlug();
+
+        mvc.perform(get("/api/projects/{slug}/export", demoSlug))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownFormatFailsBeforeStreaming() throws Exception {
+        mvc.perform(get("/api/projects/{slug}/export", slug).param("format", "xml"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Every written row is detached, so the persistence context holds
+     * a handful of entities at any point, not the whole project.
+     * Sampled on each write that reaches the response stream.
+     */
+    @Test
+    void persistenceContextStaysSmallWhileExporting() {
+        int[] maxEntities = new int[1];
+        long[] bytes = new long[1];
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Session session = em.unwrap(Session.class);
+            OutputStream sampling = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    write(new byte[] {(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    maxEntities[0] = Math.max(maxEntities[0], session.getStatistics().getEntityCount());
+                    bytes[0] += len;
+                }
+            };
+
+            try {
+                exports.exportProject(projectId, ExportFormat.NDJSON, sampling);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(bytes[0]).isGreaterThan(100_000);
+        assertThat(maxEntities[0]).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,87 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.service.admin.ProjectAdminService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional GET /api/projects/{slug} against a real database.
+ *
+ * The ETag must change when a task that is not the newest one is
+ * deleted: max(updated_at) stays the same, only the item count moves.
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars).
+ * The fixture project is deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest(properties = "app.demo.pool.size=0")
+@AutoConfigureMockMvc
+class PublicProjectConditionalGetTests {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private ProjectRepository projects;
+    @Autowired private ProjectAdminService admin;
+
+    private String slug;
+    private UUID projectId;
+
+    @BeforeEach
+    void createProject() {
+        slug = "etag-test-" + UUID.randomUUID();
+
+        Project p = new Project();
+        p.setSlug(slug);
+        p.setName("ETag test");
+        projectId = projects.save(p).getId();
+    }
+
+    @AfterEach
+    void deleteProject() {
+        projects.deleteById(projectId);
+    }
+
+    @Test
+    void deletingAnOlderTaskChangesTheETag() throws Exception {
+        TaskDto older = admin.createTask(projectId,
+                new CreateTaskRequest("Older", null, "BACKLOG", "FEATURE", "LOW", null));
+        admin.createTask(projectId,
+                new CreateTaskRequest("Newer", null, "BACKLOG", "FEATURE", "LOW", null));
+
+        String etag = mvc.perform(get("/api/projects/{slug}", slug))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mvc.perform(get("/api/projects/{slug}", slug).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(delete("/admin/projects/{projectId}/tasks/{taskId}", projectId, older.id())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isNoContent());
+
+        String newEtag = mvc.perform(get("/api/projects/{slug}", slug).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotNull().isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,156 @@
+package com.vasilika.portfoliotracker.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.repo.ProjectRepository;
+import com.vasilika.portfoliotracker.service.admin.TaskImportService;
+import com.vasilika.portfoliotracker.web.dto.CreateTaskRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Paging, escaping and the candidate cap of GET /api/projects/{slug}/search.
+ *
+ * Every task shares one random word, so all hits tie on rank and
+ * the cursor's (kind, id) tie-break decides the page boundaries.
+ *
+ * Requires PostgreSQL (SPRING_DATASOURCE_* env vars).
+ * The fixture project is deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@SpringBootTest(properties = {"app.demo.pool.size=0", "app.search.max-hits=" + SearchControllerTests.MAX_HITS})
+@AutoConfigureMockMvc
+class SearchControllerTests {
+
+    static final int MAX_HITS = 40;
+
+    @Autowired private MockMvc mvc;
+    @Autowired private ProjectRepository projects;
+    @Autowired private TaskImportService taskImport;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JdbcTemplate jdbc;
+
+    private String slug;
+    private UUID projectId;
+    private String word;
+
+    @BeforeEach
+    void createProject() {
+        slug = "search-test-" + UUID.randomUUID();
+        word = randomWord();
+
+        Project p = new Project();
+        p.setSlug(slug);
+        p.setName("Search test");
+        projectId = projects.save(p).getId();
+    }
+
+    @AfterEach
+    void deleteProject() {
+        projects.deleteById(projectId);
+    }
+
+    @Test
+    void equalRanksArePagedWithoutDuplicatesOrGaps() throws Exception {
+        int tasks = 17;
+        importTasks(tasks);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = search(cursor, 5);
+            page.get("items").forEach(hit -> seen.add(hit.get("id").asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(pages).isEqualTo(4);
+        assertThat(seen).hasSize(tasks).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void snippetIsEscapedExceptForMarks() throws Exception {
+        taskImport.importTasks(projectId, List.of(new CreateTaskRequest(
+                word + " <script>alert(1)</script> & more", null, "BACKLOG", "FEATURE", "LOW", null)));
+
+        JsonNode hit = search(null, 10).get("items").get(0);
+        String snippet = hit.get("snippet").asText();
+
+        assertThat(snippet).contains("<mark>" + word + "</mark>");
+        assertThat(snippet).contains("&lt;script&gt;").contains("&amp;");
+        assertThat(snippet.replace("<mark>", "").replace("</mark>", "")).doesNotContain("<", ">");
+    }
+
+    @Test
+    void onlyTheNewestMaxHitsAreRankedAndPagedStably() throws Exception {
+        importTasks(MAX_HITS + 10);
+
+        // Small pages: every page must rank the same candidates
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = search(cursor, 7);
+            page.get("items").forEach(hit -> seen.add(hit.get("id").asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null && pages < 20);
+
+        List<String> newest = jdbc.queryForList(
+                "select id::text from tasks where project_id = ? order by id desc limit ?",
+                String.class, projectId, MAX_HITS);
+
+        assertThat(seen).doesNotHaveDuplicates().hasSameElementsAs(newest);
+    }
+
+    private void importTasks(int count) {
+        List<CreateTaskRequest> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new CreateTaskRequest("Task " + i, "Same " + word + " text", "BACKLOG", "FEATURE", "LOW", null));
+        }
+        taskImport.importTasks(projectId, rows);
+    }
+
+    private JsonNode search(String cursor, int size) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/projects/{slug}/search", slug)
+                .param("q", word)
+                .param("size", String.valueOf(size));
+        if (cursor != null) request.param("cursor", cursor);
+
+        String body = mvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    /**
+     * Letters only, unlikely to appear anywhere else in the database.
+     */
+    private static String randomWord() {
+        Random random = new Random();
+        StringBuilder word = new StringBuilder("zq");
+        for (int i = 0; i < 10; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
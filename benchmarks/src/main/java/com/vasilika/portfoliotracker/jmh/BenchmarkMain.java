@@ -0,0 +1,59 @@
+package com.vasilika.portfoliotracker.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * =========================================
+ * Benchmark Main
+ * =========================================
+ *
+ * Entry point of target/benchmarks.jar.
+ *
+ * Accepts every JMH command line option, but writes results
+ * as JSON by default so two runs can be diffed:
+ *   results/<bench.label>.json   (label defaults to "latest")
+ *
+ * Examples:
+ *   java -Dbench.label=$(git rev-parse --short HEAD) -jar target/benchmarks.jar
+ *   java -jar target/benchmarks.jar ProjectDetailsSerialization -p tasks=10000
+ *
+ * Explicit -rf / -rff options win over the defaults.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+
+        if (cmd.shouldHelp()) {
+            cmd.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            Path results = Path.of("results", System.getProperty("bench.label", "latest") + ".json");
+            Files.createDirectories(results.getParent());
+            options.result(results.toString());
+        }
+
+        Runner runner = new Runner(options.build());
+        if (cmd.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.vasilika.portfoliotracker.jmh;
+
+import com.vasilika.portfoliotracker.domain.PlanningItem;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.Update;
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic in-memory entities for the benchmarks.
+ *
+ * Same seed => same data on every run (ids included), so results stay
+ * comparable between commits. No database or Spring context is involved.
+ */
+public final class Fixtures {
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String[] TYPES = {"FEATURE", "BUG", "REFACTOR"};
+
+    private Fixtures() {}
+
+    public static Project project() {
+        Project p = new Project();
+        p.setId(id(new Random(1)));
+        p.setSlug("portfolio-tracker");
+        p.setName("Portfolio Tracker");
+        p.setSummary("Public roadmap for portfolio projects");
+        p.setDescription("Tracks tasks, planning and progress updates for every project in the portfolio.");
+        p.setTechStack("Java 21, Spring Boot, PostgreSQL, React");
+        p.setRepoUrl("https://github.com/example/portfolio-tracker");
+        p.setLiveUrl("https://portfolio.example.com");
+        p.setCreatedAt(EPOCH);
+        p.setUpdatedAt(EPOCH);
+        return p;
+    }
+
+    /**
+     * Tasks in random status / creation order (as returned by an unordered query).
+     */
+    public static List<Task> tasks(Project project, int count) {
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Instant created = EPOCH.plusSeconds(random.nextInt(365 * 24 * 3600));
+
+            Task t = new Task();
+            t.setId(id(random));
+            t.setProject(project);
+            t.setTitle("Task " + i + ": improve the project details page");
+            t.setDescription(i % 3 == 0 ? null : "Description of task " + i + " with a few more words of detail.");
+            t.setStatus(statuses[random.nextInt(statuses.length)]);
+            t.setType(TYPES[random.nextInt(TYPES.length)]);
+            t.setPriority(priorities[random.nextInt(priorities.length)]);
+            t.setTargetVersion(i % 2 == 0 ? "v1." + (i % 10) : null);
+            t.setCreatedAt(created);
+            t.setUpdatedAt(created.plusSeconds(3600));
+            tasks.add(t);
+        }
+        return tasks;
+    }
+
+    /**
+     * One update per task in {@code tasks}, every other one linked to its task.
+     */
+    public static List<Update> updates(Project project, List<Task> tasks) {
+        Random random = new Random(43);
+        List<Update> updates = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+
+            Update u = new Update();
+            u.setId(id(random));
+            u.setProject(project);
+            u.setTask(i % 2 == 0 ? task : null);
+            u.setTitle("Progress on " + task.getTitle());
+            u.setBody("Shipped another slice of the work, next steps are tracked on the board.");
+            u.setCreatedAt(task.getUpdatedAt());
+            u.setUpdatedAt(task.getUpdatedAt());
+            updates.add(u);
+        }
+        return updates;
+    }
+
+    public static PlanningItem planningItem(Project project, Task task, int sortOrder) {
+        PlanningItem item = new PlanningItem();
+        item.setId(id(new Random(1_000L + sortOrder)));
+        item.setProject(project);
+        item.setTask(task);
+        item.setSortOrder(sortOrder);
+        item.setCurrent(sortOrder == 0);
+        item.setCreatedAt(EPOCH);
+        item.setUpdatedAt(EPOCH);
+        return item;
+    }
+
+    /**
+     * Random-looking but seeded id (UUID.randomUUID() would differ per run).
+     */
+    private static UUID id(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,47 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.domain.enums.TaskPriority;
+import com.vasilika.portfoliotracker.domain.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Case-insensitive enum parsing of request parameters (status / priority filters).
+ *
+ * Inputs cover the already-canonical case, lower case,
+ * and padded mixed case that needs trim + upper-casing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseEnumBenchmarks {
+
+    @Param({"IN_PROGRESS", "in_progress", "  In_Progress "})
+    public String status;
+
+    @Param({"HIGH", "high"})
+    public String priority;
+
+    @Benchmark
+    public TaskStatus parseStatus() {
+        return ProjectQueryService.parseEnum(TaskStatus.class, status);
+    }
+
+    @Benchmark
+    public TaskPriority parsePriority() {
+        return ProjectQueryService.parseEnum(TaskPriority.class, priority);
+    }
+}
@@ -0,0 +1,52 @@
+package com.vasilika.portfoliotracker.service.query;
+
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.jmh.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status + createdAt ordering used by getPublicDetails / getDemoDetails.
+ *
+ * Sorts through a stream like the service does, so the copy
+ * of the unsorted list is part of the measured cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TaskOrderBenchmarks {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int tasks;
+
+    private List<Task> unsorted;
+
+    @Setup
+    public void setUp() {
+        Project project = Fixtures.project();
+        unsorted = Fixtures.tasks(project, tasks);
+    }
+
+    @Benchmark
+    public List<Task> sortTasks() {
+        return unsorted.stream()
+                .sorted(ProjectQueryService.TASK_ORDER)
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.vasilika.portfoliotracker.web.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.jmh.Fixtures;
+import com.vasilika.portfoliotracker.web.mapper.ProjectMapper;
+import com.vasilika.portfoliotracker.web.mapper.TaskMapper;
+import com.vasilika.portfoliotracker.web.mapper.UpdateMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the public project details response.
+ *
+ * The ObjectMapper is built the same way Spring Boot builds the
+ * application one (ISO-8601 dates, JavaTimeModule registered).
+ * One update per task, so payload size grows with the parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProjectDetailsSerializationBenchmarks {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int tasks;
+
+    private ObjectMapper objectMapper;
+    private ProjectDetailsDto details;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Project project = Fixtures.project();
+        List<Task> taskRows = Fixtures.tasks(project, tasks);
+
+        details = new ProjectDetailsDto(
+                ProjectMapper.toDto(project),
+                taskRows.stream().map(TaskMapper::toDto).toList(),
+                Fixtures.updates(project, taskRows).stream().map(UpdateMapper::toDto).toList()
+        );
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(details);
+    }
+}
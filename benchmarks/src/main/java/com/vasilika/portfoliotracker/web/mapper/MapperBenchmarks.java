@@ -0,0 +1,70 @@
+package com.vasilika.portfoliotracker.web.mapper;
+
+import com.vasilika.portfoliotracker.domain.PlanningItem;
+import com.vasilika.portfoliotracker.domain.Project;
+import com.vasilika.portfoliotracker.domain.Task;
+import com.vasilika.portfoliotracker.domain.Update;
+import com.vasilika.portfoliotracker.jmh.Fixtures;
+import com.vasilika.portfoliotracker.web.dto.PlanningItemDto;
+import com.vasilika.portfoliotracker.web.dto.ProjectDto;
+import com.vasilika.portfoliotracker.web.dto.TaskDto;
+import com.vasilika.portfoliotracker.web.dto.UpdateDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity => DTO mapping, once per row of every API response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperBenchmarks {
+
+    private Project project;
+    private Task task;
+    private Update update;
+    private PlanningItem planningItem;
+
+    @Setup
+    public void setUp() {
+        project = Fixtures.project();
+        List<Task> tasks = Fixtures.tasks(project, 1);
+        task = tasks.get(0);
+        update = Fixtures.updates(project, tasks).get(0);
+        planningItem = Fixtures.planningItem(project, task, 0);
+    }
+
+    @Benchmark
+    public ProjectDto projectToDto() {
+        return ProjectMapper.toDto(project);
+    }
+
+    @Benchmark
+    public TaskDto taskToDto() {
+        return TaskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public UpdateDto updateToDto() {
+        return UpdateMapper.toDto(update);
+    }
+
+    @Benchmark
+    public PlanningItemDto planningItemToDto() {
+        return PlanningItemMapper.toDto(planningItem);
+    }
+}
@@ -37,6 +37,20 @@ export type ProjectDto = {
   updatedAt: string;
 };
 
+/**
+ * Project card returned by the list endpoints
+ * (no description or links: load details for those)
+ */
+export type ProjectSummaryDto = {
+  id: string;
+  slug: string;
+  name: string;
+  summary?: string | null;
+  techStack?: string | null;
+  createdAt: string;
+  updatedAt: string;
+};
+
 /**
  * Partial update payload
  */
@@ -125,6 +139,57 @@ export type ProjectDetailsDto = {
   updates: UpdateDto[];
 };
 
+/**
+ * Kanban counts and progress of a project (GET /api/projects/{slug}/stats)
+ * - byStatus / byPriority always list every value
+ * - byType only lists types in use
+ */
+export type ProjectStatsDto = {
+  projectId: string;
+  taskCount: number;
+  openCount: number;
+  doneCount: number;
+  byStatus: Record<TaskStatus, number>;
+  byType: Record<string, number>;
+  byPriority: Record<TaskPriority, number>;
+  updateCount: number;
+  lastActivityAt?: string | null;
+};
+
+/**
+ * Task picker entry (GET /admin/projects/{id}/tasks/suggest)
+ */
+export type TaskSuggestionDto = {
+  id: string;
+  title: string;
+  status: TaskStatus;
+};
+
+/**
+ * Full-text search (GET /api/search, GET /api/projects/{slug}/search)
+ * - snippet is HTML-safe, matched words are wrapped in <mark>
+ * - pass nextCursor back as cursor for the next page
+ */
+export type SearchHitDto = {
+  kind: "TASK" | "UPDATE";
+  id: string;
+  projectId: string;
+  projectSlug: string;
+  projectName: string;
+  taskId?: string | null;
+  title: string;
+  snippet: string;
+  rank: number;
+  createdAt: string;
+};
+
+export type SearchPageDto = {
+  items: SearchHitDto[];
+  size: number;
+  nextCursor?: string | null;
+  hasNext: boolean;
+};
+
 /**
  * Create payloads
  */
@@ -222,6 +287,12 @@ async function http<T>(
   return JSON.parse(text) as T;
 }
 
+function searchParams(q: string, cursor?: string | null) {
+  const params = new URLSearchParams({ q });
+  if (cursor) params.set("cursor", cursor);
+  return params.toString();
+}
+
 /**
  * ==========================================
  * API CLIENT
@@ -230,11 +301,20 @@ async function http<T>(
 export const api = {
   /** ---------- PUBLIC ---------- */
 
-  listProjects: () => http<ProjectDto[]>("/api/projects"),
+  listProjects: () => http<ProjectSummaryDto[]>("/api/projects"),
 
   getProjectDetailsBySlug: (slug: string) =>
     http<ProjectDetailsDto>(`/api/projects/${encodeURIComponent(slug)}`),
 
+  getProjectStats: (slug: string) =>
+    http<ProjectStatsDto>(`/api/projects/${encodeURIComponent(slug)}/stats`),
+
+  search: (q: string, cursor?: string | null) =>
+    http<SearchPageDto>(`/api/search?${searchParams(q, cursor)}`),
+
+  searchProject: (slug: string, q: string, cursor?: string | null) =>
+    http<SearchPageDto>(`/api/projects/${encodeURIComponent(slug)}/search?${searchParams(q, cursor)}`),
+
   /** ---------- AUTH ---------- */
 
   loginAdmin: (username: string, password: string) =>
@@ -253,6 +333,11 @@ export const api = {
 
   /** ---------- ADMIN ---------- */
 
+  suggestTasks: (projectId: string, q: string, limit = 10) =>
+    http<TaskSuggestionDto[]>(
+      `/admin/projects/${projectId}/tasks/suggest?${new URLSearchParams({ q, limit: String(limit) })}`
+    ),
+
   createProject: (payload: CreateProjectRequest) =>
     http<ProjectDto>("/admin/projects", {
       method: "POST",
@@ -305,7 +390,7 @@ export const api = {
 
   demoReset: () => http<void>("/demo/reset", { method: "POST" }),
 
-  demoListProjects: () => http<ProjectDto[]>("/demo/projects"),
+  demoListProjects: () => http<ProjectSummaryDto[]>("/demo/projects"),
   
     demoUpdateProject: (projectId: string, payload: UpdateProjectRequest) =>
     http<ProjectDto>(`/demo/projects/${projectId}`, {
@@ -1,7 +1,7 @@
 import { useEffect, useMemo, useState } from "react";
 import { Link, useNavigate, useSearchParams } from "react-router-dom";
 import PageHeader from "../components/PageHeader/PageHeader";
-import { api, type CreateProjectRequest, type ProjectDto } from "../lib/api";
+import { api, type CreateProjectRequest, type ProjectDto, type ProjectSummaryDto } from "../lib/api";
 import { useAuth } from "../context/AuthContext";
 
 /**
@@ -22,7 +22,7 @@ export default function DemoHomePage() {
   const navigate = useNavigate();
   const { logout } = useAuth();
 
-  const [projects, setProjects] = useState<ProjectDto[]>([]);
+  const [projects, setProjects] = useState<ProjectSummaryDto[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [searchParams, setSearchParams] = useSearchParams();
@@ -131,7 +131,16 @@ export default function DemoHomePage() {
   /**
    * Open modal to EDIT project
    */
-  function openEditModal(p: ProjectDto) {
+  async function openEditModal(card: ProjectSummaryDto) {
+    // List cards have no description or links: load the full project first
+    let p: ProjectDto;
+    try {
+      p = (await api.demoGetProjectDetailsBySlug(card.slug)).project;
+    } catch (e: any) {
+      setError(String(e?.message ?? e));
+      return;
+    }
+
     setEditingProject(p);
 
     setSlug(p.slug ?? "");
@@ -9,6 +9,7 @@ import { useAuth } from "../context/AuthContext";
 import {
   api,
   type ProjectDetailsDto,
+  type ProjectStatsDto,
   type TaskDto,
   type TaskStatus,
   type UpdateDto,
@@ -131,6 +132,9 @@ export default function ProjectDetailsPage() {
   // Loaded project details (project + tasks + updates)
   const [data, setData] = useState<ProjectDetailsDto | null>(null);
 
+  // Column counts and progress (project_stats, no task is loaded)
+  const [stats, setStats] = useState<ProjectStatsDto | null>(null);
+
   // UI state
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
@@ -147,6 +151,9 @@ export default function ProjectDetailsPage() {
     setLoading(true);
     setError(null);
 
+    // Counts are optional: the board still renders from the task list without them
+    api.getProjectStats(slug).then(setStats, () => setStats(null));
+
     try {
       const details = await api.getProjectDetailsBySlug(slug);
       setData(details);
@@ -319,6 +326,13 @@ export default function ProjectDetailsPage() {
           <section>
             <h2 className="h2">Roadmap Tasks</h2>
 
+            {stats && stats.taskCount > 0 ? (
+              <p className="muted">
+                {stats.doneCount} of {stats.taskCount} done (
+                {Math.round((stats.doneCount / stats.taskCount) * 100)}%)
+              </p>
+            ) : null}
+
             <div className="board">
               {(["BACKLOG", "IN_PROGRESS", "DONE"] as const).map((status) => (
                 <div key={status} className="card column">
@@ -326,7 +340,9 @@ export default function ProjectDetailsPage() {
                     <strong>
                       <ColumnLabel status={status} />
                     </strong>
-                    <span className="pill">{grouped[status].length}</span>
+                    <span className="pill">
+                      {stats?.byStatus[status] ?? grouped[status].length}
+                    </span>
                   </div>
 
                   <div className="taskList">
@@ -1,7 +1,7 @@
 import { useEffect, useState } from "react";
 import { Link, useNavigate, useSearchParams } from "react-router-dom";
 
-import { api, type CreateProjectRequest, type ProjectDto } from "../lib/api";
+import { api, type CreateProjectRequest, type ProjectDto, type ProjectSummaryDto } from "../lib/api";
 import PageHeader from "../components/PageHeader/PageHeader";
 import { useAuth } from "../context/AuthContext";
 import AccessChoiceModal from "../components/AccessChoiceModal";
@@ -41,7 +41,7 @@ export default function ProjectsPage() {
    * ----------------------------- */
 
   // Loaded projects
-  const [projects, setProjects] = useState<ProjectDto[]>([]);
+  const [projects, setProjects] = useState<ProjectSummaryDto[]>([]);
 
   // Loading / error states
   const [loading, setLoading] = useState(true);
@@ -90,7 +90,7 @@ export default function ProjectsPage() {
   const [pendingAction, setPendingAction] =
     useState<"create" | "edit" | null>(null);
 
-  const [editTarget, setEditTarget] = useState<ProjectDto | null>(null);
+  const [editTarget, setEditTarget] = useState<ProjectSummaryDto | null>(null);
 
 
   /** ---------------------------------------------------------
@@ -193,7 +193,19 @@ export default function ProjectsPage() {
   /** ---------------------------------------------------------
    * Open Edit modal and prefill form
    * --------------------------------------------------------- */
-  function openEditModalDirect(p: ProjectDto) {
+  async function openEditModalDirect(card: ProjectSummaryDto) {
+
+    // List cards have no description or links: load the full project first
+    let p: ProjectDto;
+    try {
+      const details = isDemo
+        ? await api.demoGetProjectDetailsBySlug(card.slug)
+        : await api.getProjectDetailsBySlug(card.slug);
+      p = details.project;
+    } catch (e: any) {
+      setError(String(e?.message ?? e));
+      return;
+    }
 
     setEditingProject(p);
 
@@ -266,7 +278,7 @@ export default function ProjectsPage() {
   /** ---------------------------------------------------------
    * Edit button click
    * --------------------------------------------------------- */
-  function onEditClick(p: ProjectDto) {
+  function onEditClick(p: ProjectSummaryDto) {
 
     if (isAdmin || isDemo) {
       openEditModalDirect(p);